@@ -4,16 +4,19 @@ import core.actions.AbstractAction;
 import core.actions.LogEvent;
 import core.components.Area;
 import core.components.Component;
+import core.components.Deck;
 import core.components.PartialObservableDeck;
 import core.interfaces.IComponentContainer;
 import core.interfaces.IExtendedSequence;
 import core.interfaces.IGameEvent;
 import core.interfaces.IGamePhase;
+import core.interfaces.IZobristHashable;
 import evaluation.listeners.IGameListener;
 import evaluation.metrics.Event;
 import games.GameType;
 import utilities.ElapsedCpuChessTimer;
 import utilities.Pair;
+import utilities.Zobrist;
 
 import java.util.*;
 import java.util.function.BiFunction;
@@ -21,6 +24,7 @@ import java.util.function.Function;
 import java.util.function.Supplier;
 
 import static core.CoreConstants.GameResult.*;
+import static core.CoreConstants.HistoryMode;
 
 /**
  * Contains all game state information.
@@ -48,6 +52,10 @@ public abstract class AbstractGameState {
     protected int nPlayers;
     protected int nTeams;
     protected List<IGameListener> listeners = new ArrayList<>();
+    // Reused by sendEvent(), unless an event is sent while another is being handled
+    private Event event;
+    private boolean sendingEvent;
+    private int nEvents;
 
     // Timers for all players
     protected ElapsedCpuChessTimer[] playerTimer;
@@ -57,6 +65,12 @@ public abstract class AbstractGameState {
     // this is in chronological order
     private List<Pair<Integer, AbstractAction>> history = new ArrayList<>();
     private List<String> historyText = new ArrayList<>();
+    // In copy-on-write mode the history lists are shared with copies, and this is set until they are next changed
+    private boolean historyShared;
+    // Used instead of history and historyText in HistoryMode.COMPACT
+    private CompactHistory compactHistory = new CompactHistory();
+    // The last action taken, which is kept whatever the historyMode, as some rules depend on it
+    private AbstractAction lastAction;
 
     // Status of the game, and status for each player (in cooperative games, the game status is also each player's status)
     protected CoreConstants.GameResult gameStatus;
@@ -96,6 +110,10 @@ public abstract class AbstractGameState {
         Arrays.fill(playerResults, GAME_ONGOING);
         history = new ArrayList<>();
         historyText = new ArrayList<>();
+        historyShared = false;
+        compactHistory = new CompactHistory();
+        lastAction = null;
+        nEvents = 0;
         playerTimer = new ElapsedCpuChessTimer[getNPlayers()];
         tick = 0;
         turnOwner = 0;
@@ -110,7 +128,8 @@ public abstract class AbstractGameState {
      * Resets variables initialised for this game state.
      */
     void reset(long seed) {
-        gameParameters.randomSeed = seed;
+        if (gameParameters.randomSeed != seed)
+            gameParameters.setRandomSeed(seed);
         reset();
     }
 
@@ -162,13 +181,32 @@ public abstract class AbstractGameState {
 
 
     protected void setHistoryAt(int index, Pair<Integer, AbstractAction> action) {
+        unshareHistory();
         history.set(index, action);
     }
     /**
      * @return All actions that have been executed on this state since reset()/initialisation
      */
-    public List<Pair<Integer, AbstractAction>> getHistory() { return new ArrayList<>(history);}
+    public List<Pair<Integer, AbstractAction>> getHistory() {
+        if (coreGameParameters.historyMode == HistoryMode.COMPACT)
+            return compactHistory.toList();
+        return new ArrayList<>(history);
+    }
+    /**
+     * @return the last action executed on this state, or null if there is none. Unlike getHistory(), this is
+     * available whatever the CoreParameters.historyMode, and also in competition mode.
+     */
+    public AbstractAction getLastAction() {
+        return lastAction;
+    }
     public List<String> getHistoryAsText() {
+        if (coreGameParameters.historyMode == HistoryMode.COMPACT) {
+            // no text is recorded in this mode, so we give just the actions
+            List<String> retValue = new ArrayList<>(compactHistory.size());
+            for (int i = 0; i < compactHistory.size(); i++)
+                retValue.add("Player " + compactHistory.getPlayer(i) + " : " + compactHistory.getAction(i));
+            return retValue;
+        }
         return new ArrayList<>(historyText);
     }
     public int getGameID() {
@@ -293,7 +331,13 @@ public abstract class AbstractGameState {
      * @return - reduced copy of the game state.
      */
     public final AbstractGameState copy(int playerId) {
-        AbstractGameState s = _copy(playerId);
+        boolean previousCOW = Deck.setCopyOnWrite(coreGameParameters.copyOnWrite);
+        AbstractGameState s;
+        try {
+            s = _copy(playerId);
+        } finally {
+            Deck.setCopyOnWrite(previousCOW);
+        }
         // Copy super class things
         s.allComponents = allComponents.emptyCopy();
         s.gameStatus = gameStatus;
@@ -310,8 +354,19 @@ public abstract class AbstractGameState {
         // is not called an arbitrary number of times. This is to ensure that all shuffles in the main game are
         // the same if we start with the same seed
         s.rnd = new Random(redeterminisationRnd.nextLong());
-
-        if (!coreGameParameters.competitionMode) {
+        s.lastAction = lastAction;  // actions taken are not changed afterwards, so need not be copied
+
+        if (coreGameParameters.competitionMode || coreGameParameters.historyMode == HistoryMode.NONE) {
+            // nothing to copy
+        } else if (coreGameParameters.historyMode == HistoryMode.COMPACT) {
+            s.compactHistory = compactHistory.copy();
+        } else if (coreGameParameters.copyOnWrite) {
+            // history is append-only, so we share it until either state records something new
+            s.history = history;
+            s.historyText = historyText;
+            s.historyShared = true;
+            historyShared = true;
+        } else {
             s.history = new ArrayList<>(history);
             s.historyText = new ArrayList<>(historyText);
             // we do not copy individual actions in history, as these are now dead and should not change
@@ -343,37 +398,101 @@ public abstract class AbstractGameState {
      * @param action The action that has just been applied (or is about to be applied) to the game state
      */
     protected final void recordAction(AbstractAction action, int player) {
-        history.add(new Pair<>(player, action.copy()));
-        historyText.add("Player " + player + " : " + action.getString(this));
+        lastAction = action;
+        switch (coreGameParameters.historyMode) {
+            case FULL -> {
+                unshareHistory();
+                history.add(new Pair<>(player, action.copy()));
+                historyText.add("Player " + player + " : " + action.getString(this));
+            }
+            case COMPACT -> compactHistory.add(player, action);
+            case NONE -> {
+            }
+        }
+    }
+
+    // Event text is only kept in HistoryMode.FULL
+    private boolean recordsEventText() {
+        return coreGameParameters.recordEventHistory && coreGameParameters.historyMode == HistoryMode.FULL;
     }
 
 
     // helper function to avoid time-consuming string manipulations if the message is not actually
     // going to be logged anywhere
     public void logEvent(IGameEvent event, Supplier<String> eventText) {
-        if (listeners.isEmpty() && !getCoreGameParameters().recordEventHistory)
+        if (!recordsEventText() && !IGameListener.anyListens(listeners, event))
             return; // to avoid expensive string manipulations
         logEvent(event, eventText.get());
     }
     public void logEvent(IGameEvent event, String eventText) {
-        LogEvent logAction = new LogEvent(eventText);
-        listeners.forEach(l -> l.onEvent(Event.createEvent(event, this, logAction)));
-        if (getCoreGameParameters().recordEventHistory) {
+        if (IGameListener.anyListens(listeners, event))
+            sendEvent(listeners, event, new LogEvent(eventText), -1);
+        if (recordsEventText()) {
             recordHistory(eventText);
         }
     }
     public void logEvent(IGameEvent event) {
-        LogEvent logAction = new LogEvent(event.name());
-        listeners.forEach(l -> l.onEvent(Event.createEvent(event, this, logAction)));
-        if (getCoreGameParameters().recordEventHistory) {
+        if (IGameListener.anyListens(listeners, event))
+            sendEvent(listeners, event, new LogEvent(event.name()), -1);
+        if (recordsEventText()) {
             recordHistory(event.name());
         }
     }
 
+    /**
+     * Sends an event about this state to those of the listeners that want events of this type
+     * (see IGameListener.getEventTypes()). One Event object is reused for this, and it is not touched at all if no
+     * listener wants the event.
+     */
+    public final void sendEvent(List<IGameListener> listeners, IGameEvent type, AbstractAction action, int playerID) {
+        boolean nested = sendingEvent;
+        Event e = null;
+        try {
+            for (int i = 0; i < listeners.size(); i++) {
+                IGameListener listener = listeners.get(i);
+                if (!listener.listens(type))
+                    continue;
+                if (e == null) {
+                    if (nested) {
+                        e = Event.createEvent(type, this, action, playerID);
+                    } else {
+                        if (event == null)
+                            event = Event.createEvent(type);
+                        e = event.set(type, this, action, playerID);
+                        sendingEvent = true;
+                    }
+                    nEvents++;
+                }
+                listener.onEvent(e);
+            }
+        } finally {
+            if (!nested)
+                sendingEvent = false;
+        }
+    }
+
+    /**
+     * @return the number of events sent to listeners since reset()
+     */
+    public int getNEvents() {
+        return nEvents;
+    }
+
     public void recordHistory(String history) {
+        if (coreGameParameters.historyMode != HistoryMode.FULL)
+            return;
+        unshareHistory();
         historyText.add(history);
     }
 
+    private void unshareHistory() {
+        if (historyShared) {
+            history = new ArrayList<>(history);
+            historyText = new ArrayList<>(historyText);
+            historyShared = false;
+        }
+    }
+
     /* Methods dealing with ExtendedActions and the actionStack */
 
     public final IExtendedSequence currentActionInProgress() {
@@ -528,10 +647,8 @@ public abstract class AbstractGameState {
     private List<Integer> unknownComponents(IComponentContainer<?> container, int player) {
         ArrayList<Integer> retValue = new ArrayList<>();
         if (container instanceof PartialObservableDeck<?> pod) {
-            for (int i = 0; i < pod.getSize(); i++) {
-                if (!pod.getVisibilityForPlayer(i, player))
-                    retValue.add(pod.get(i).getComponentID());
-            }
+            for (int i : pod.getUnknownIndices(player))
+                retValue.add(pod.get(i).getComponentID());
         } else {
             switch (container.getVisibilityMode()) {
                 case VISIBLE_TO_ALL:
@@ -648,6 +765,45 @@ public abstract class AbstractGameState {
         return result;
     }
 
+    /**
+     * A 64-bit hash of the state, used by IStateKey.zobrist to look up transpositions.
+     * Equal states must have equal hashes. By default this is a mix of hashCode(), which visits the whole state;
+     * games can override it to combine coreZobristHash() with zobristHash() of their components, most of which
+     * keep their hash up to date as they change (see IZobristHashable), so that this costs O(1) per component.
+     * Counters that only record the path to a state (tick and turnCounter) may be left out.
+     */
+    public long getZobristHash() {
+        return Zobrist.mix(hashCode());
+    }
+
+    /**
+     * @return the part of getZobristHash() for the fields of this class (apart from tick, turnCounter and the parameters)
+     */
+    protected final long coreZobristHash() {
+        long h = Zobrist.key(-1, gameStatus) ^ Zobrist.key(-2, gamePhase) ^ Zobrist.key(-3, actionsInProgress);
+        h ^= Zobrist.key(-4, roundCounter) ^ Zobrist.key(-5, turnOwner) ^ Zobrist.key(-6, firstPlayer);
+        for (int p = 0; p < playerResults.length; p++)
+            h ^= Zobrist.key(-7 - p, playerResults[p]);
+        return h;
+    }
+
+    /**
+     * @return the contribution of a component to getZobristHash(), keyed by its ID, so the XOR of this over
+     * several components depends on which component holds what.
+     */
+    protected static long zobristHash(Component c) {
+        if (c == null) return 0;
+        if (c instanceof IZobristHashable z) return Zobrist.key(c.getComponentID(), z.getZobristHash());
+        return Zobrist.key(c.getComponentID(), c);
+    }
+
+    protected static long zobristHash(Collection<? extends Component> components) {
+        long h = 0;
+        for (Component c : components)
+            h ^= zobristHash(c);
+        return h;
+    }
+
     /**
      * HashCodeArray compiles all necessary hash codes for each individual game state.
      * Override as necessary for each game state.
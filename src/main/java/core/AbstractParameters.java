@@ -26,6 +26,12 @@ public abstract class AbstractParameters {
     // Increment in seconds, added after a custom milestone (to be added manually in game implementation). Default 0.
     long incrementMilestoneS = 0;
 
+    // A frozen instance may be shared by reference between copies of a game state, so any attempt to change it
+    // through a setter throws an IllegalStateException (see frozenCopy())
+    private transient boolean frozen;
+    // The snapshot returned by frozenCopy(); cleared whenever this instance is changed through a setter
+    private transient volatile AbstractParameters frozenCopy;
+
 
     public AbstractParameters() {
         this.setRandomSeed(System.currentTimeMillis());
@@ -61,17 +67,21 @@ public abstract class AbstractParameters {
     }
 
     public void setRandomSeed(long randomSeed) {
+        checkNotFrozen();
         this.randomSeed = randomSeed;
     }
 
     public void setThinkingTimeMins(long thinkingTimeMins) {
+        checkNotFrozen();
         this.thinkingTimeMins = thinkingTimeMins;
     }
 
     public void setMaxRounds(int max) {
+        checkNotFrozen();
         maxRounds = max;
     }
     public void setTimeoutRounds(int max) {
+        checkNotFrozen();
         timeoutRounds = max;
     }
 
@@ -151,10 +161,51 @@ public abstract class AbstractParameters {
         return copy;
     }
 
+    /**
+     * Parameters do not change during a game, so copies of a game state can all share one immutable snapshot
+     * instead of each cloning the parameters. This returns that snapshot: a frozen copy of this object, created
+     * on first use and then reused until this object is changed through one of its setters.
+     * If this object is already frozen then it is returned as is.
+     *
+     * @return - frozen parameters equal to these.
+     */
+    public final AbstractParameters frozenCopy() {
+        if (frozen) return this;
+        AbstractParameters snapshot = frozenCopy;
+        if (snapshot == null) {
+            snapshot = copy();
+            snapshot.freeze();
+            frozenCopy = snapshot;
+        }
+        return snapshot;
+    }
+
+    /**
+     * Marks this object as immutable. Any later call to a setter will throw an IllegalStateException.
+     * Public fields cannot be guarded in this way, and must not be written to once frozen.
+     */
+    public void freeze() {
+        frozen = true;
+    }
+
+    public final boolean isFrozen() {
+        return frozen;
+    }
+
+    /**
+     * To be called by every method that changes the parameters.
+     */
+    protected final void checkNotFrozen() {
+        if (frozen)
+            throw new IllegalStateException(getClass().getSimpleName() + " is frozen, as it is shared between copies of a game state. Use copy() to get a version that can be changed.");
+        frozenCopy = null;
+    }
+
     /**
      * Randomizes the set of parameters, if this is a class that implements the TunableParameters interface.
      */
     public void randomize() {
+        checkNotFrozen();
         if (this instanceof ITunableParameters<?> params) {
             Random rnd = new Random(randomSeed);
             params.getParameterNames().forEach(name -> {
@@ -174,6 +225,7 @@ public abstract class AbstractParameters {
      * interface.
      */
     public void reset() {
+        checkNotFrozen();
         if (this instanceof ITunableParameters) {
             Map<String, Object> defaultValues = ((ITunableParameters) this).getDefaultParameterValues();
             ((ITunableParameters) this).setParameterValues(defaultValues);
@@ -0,0 +1,137 @@
+package core;
+
+import core.actions.AbstractAction;
+import utilities.Pair;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The history of a game state in HistoryMode.COMPACT. Each action taken is one long, holding the player and
+ * the index of the action in an ActionTable, so recording an action does not copy it unless it has never been
+ * seen before, and copying the history is a single array copy.
+ * <p>
+ * The ActionTable belongs to the state that created this history (the state of the game itself, from reset()), and
+ * only that state adds to it, so it holds no more than the actions taken in that game. Copies of the state (such as
+ * those in a search) share the table, but keep any action that is not yet in it in a list of their own, which is
+ * discarded with the copy.
+ */
+final class CompactHistory {
+
+    // the index of an action in the list of this copy, rather than the table, has this bit set
+    private static final int LOCAL = 1 << 31;
+
+    private final ActionTable table;
+    private final boolean ownsTable;
+    private List<AbstractAction> localActions;
+    private long[] entries;
+    private int size;
+
+    CompactHistory() {
+        this(new ActionTable(), true, null, new long[16], 0);
+    }
+
+    private CompactHistory(ActionTable table, boolean ownsTable, List<AbstractAction> localActions, long[] entries, int size) {
+        this.table = table;
+        this.ownsTable = ownsTable;
+        this.localActions = localActions;
+        this.entries = entries;
+        this.size = size;
+    }
+
+    /**
+     * @return a copy of this history, which shares the same ActionTable, but does not add to it
+     */
+    CompactHistory copy() {
+        return new CompactHistory(table, false, localActions == null ? null : new ArrayList<>(localActions),
+                Arrays.copyOf(entries, Math.max(size, 16)), size);
+    }
+
+    void add(int player, AbstractAction action) {
+        if (size == entries.length)
+            entries = Arrays.copyOf(entries, size * 2);
+        entries[size++] = ((long) player << 32) | (indexOf(action) & 0xFFFFFFFFL);
+    }
+
+    private int indexOf(AbstractAction action) {
+        if (ownsTable)
+            return table.indexOf(action);
+        int index = table.find(action);
+        if (index >= 0)
+            return index;
+        if (localActions == null)
+            localActions = new ArrayList<>();
+        localActions.add(action.copy());
+        return (localActions.size() - 1) | LOCAL;
+    }
+
+    int size() {
+        return size;
+    }
+
+    int tableSize() {
+        return table.size();
+    }
+
+    int getPlayer(int index) {
+        return (int) (entries[index] >> 32);
+    }
+
+    AbstractAction getAction(int index) {
+        int actionIndex = (int) entries[index];
+        return (actionIndex & LOCAL) != 0 ? localActions.get(actionIndex & ~LOCAL) : table.get(actionIndex);
+    }
+
+    List<Pair<Integer, AbstractAction>> toList() {
+        List<Pair<Integer, AbstractAction>> retValue = new ArrayList<>(size);
+        for (int i = 0; i < size; i++)
+            retValue.add(new Pair<>(getPlayer(i), getAction(i)));
+        return retValue;
+    }
+
+    /**
+     * A single copy of each distinct action taken in a game.
+     * This is shared by all copies of a game state, which may be used on different threads (for example by
+     * a parallel search), so lookups are lock-free and only adding a new action takes a lock.
+     */
+    static final class ActionTable {
+        private final ConcurrentHashMap<AbstractAction, Integer> indices = new ConcurrentHashMap<>();
+        private volatile AbstractAction[] actions = new AbstractAction[16];
+        private int size;  // guarded by this
+
+        int indexOf(AbstractAction action) {
+            Integer index = indices.get(action);
+            return index != null ? index : add(action);
+        }
+
+        /**
+         * @return the index of the action, or -1 if it is not in the table
+         */
+        int find(AbstractAction action) {
+            Integer index = indices.get(action);
+            return index != null ? index : -1;
+        }
+
+        private synchronized int add(AbstractAction action) {
+            Integer index = indices.get(action);
+            if (index != null)
+                return index;
+            AbstractAction[] a = size == actions.length ? Arrays.copyOf(actions, size * 2) : actions;
+            AbstractAction copy = action.copy();
+            a[size] = copy;
+            actions = a;  // the volatile write publishes the new entry before its index can be seen
+            indices.put(copy, size);
+            return size++;
+        }
+
+        AbstractAction get(int index) {
+            return actions[index];
+        }
+
+        synchronized int size() {
+            return size;
+        }
+    }
+}
@@ -37,6 +37,16 @@ public class CoreConstants {
         VISIBLE_TO_ALL, HIDDEN_TO_ALL, VISIBLE_TO_OWNER, TOP_VISIBLE_TO_ALL, BOTTOM_VISIBLE_TO_ALL, MIXED_VISIBILITY
     }
 
+    /**
+     * How much of the history of a game is recorded in the game state (see CoreParameters.historyMode).
+     * FULL keeps a copy of every action, and the text of every action and game event.
+     * COMPACT keeps each action as an int index into a table of the distinct actions seen in the game, and no text.
+     * NONE keeps nothing, so getHistory() is always empty. This is for bulk simulations where history is never read.
+     */
+    public enum HistoryMode {
+        FULL, COMPACT, NONE
+    }
+
     // Default game phases: main, player reaction, end.
     // This is only a simple default - and is completely ignored for many games with a more complicated structure
     public enum DefaultGamePhase implements IGamePhase {
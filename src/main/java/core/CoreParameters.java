@@ -15,6 +15,13 @@ public class CoreParameters extends TunableParameters<Object> {
     public boolean disqualifyPlayerOnTimeout = false;
     public boolean alwaysDisplayFullObservable = false;
     public boolean alwaysDisplayCurrentPlayer = false;
+    // If true, then copy() shares Decks and history between the original and the copy until one of them changes.
+    // This is only safe for games that modify Components through their containing Deck, which can be checked
+    // with ForwardModelTester (using the copyOnWrite argument)
+    public boolean copyOnWrite = false;
+    // How much history is kept in the game state (see HistoryMode). This applies to copies of the state too,
+    // including those used by agents to search, and COMPACT or NONE are much cheaper when history is never read
+    public CoreConstants.HistoryMode historyMode = CoreConstants.HistoryMode.FULL;
     public long frameSleepMS = 100L;
 
     // Action space type for this game
@@ -29,6 +36,8 @@ public class CoreParameters extends TunableParameters<Object> {
         addTunableParameter("disqualify player on timeout", disqualifyPlayerOnTimeout, Arrays.asList(false, true));
         addTunableParameter("always display full observable", alwaysDisplayFullObservable, Arrays.asList(false, true));
         addTunableParameter("always display current player", alwaysDisplayCurrentPlayer, Arrays.asList(false, true));
+        addTunableParameter("copyOnWrite", copyOnWrite, Arrays.asList(false, true));
+        addTunableParameter("historyMode", historyMode, Arrays.asList(CoreConstants.HistoryMode.values()));
         addTunableParameter("frame sleep MS", frameSleepMS, Arrays.asList(0L, 100L, 500L, 1000L, 5000L));
         addTunableParameter("actionSpaceStructure", ActionSpace.Structure.Default, Arrays.asList(ActionSpace.Structure.values()));
         addTunableParameter("actionSpaceFlexibility", ActionSpace.Flexibility.Default, Arrays.asList(ActionSpace.Flexibility.values()));
@@ -46,12 +55,12 @@ public class CoreParameters extends TunableParameters<Object> {
         if (!(o instanceof CoreParameters)) return false;
         if (!super.equals(o)) return false;
         CoreParameters that = (CoreParameters) o;
-        return verbose == that.verbose && recordEventHistory == that.recordEventHistory && partialObservable == that.partialObservable && competitionMode == that.competitionMode && disqualifyPlayerOnIllegalActionPlayed == that.disqualifyPlayerOnIllegalActionPlayed && disqualifyPlayerOnTimeout == that.disqualifyPlayerOnTimeout && alwaysDisplayFullObservable == that.alwaysDisplayFullObservable && alwaysDisplayCurrentPlayer == that.alwaysDisplayCurrentPlayer && frameSleepMS == that.frameSleepMS && Objects.equals(actionSpace, that.actionSpace);
+        return verbose == that.verbose && recordEventHistory == that.recordEventHistory && partialObservable == that.partialObservable && competitionMode == that.competitionMode && disqualifyPlayerOnIllegalActionPlayed == that.disqualifyPlayerOnIllegalActionPlayed && disqualifyPlayerOnTimeout == that.disqualifyPlayerOnTimeout && alwaysDisplayFullObservable == that.alwaysDisplayFullObservable && alwaysDisplayCurrentPlayer == that.alwaysDisplayCurrentPlayer && copyOnWrite == that.copyOnWrite && historyMode == that.historyMode && frameSleepMS == that.frameSleepMS && Objects.equals(actionSpace, that.actionSpace);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(super.hashCode(), verbose, recordEventHistory, partialObservable, competitionMode, disqualifyPlayerOnIllegalActionPlayed, disqualifyPlayerOnTimeout, alwaysDisplayFullObservable, alwaysDisplayCurrentPlayer, frameSleepMS, actionSpace);
+        return Objects.hash(super.hashCode(), verbose, recordEventHistory, partialObservable, competitionMode, disqualifyPlayerOnIllegalActionPlayed, disqualifyPlayerOnTimeout, alwaysDisplayFullObservable, alwaysDisplayCurrentPlayer, copyOnWrite, historyMode, frameSleepMS, actionSpace);
     }
 
     @Override
@@ -69,6 +78,8 @@ public class CoreParameters extends TunableParameters<Object> {
         disqualifyPlayerOnTimeout = (boolean) getParameterValue("disqualify player on timeout");
         alwaysDisplayFullObservable = (boolean) getParameterValue("always display full observable");
         alwaysDisplayCurrentPlayer = (boolean) getParameterValue("always display current player");
+        copyOnWrite = (boolean) getParameterValue("copyOnWrite");
+        historyMode = (CoreConstants.HistoryMode) getParameterValue("historyMode");
         frameSleepMS = Long.parseLong(String.valueOf(getParameterValue("frame sleep MS")));
         actionSpace = new ActionSpace ((ActionSpace.Structure) getParameterValue("actionSpaceStructure"),
                 (ActionSpace.Flexibility) getParameterValue("actionSpaceFlexibility"),
@@ -13,6 +13,7 @@ import games.pandemic.PandemicForwardModel;
 import gui.AbstractGUIManager;
 import gui.GUI;
 import gui.GamePanel;
+import players.IAnyTimePlayer;
 import players.basicMCTS.BasicMCTSPlayer;
 import players.human.ActionController;
 import players.human.HumanConsolePlayer;
@@ -29,11 +30,21 @@ import utilities.Utils;
 import javax.swing.Timer;
 import javax.swing.*;
 import java.awt.*;
+import java.io.*;
 import java.util.List;
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
 
 public class Game {
 
@@ -53,6 +64,8 @@ public class Game {
     private JFrame frame;
     // Timers for various function calls
     private double nextTime, copyTime, agentTime, actionComputeTime;
+    // and their totals over the game
+    private double totalNextTime, totalCopyTime, totalAgentTime, totalActionComputeTime;
     // Keeps track of action spaces for each game tick, pairs of (player ID, #actions)
     private ArrayList<Pair<Integer, Integer>> actionSpaceSize;
     // Number of times an agent is asked for decisions
@@ -69,6 +82,22 @@ public class Game {
     String codecName = null;
     int snapsPerSecond = 10;
     private int turnPause;
+    // Asynchronous decisions: each decision runs on a thread from decisionExecutor, with a wall-clock budget
+    static final long ANYTIME_GRACE_MILLIS = 100;
+    private static ExecutorService sharedDecisionExecutor;
+    private ExecutorService decisionExecutor;
+    private long decisionTimeMillis;
+    private final Map<AbstractPlayer, AtomicReference<Thread>> decisionThreads = new IdentityHashMap<>();
+    private int nDecisionTimeouts;
+    // The state just after setup, and the state of its random number generator, for reuse by reset()
+    private boolean reuseInitialState;
+    private AbstractGameState initialState;
+    private byte[] initialRnd;
+    private long initialSeed;
+    // The game state created with this game, while gameState is a copy of initialState
+    private AbstractGameState ownState;
+    // Set if this game is pooled, see GamePool
+    GamePool.Key poolKey;
 
     /**
      * Game constructor. Receives a list of players, a forward model and a game state. Sets unique and final
@@ -99,6 +128,66 @@ public class Game {
         reset(Collections.emptyList(), gameState.gameParameters.randomSeed);
     }
 
+    /**
+     * Reserves the IDs of n games that will be played in another process (see TournamentCoordinator),
+     * so that they get the same IDs as if they had been played here.
+     *
+     * @return - the first of the n IDs
+     */
+    public static int reserveGameIDs(int n) {
+        return idFountain.getAndAdd(n) + 1;
+    }
+
+    /**
+     * Sets the ID given to the next game to be reset, for games played on behalf of another process.
+     */
+    public static void setNextGameID(int id) {
+        idFountain.set(id - 1);
+    }
+
+    /**
+     * An executor for asynchronous decisions that can be shared by many games. This uses a virtual thread for each
+     * decision if the JVM supports them (Java 21 onwards), and otherwise a pool of daemon platform threads.
+     */
+    public static synchronized ExecutorService sharedDecisionExecutor() {
+        if (sharedDecisionExecutor == null) {
+            try {
+                sharedDecisionExecutor = (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+            } catch (ReflectiveOperationException e) {
+                sharedDecisionExecutor = Executors.newCachedThreadPool(r -> {
+                    Thread t = new Thread(r, "Decision");
+                    t.setDaemon(true);
+                    return t;
+                });
+            }
+        }
+        return sharedDecisionExecutor;
+    }
+
+    /**
+     * Runs each decision of a (non-human) player on a thread from the executor, and waits for at most
+     * decisionTimeMillis (or the time left on the player's chess clock, if less). If the player has not decided
+     * by then, an IAnyTimePlayer is interrupted, and has ANYTIME_GRACE_MILLIS to return the best action it has found
+     * so far. Otherwise the decision has timed out, and the player is disqualified or a random action is played
+     * instead (see CoreParameters.disqualifyPlayerOnTimeout), as if it had exceeded its chess clock.
+     * A player whose previous decision is still running also times out, rather than being asked again.
+     * The time waited for each decision is charged to the player's chess clock.
+     *
+     * @param executor           - the executor to use (see sharedDecisionExecutor()), or null for synchronous decisions
+     * @param decisionTimeMillis - the wall-clock budget for each decision; 0 to use the chess clock only
+     */
+    public void setAsyncDecisions(ExecutorService executor, long decisionTimeMillis) {
+        this.decisionExecutor = executor;
+        this.decisionTimeMillis = decisionTimeMillis;
+    }
+
+    /**
+     * @return the number of decisions in this game that timed out (with asynchronous decisions)
+     */
+    public int getNDecisionTimeouts() {
+        return nDecisionTimeouts;
+    }
+
     /**
      * Runs one game.
      *
@@ -143,13 +232,28 @@ public class Game {
         game.setTurnPause(turnPause);
 
         if (ac != null) {
+            GUIRunner.run(game, gameToPlay, ac);
+        } else {
+            // Run!
+            game.run();
+        }
+
+        return game;
+    }
+
+    /**
+     * Runs a game with a GUI. This is kept apart from Game itself, so that the (Swing) GUI classes are not loaded
+     * when games are run without one.
+     */
+    private static final class GUIRunner {
+        static void run(Game game, GameType gameToPlay, ActionController ac) {
             // We spawn the GUI off in another thread
 
             GUI frame = new GUI();
             GamePanel gamePanel = new GamePanel();
             frame.setContentPane(gamePanel);
 
-            AbstractGUIManager gui = gameToPlay.createGUIManager(gamePanel, game, ac);
+            AbstractGUIManager gui = AbstractGUIManager.create(gameToPlay, gamePanel, game, ac);
 
             frame.setFrameProperties();
             frame.validate();
@@ -167,13 +271,7 @@ public class Game {
             guiUpdater.stop();
             // and update GUI to final game state
             game.updateGUI(gui, frame);
-
-        } else {
-            // Run!
-            game.run();
         }
-
-        return game;
     }
 
     /**
@@ -359,8 +457,31 @@ public class Game {
      */
     public final void reset(List<AbstractPlayer> players, long newRandomSeed) {
         if (debug) System.out.println("Game Seed: " + newRandomSeed);
-        gameState.reset(newRandomSeed);
-        forwardModel.abstractSetup(gameState);
+        if (reuseInitialState && initialState != null && initialSeed == newRandomSeed) {
+            // the copy has the same contents as the state after setup, apart from the random number generator
+            if (ownState == null)
+                ownState = gameState;
+            gameState = initialState.copy();
+            gameState.rnd = restoreRandom(initialRnd);
+            for (IGameListener listener : listeners)
+                gameState.addListener(listener);
+        } else {
+            if (ownState != null) {
+                // the parameters of a copy cannot be changed, so we go back to our own state to set up again
+                gameState = ownState;
+                ownState = null;
+                gameState.clearListeners();
+                for (IGameListener listener : listeners)
+                    gameState.addListener(listener);
+            }
+            gameState.reset(newRandomSeed);
+            forwardModel.abstractSetup(gameState);
+            if (reuseInitialState) {
+                initialState = gameState.copy();
+                initialRnd = saveRandom(gameState.rnd);
+                initialSeed = newRandomSeed;
+            }
+        }
 
         // set forward models for all players
         for (AbstractPlayer player : players) {
@@ -401,6 +522,39 @@ public class Game {
         resetStats();
     }
 
+    /**
+     * If set, then the state after setup is kept, and a later reset() with the same random seed starts from a copy of
+     * it instead of setting up the game again. This gives the same game, and is much faster for games that read
+     * their data from files during setup, but assumes that the game state copies fully, and that the forward
+     * model keeps no state of its own from setup. Games with random number generators of their own (such as
+     * Wonders7 or Catan) start the same, but their copies have new generators, so may then play differently. It is useful when the same seed is played several times, as in
+     * StableNTBEA. If the game parameters are changed, then this must be turned off (and on) again.
+     */
+    public void setReuseInitialState(boolean reuseInitialState) {
+        this.reuseInitialState = reuseInitialState;
+        initialState = null;
+        initialRnd = null;
+    }
+
+    // java.util.Random has no way to copy its state, other than serialisation
+    private static byte[] saveRandom(Random rnd) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(rnd);
+        } catch (IOException e) {
+            throw new AssertionError("Unable to copy Random", e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static Random restoreRandom(byte[] data) {
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(data))) {
+            return (Random) in.readObject();
+        } catch (IOException | ClassNotFoundException e) {
+            throw new AssertionError("Unable to copy Random", e);
+        }
+    }
+
     /**
      * All timers and game tick set to 0.
      */
@@ -409,7 +563,12 @@ public class Game {
         copyTime = 0;
         agentTime = 0;
         actionComputeTime = 0;
+        totalNextTime = 0;
+        totalCopyTime = 0;
+        totalAgentTime = 0;
+        totalActionComputeTime = 0;
         nDecisions = 0;
+        nDecisionTimeouts = 0;
         actionSpaceSize = new ArrayList<>();
         nActionsPerTurnSum = 0;
         nActionsPerTurn = 1;
@@ -422,7 +581,7 @@ public class Game {
      */
     public final void run() {
 
-        listeners.forEach(l -> l.onEvent(Event.createEvent(Event.GameEvent.ABOUT_TO_START, gameState)));
+        gameState.sendEvent(listeners, Event.GameEvent.ABOUT_TO_START, null, -1);
 
         boolean firstEnd = true;
 
@@ -531,6 +690,7 @@ public class Game {
         // to reconstruct the starting hands etc.)
         AbstractGameState observation = gameState.copy(activePlayer);
         copyTime = (System.nanoTime() - s);
+        totalCopyTime += copyTime;
         //      System.out.printf("Total copyTime in ms = %.2f at tick %d (Avg %.3f) %n", copyTime / 1e6, tick, copyTime / (tick +1.0) / 1e6);
 
         // Get actions for the player
@@ -539,13 +699,10 @@ public class Game {
         if (observedActions.isEmpty()) {
             Stack<IExtendedSequence> actionsInProgress = gameState.getActionsInProgress();
             IExtendedSequence topOfStack = null;
-            AbstractAction lastAction = null;
+            AbstractAction lastAction = gameState.getLastAction();
             if (!actionsInProgress.isEmpty()) {
                 topOfStack = actionsInProgress.peek();
             }
-            if (gameState.getHistory().size() > 1) {
-                lastAction = gameState.getHistory().get(gameState.getHistory().size() - 1).b;
-            }
             if (debug) {
                 System.out.println("---\nActions in progress:");
                 for (IExtendedSequence action : actionsInProgress) {
@@ -564,6 +721,7 @@ public class Game {
 
         }
         actionComputeTime = (System.nanoTime() - s);
+        totalActionComputeTime += actionComputeTime;
         actionSpaceSize.add(new Pair<>(activePlayer, observedActions.size()));
 
         if (gameState.coreGameParameters.verbose) {
@@ -579,6 +737,7 @@ public class Game {
 
         // Either ask player which action to use or, in case no actions are available, report the updated observation
         AbstractAction action = null;
+        boolean timedOut = false;
         if (!observedActions.isEmpty()) {
             if (observedActions.size() == 1 && (!(currentPlayer instanceof HumanGUIPlayer || currentPlayer instanceof HumanConsolePlayer) || observedActions.get(0) instanceof DoNothing)) {
                 // Can only do 1 action, so do it.
@@ -589,15 +748,21 @@ public class Game {
                 s = System.nanoTime();
                 if (debug)
                     System.out.printf("About to get action for player %d%n", gameState.getCurrentPlayer());
-                action = currentPlayer.getAction(observation, observedActions);
-                if (!observedActions.contains(action)) {
+                if (decisionExecutor == null || currentPlayer instanceof HumanGUIPlayer || currentPlayer instanceof HumanConsolePlayer) {
+                    action = currentPlayer.getAction(observation, observedActions);
+                } else {
+                    action = getActionWithinBudget(activePlayer, currentPlayer, observation, observedActions);
+                    timedOut = action == null;
+                }
+                if (!timedOut && !observedActions.contains(action)) {
                     throw new AssertionError("Action played that was not in the list of available actions: " + action);
                 }
 
-                if (debug)
+                if (debug && !timedOut)
                     System.out.printf("Game: %2d Tick: %3d\t%s%n", gameState.getGameID(), getTick(), action.getString(gameState));
 
                 agentTime = (System.nanoTime() - s);
+                totalAgentTime += agentTime;
                 nDecisions++;
             }
             if (gameState.coreGameParameters.competitionMode && action != null && !observedActions.contains(action)) {
@@ -605,8 +770,8 @@ public class Game {
                 action = null;
             }
             // We publish an ACTION_CHOSEN message before we implement the action, so that observers can record the state that led to the decision
-            AbstractAction finalAction = action;
-            listeners.forEach(l -> l.onEvent(Event.createEvent(Event.GameEvent.ACTION_CHOSEN, gameState, finalAction, activePlayer)));
+            if (!timedOut)
+                gameState.sendEvent(listeners, Event.GameEvent.ACTION_CHOSEN, action, activePlayer);
 
         } else {
             currentPlayer.registerUpdatedObservation(observation);
@@ -619,31 +784,107 @@ public class Game {
         if (gameState.coreGameParameters.verbose && !(action == null)) {
             System.out.println(action);
         }
-        if (action == null)
+        if (action == null && !timedOut)
             throw new AssertionError("We have a NULL action in the Game loop");
 
         // Check player timeout
-        if (observation.playerTimer[activePlayer].exceededMaxTime()) {
+        AbstractAction actionTaken = null;
+        if (timedOut || gameState.playerTimer[activePlayer].exceededMaxTime()) {
             action = forwardModel.disqualifyOrRandomAction(gameState.coreGameParameters.disqualifyPlayerOnTimeout, gameState);
         } else {
             // Resolve action and game rules, time it
             s = System.nanoTime();
             // we copy the action before using it..so that the action returned by oneAction() does not have a state link
-            forwardModel.next(gameState, action.copy());
+            actionTaken = action.copy();
+            forwardModel.next(gameState, actionTaken);
             nextTime = (System.nanoTime() - s);
+            totalNextTime += nextTime;
         }
 
         lastPlayer = activePlayer;
 
         // We publish an ACTION_TAKEN message once the action is taken so that observers can record the result of the action
-        // (such as the next player)
-        AbstractAction finalAction1 = action;
-        listeners.forEach(l -> l.onEvent(Event.createEvent(Event.GameEvent.ACTION_TAKEN, gameState, finalAction1.copy(), activePlayer)));
+        // (such as the next player). The copy used by next() is not kept by the game (unless it is an extended
+        // sequence, which may stay in progress and change), so it can be sent as it is.
+        if (IGameListener.anyListens(listeners, Event.GameEvent.ACTION_TAKEN))
+            gameState.sendEvent(listeners, Event.GameEvent.ACTION_TAKEN,
+                    actionTaken != null && !(actionTaken instanceof IExtendedSequence) ? actionTaken : action.copy(), activePlayer);
 
         if (debug) System.out.printf("Finishing oneAction for player %s%n", activePlayer);
         return action;
     }
 
+    /**
+     * Asks the player for its action on a thread from the decisionExecutor, and waits for it within the budget.
+     *
+     * @return the action chosen, or null if the player did not decide in time
+     */
+    private AbstractAction getActionWithinBudget(int playerID, AbstractPlayer player, AbstractGameState observation,
+                                                 List<AbstractAction> observedActions) {
+        AtomicReference<Thread> previous = decisionThreads.get(player);
+        if (previous != null && previous.get() != null) {
+            // the player is still working on its last decision, and cannot be asked for another at the same time
+            nDecisionTimeouts++;
+            return null;
+        }
+        // in nanoseconds, so that a player that uses all of its budget has used all of its chess clock
+        long budget = Math.max(0, gameState.playerTimer[playerID].remainingTime());
+        if (decisionTimeMillis > 0)
+            budget = Math.min(budget, MILLISECONDS.toNanos(decisionTimeMillis));
+
+        // we keep track of the thread making the decision so that we can interrupt it (and only it), and know
+        // when it has finished, even after the decision has been cancelled
+        AtomicReference<Thread> decider = new AtomicReference<>();
+        decisionThreads.put(player, decider);
+        // The chess clock measures the CPU time of this thread, which only waits, so we charge it the time waited
+        long start = System.nanoTime();
+        Future<AbstractAction> decision = decisionExecutor.submit(() -> {
+            decider.set(Thread.currentThread());
+            try {
+                return player.getAction(observation, observedActions);
+            } finally {
+                synchronized (decider) {
+                    decider.set(null);
+                    Thread.interrupted();  // so that a pooled thread does not start its next task interrupted
+                }
+            }
+        });
+        try {
+            try {
+                return decision.get(budget, NANOSECONDS);
+            } catch (TimeoutException e) {
+                if (player instanceof IAnyTimePlayer) {
+                    synchronized (decider) {
+                        Thread thread = decider.get();
+                        if (thread != null)
+                            thread.interrupt();
+                    }
+                    try {
+                        return decision.get(ANYTIME_GRACE_MILLIS, MILLISECONDS);
+                    } catch (TimeoutException ignored) {
+                        // the player did not respond to the interrupt
+                    }
+                }
+                decision.cancel(true);
+                nDecisionTimeouts++;
+                return null;
+            }
+        } catch (InterruptedException e) {
+            decision.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for player " + playerID, e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException re)
+                throw re;
+            if (e.getCause() instanceof Error err)
+                throw err;
+            throw new RuntimeException(e.getCause());
+        } finally {
+            gameState.playerTimer[playerID].spend(System.nanoTime() - start);
+            gameState.playerTimer[playerID].resume();
+        }
+    }
+
     /**
      * Called at the end of game loop execution, when the game is over.
      */
@@ -655,7 +896,7 @@ public class Game {
 
         // Perform any end of game computations as required by the game
         forwardModel.endGame(gameState);
-        listeners.forEach(l -> l.onEvent(Event.createEvent(Event.GameEvent.GAME_OVER, gameState)));
+        gameState.sendEvent(listeners, Event.GameEvent.GAME_OVER, null, -1);
         if (gameState.coreGameParameters.recordEventHistory) {
             gameState.recordHistory(Event.GameEvent.GAME_OVER.name());
             for (int i = 0; i < gameState.getNPlayers(); i++) {
@@ -728,6 +969,35 @@ public class Game {
         return actionComputeTime;
     }
 
+    /**
+     * The getXxxTime() methods give the time of the last action only; these give the totals since reset(),
+     * in nanoseconds.
+     */
+    public double getTotalAgentTime() {
+        return totalAgentTime;
+    }
+
+    public double getTotalCopyTime() {
+        return totalCopyTime;
+    }
+
+    public double getTotalNextTime() {
+        return totalNextTime;
+    }
+
+    public double getTotalActionComputeTime() {
+        return totalActionComputeTime;
+    }
+
+    /**
+     * Retrieves the number of events sent to listeners in this game. Events that no listener wants are not sent.
+     *
+     * @return - number of events
+     */
+    public int getNEvents() {
+        return gameState.getNEvents();
+    }
+
     /**
      * Retrieves the number of game loop repetitions performed in this game.
      *
@@ -0,0 +1,107 @@
+package core;
+
+import games.GameType;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A pool of Game objects that can be reused, rather than created with GameType.createGameInstance() for every game.
+ * Creating a game constructs the forward model, game state and (if none are given) parameters by reflection,
+ * and these may read data from files. A game from the pool still has to be reset() with the players and seed
+ * to use, which sets the game up again; see Game.setReuseInitialState() to avoid that too.
+ * <p>
+ * Games are pooled by game type, number of players and game parameters. The parameters are matched by identity, as
+ * the parameters of most games do not implement equals() over all their values; as in createGameInstance(), a
+ * game is created with the given parameters object itself, so this should not be changed while its games are in use.
+ * <p>
+ * This is safe to use from several threads; a game must only be used by one thread at a time.
+ */
+public final class GamePool {
+
+    // The maximum number of idle games kept for each key
+    public static final int MAX_IDLE_GAMES = 64;
+
+    private static final Map<Key, Pool> pools = new ConcurrentHashMap<>();
+
+    private GamePool() {
+    }
+
+    /**
+     * @param params the game parameters to use, or null for the defaults of the game
+     * @return a game from the pool, or a new game if there is none free. This must be reset() before use.
+     */
+    public static Game acquire(GameType type, int nPlayers, AbstractParameters params) {
+        Key key = new Key(type, nPlayers, params);
+        Pool pool = pools.get(key);
+        Game game = pool == null ? null : pool.games.poll();
+        if (game != null) {
+            pool.size.decrementAndGet();
+            return game;
+        }
+        game = type.createGameInstance(nPlayers, params);
+        game.poolKey = key;
+        return game;
+    }
+
+    /**
+     * Returns a game to the pool, once it is no longer needed. Its listeners are removed.
+     * Games not created by acquire() are ignored.
+     */
+    public static void release(Game game) {
+        if (game.poolKey == null)
+            return;
+        game.clearListeners();
+        Pool pool = pools.computeIfAbsent(game.poolKey, k -> new Pool());
+        if (pool.size.incrementAndGet() <= MAX_IDLE_GAMES)
+            pool.games.offer(game);
+        else
+            pool.size.decrementAndGet();
+    }
+
+    /**
+     * Discards all idle games
+     */
+    public static void clear() {
+        pools.clear();
+    }
+
+    /**
+     * @return the number of idle games of the given type and number of players
+     */
+    public static int idleGames(GameType type, int nPlayers, AbstractParameters params) {
+        Pool pool = pools.get(new Key(type, nPlayers, params));
+        return pool == null ? 0 : pool.size.get();
+    }
+
+    private static final class Pool {
+        final Queue<Game> games = new ConcurrentLinkedQueue<>();
+        final AtomicInteger size = new AtomicInteger();
+    }
+
+    static final class Key {
+        final GameType type;
+        final int nPlayers;
+        final AbstractParameters params;
+
+        Key(GameType type, int nPlayers, AbstractParameters params) {
+            this.type = type;
+            this.nPlayers = nPlayers;
+            this.params = params;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Key other && type == other.type && nPlayers == other.nPlayers && params == other.params;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(type, nPlayers, System.identityHashCode(params));
+        }
+    }
+}
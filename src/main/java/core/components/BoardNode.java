@@ -183,8 +183,7 @@ public class BoardNode extends Component {
 
         StringBuilder sb = new StringBuilder();
         sb.append("{id: " + componentID + "; maxNeighbours: " + maxNeighbours + "; ");
-        for(int prop_key : properties.keySet()) {
-            Property prop = properties.get(prop_key);
+        for(Property prop : properties.values()) {
             sb.append(prop.getHashString() + ": " + prop + "; ");
         }
 
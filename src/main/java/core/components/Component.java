@@ -4,45 +4,49 @@ import core.properties.*;
 import org.json.simple.JSONArray;
 import org.json.simple.JSONObject;
 import utilities.Hash;
+import utilities.Vector2D;
 import core.CoreConstants.ComponentType;
 
 import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public abstract class Component {
-    private static int ID = 0;  // All components receive a unique and final ID from this always increasing counter
+    // All components receive a unique and final ID from this always increasing counter
+    // This is atomic so that several games can be run concurrently in the same JVM
+    private static final AtomicInteger ID = new AtomicInteger(0);
 
     protected transient final int componentID;  // Unique ID of this component
     protected final ComponentType type;  // Type of this component
-    protected HashMap<Integer, Property> properties;  // Maps between integer key for the property and the property object
+    protected PropertyTable properties;  // Maps between integer key for the property and the property object
     protected transient int ownerId = -1;  // By default belongs to the game
     protected String componentName;  // Name of this component
 
     public Component(ComponentType type, String name) {
-        this.componentID = ID++;
+        this.componentID = ID.getAndIncrement();
         this.type = type;
         this.componentName = name;
-        this.properties = new HashMap<>();
+        this.properties = new PropertyTable();
     }
 
     public Component(ComponentType type) {
-        this.componentID = ID++;
+        this.componentID = ID.getAndIncrement();
         this.type = type;
         this.componentName = type.toString();
-        this.properties = new HashMap<>();
+        this.properties = new PropertyTable();
     }
 
     protected Component(ComponentType type, String name, int componentID) {
         this.componentID = componentID;
         this.type = type;
         this.componentName = name;
-        this.properties = new HashMap<>();
+        this.properties = new PropertyTable();
     }
 
     protected Component(ComponentType type, int componentID) {
         this.componentID = componentID;
         this.type = type;
         this.componentName = type.toString();
-        this.properties = new HashMap<>();
+        this.properties = new PropertyTable();
     }
 
     /**
@@ -120,10 +124,35 @@ public abstract class Component {
         return properties.get(propId);
     }
 
+    /**
+     * Gets a property by name. This hashes the name on every call, so code that looks up properties often should
+     * use getProperty(int) with a key computed once (see CoreConstants for the common ones).
+     */
     public Property getProperty(String hashString) {
         return properties.get(Hash.GetInstance().hash(hashString));
     }
 
+    public boolean hasProperty(int propId) {
+        return properties.containsKey(propId);
+    }
+
+    /**
+     * Typed accessors for the most common kinds of property. The property must exist, and be of the given type.
+     * @param propId id of the property to look for
+     * @return the value of the property
+     */
+    public int getIntProperty(int propId) {
+        return ((PropertyInt) properties.get(propId)).value;
+    }
+
+    public String getStringProperty(int propId) {
+        return ((PropertyString) properties.get(propId)).value;
+    }
+
+    public Vector2D getVector2DProperty(int propId) {
+        return ((PropertyVector2D) properties.get(propId)).values;
+    }
+
     /**
      * Adds a property with an id and a Property object
      * @param prop property to add
@@ -210,11 +239,7 @@ public abstract class Component {
      */
     public void copyComponentTo(Component copyTo)
     {
-        copyTo.properties.clear();
-        for (int prop_key : this.properties.keySet()) {
-            Property newProp = this.properties.get(prop_key).copy();
-            copyTo.setProperty(newProp);
-        }
+        copyTo.properties = properties.copy();
         copyTo.ownerId = ownerId;
         copyTo.componentName = componentName;
     }
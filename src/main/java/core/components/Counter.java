@@ -1,19 +1,20 @@
 package core.components;
 
 import core.CoreConstants;
+import core.interfaces.IZobristHashable;
 import org.json.simple.JSONArray;
 import org.json.simple.JSONObject;
-import org.json.simple.parser.JSONParser;
 import org.json.simple.parser.ParseException;
+import utilities.JSONDataCache;
+import utilities.Zobrist;
 
-import java.io.FileReader;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 
-public class Counter extends Component {
+public class Counter extends Component implements IZobristHashable {
     protected int[] values;
 
     protected int valueIdx;  // Current value of this counter
@@ -51,7 +52,9 @@ public class Counter extends Component {
     }
 
     public Counter copy() {
-        Counter copy = new Counter(values != null? values.clone() : null, valueIdx, minimum, maximum, componentName, componentID);
+        // the values are never changed, so copies made in copy-on-write mode (see Deck) can share them
+        int[] valuesCopy = values == null || Deck.isCopyOnWrite() ? values : values.clone();
+        Counter copy = new Counter(valuesCopy, valueIdx, minimum, maximum, componentName, componentID);
         copyComponentTo(copy);
         return copy;
     }
@@ -185,12 +188,11 @@ public class Counter extends Component {
      */
     public static List<Counter> loadCounters(String filename)
     {
-        JSONParser jsonParser = new JSONParser();
         ArrayList<Counter> counters = new ArrayList<>();
 
-        try (FileReader reader = new FileReader(filename)) {
+        try {
 
-            JSONArray data = (JSONArray) jsonParser.parse(reader);
+            JSONArray data = (JSONArray) JSONDataCache.parse(filename);
             for(Object o : data) {
 
                 Counter newCounter = new Counter();
@@ -239,6 +241,11 @@ public class Counter extends Component {
         return result;
     }
 
+    @Override
+    public long getZobristHash() {
+        return Zobrist.mix(valueIdx);
+    }
+
     @Override
     public String toString() {
         return "" + getValue();
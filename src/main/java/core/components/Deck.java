@@ -2,13 +2,14 @@ package core.components;
 
 import core.CoreConstants;
 import core.interfaces.IComponentContainer;
+import core.interfaces.IZobristHashable;
 import org.jetbrains.annotations.NotNull;
 import org.json.simple.JSONArray;
 import org.json.simple.JSONObject;
-import org.json.simple.parser.JSONParser;
 import org.json.simple.parser.ParseException;
+import utilities.JSONDataCache;
+import utilities.Zobrist;
 
-import java.io.FileReader;
 import java.io.IOException;
 import java.util.*;
 
@@ -22,19 +23,41 @@ import static core.CoreConstants.VisibilityMode;
  * * Components played on the player's area
  * * Discard pile
  */
-public class Deck<T extends Component> extends Component implements IComponentContainer<T>, Iterable<T> {
+public class Deck<T extends Component> extends Component implements IComponentContainer<T>, Iterable<T>, IZobristHashable {
 
     protected int capacity;  // Capacity of the deck (maximum number of elements)
     protected List<T> components;  // List of components in this deck
     protected VisibilityMode visibility;
 
+    // Copy-on-write support (see CoreParameters.copyOnWrite). When a Deck is copied in this mode the copy
+    // shares the list and components of the original, and from then on neither Deck changes what they share.
+    // Each takes its own copy of the list before it first changes it, and its own copy of a component before
+    // handing that component out (as the caller may change it). A Deck never changes another, so Decks that
+    // share a list may be used from different threads.
+    private static final ThreadLocal<Boolean> copyOnWrite = ThreadLocal.withInitial(() -> false);
+    private transient boolean listShared;
+    private transient boolean componentsShared;
+    private transient Set<T> ownComponents;  // while componentsShared, the components we have since copied
+
+    // Incremental hash of the components (see getZobristHash()). This is the sum over i of key(component i) * B^i,
+    // which is updated in O(1) when a component is added to or removed from either end of the deck, and
+    // recomputed on demand after anything else.
+    private static final long ZOBRIST_BASE = 0x9E3779B97F4A7C15L;  // odd, so it has an inverse modulo 2^64
+    private static final long ZOBRIST_BASE_INVERSE = inverse(ZOBRIST_BASE);
+    private transient long zobristHash;
+    private transient long zobristPower;  // B^size
+    private transient boolean zobristValid;
+    // While the hash is valid, the components handed out since it was last used, with their keys at the time.
+    // The caller may change these, so their keys are checked on the next use of the hash.
+    private transient Map<T, Long> zobristHandedOut;
+
     public Deck(String name, VisibilityMode visibility) {
         this(name, -1, visibility);
     }
 
     public Deck(String name, int ownerId, VisibilityMode visibility) {
         super(CoreConstants.ComponentType.DECK, name);
-        this.components = new LinkedList<>();   // we always add new components to element 0...so an ArrayList is inefficient
+        this.components = new RingBufferList<>();   // we always add new components to element 0, which is O(1) here but not for an ArrayList
         this.ownerId = ownerId;
         this.capacity = -1;
         this.visibility = visibility;
@@ -42,7 +65,7 @@ public class Deck<T extends Component> extends Component implements IComponentCo
 
     protected Deck(String name, int ownerId, int ID, VisibilityMode visibility) {
         super(CoreConstants.ComponentType.DECK, name, ID);
-        this.components = new LinkedList<>();
+        this.components = new RingBufferList<>();
         this.capacity = -1;
         this.ownerId = ownerId;
         this.visibility = visibility;
@@ -66,7 +89,7 @@ public class Deck<T extends Component> extends Component implements IComponentCo
 
         @Override
         public T next() {
-            return components.get(currentIndex++);
+            return zobristHandOut(ownComponent(currentIndex++));
         }
     }
 
@@ -78,12 +101,11 @@ public class Deck<T extends Component> extends Component implements IComponentCo
      * @return List of Deck objects.
      */
     public static List<Deck<Card>> loadDecksOfCards(String filename) {
-        JSONParser jsonParser = new JSONParser();
         ArrayList<Deck<Card>> decks = new ArrayList<>();
 
-        try (FileReader reader = new FileReader(filename)) {
+        try {
 
-            JSONArray data = (JSONArray) jsonParser.parse(reader);
+            JSONArray data = (JSONArray) JSONDataCache.parse(filename);
             for (Object o : data) {
                 Deck<Card> newDeck = loadDeckOfCards((JSONObject) o);
                 decks.add(newDeck);
@@ -142,8 +164,10 @@ public class Deck<T extends Component> extends Component implements IComponentCo
      */
     public T pick(int idx) {
         if (!components.isEmpty() && idx < components.size() && idx >= 0) {
-            T c = components.get(idx);
+            ownList();
+            T c = ownComponent(idx);
             components.remove(idx);
+            zobristRemoved(idx, c);
             return c;
         }
         return null;
@@ -192,7 +216,7 @@ public class Deck<T extends Component> extends Component implements IComponentCo
      */
     public T peek(int idx) {
         if (!components.isEmpty() && idx < components.size()) {
-            return components.get(idx);
+            return zobristHandOut(ownComponent(idx));
         }
         return null;
     }
@@ -220,8 +244,12 @@ public class Deck<T extends Component> extends Component implements IComponentCo
     public boolean add(T c, int index) {
         if (c == null)
             throw new IllegalArgumentException("null cannot be added to a Deck");
+        ownList();
         c.setOwnerId(ownerId);
         components.add(index, c);
+        markOwn(c);
+        zobristAdded(index, c);
+        zobristHandOut(c);  // the caller may still change it
         return capacity == -1 || components.size() <= capacity;
     }
 
@@ -254,11 +282,12 @@ public class Deck<T extends Component> extends Component implements IComponentCo
      * @return true if not over capacity, false otherwise.
      */
     public boolean add(Deck<T> d, int index) {
-        components.addAll(index, d.components);
-        for (T comp : d.components) {
-            comp.setOwnerId(ownerId);
+        // we take d's own copies of any components it shares, as we change their owner
+        List<T> added = new ArrayList<>(d.getSize());
+        for (int i = 0; i < d.getSize(); i++) {
+            added.add(d.ownComponent(i));
         }
-        return capacity == -1 || components.size() <= capacity;
+        return addComponents(added, index);
     }
 
     public boolean add(Collection<T> d) {
@@ -266,9 +295,16 @@ public class Deck<T extends Component> extends Component implements IComponentCo
     }
 
     public boolean add(Collection<T> d, int index) {
+        return addComponents(d, index);
+    }
+
+    private boolean addComponents(Collection<T> d, int index) {
+        ownList();
         components.addAll(index, d);
+        invalidateZobristHash();
         for (T comp : d) {
             comp.setOwnerId(ownerId);
+            markOwn(comp);
         }
         return capacity == -1 || components.size() <= capacity;
     }
@@ -297,8 +333,11 @@ public class Deck<T extends Component> extends Component implements IComponentCo
      */
     public boolean remove(int idx) {
         if (idx >= 0 && idx < components.size()) {
-            components.get(idx).setOwnerId(-1);
-            components.remove(idx);
+            ownList();
+            T c = components.remove(idx);
+            if (isOwn(c))
+                c.setOwnerId(-1);
+            zobristRemoved(idx, c);
             return true;
         }
         return false;
@@ -316,14 +355,28 @@ public class Deck<T extends Component> extends Component implements IComponentCo
         return components.contains(card);
     }
 
+    @Override
+    public int getSize() {
+        return components.size();
+    }
+
     /**
      * Removes all the components from the deck.
      */
     public void clear() {
         for (T comp : components) {
-            comp.setOwnerId(-1);
+            if (isOwn(comp))
+                comp.setOwnerId(-1);
         }
-        components.clear();
+        if (listShared) {
+            components = new RingBufferList<>();
+            listShared = false;
+        } else {
+            components.clear();
+        }
+        componentsShared = false;
+        ownComponents = null;
+        invalidateZobristHash();
     }
 
     // Getters, Setters
@@ -332,7 +385,9 @@ public class Deck<T extends Component> extends Component implements IComponentCo
      * Shuffles the deck with a specific random object.
      */
     public void shuffle(Random rnd) {
+        ownList();
         Collections.shuffle(components, rnd);
+        invalidateZobristHash();
     }
 
     /**
@@ -343,6 +398,8 @@ public class Deck<T extends Component> extends Component implements IComponentCo
      * @param rnd       - random number generator used for shuffling
      */
     public void shuffle(int fromIndex, int toIndex, Random rnd) {
+        ownList();
+        invalidateZobristHash();
         List<T> subList = components.subList(fromIndex, toIndex);
         Collections.shuffle(subList, rnd);
         int i = 0;
@@ -357,6 +414,8 @@ public class Deck<T extends Component> extends Component implements IComponentCo
      */
     @Override
     public List<T> getComponents() {
+        ensureOwnComponents();
+        invalidateZobristHash();  // the caller may change the list
         return components;
     }
 
@@ -367,6 +426,9 @@ public class Deck<T extends Component> extends Component implements IComponentCo
      */
     public void setComponents(List<T> components) {
         this.components = components;
+        listShared = componentsShared = false;
+        ownComponents = null;
+        invalidateZobristHash();
         for (T comp : components) {
             comp.setOwnerId(ownerId);
         }
@@ -402,8 +464,11 @@ public class Deck<T extends Component> extends Component implements IComponentCo
      * @param component - new component.
      */
     public void setComponent(int idx, T component) {
+        ownList();
         component.setOwnerId(ownerId);
         components.set(idx, component);
+        markOwn(component);
+        invalidateZobristHash();
     }
 
     /**
@@ -413,7 +478,7 @@ public class Deck<T extends Component> extends Component implements IComponentCo
      * @return - component at given index.
      */
     public T get(int idx) {
-        return components.get(idx);
+        return zobristHandOut(ownComponent(idx));
     }
 
     @Override
@@ -432,18 +497,215 @@ public class Deck<T extends Component> extends Component implements IComponentCo
      */
     public Deck<T> copy() {
         Deck<T> dp = new Deck<>(componentName, ownerId, componentID, visibility);
-        copyTo(dp);
+        if (isCopyOnWrite() && getClass() == Deck.class) {
+            shareWith(dp);
+        } else {
+            copyTo(dp);
+        }
         return dp;
     }
 
+    /**
+     * Switches copy-on-write copying of Decks (and of GridBoards and Counters) on or off for the current thread.
+     * This is set by AbstractGameState.copy() from CoreParameters.copyOnWrite, and should not normally be
+     * needed elsewhere.
+     *
+     * @param on - true if Decks copied by this thread should share their components until first use.
+     * @return the previous setting, so that it can be restored.
+     */
+    public static boolean setCopyOnWrite(boolean on) {
+        boolean previous = copyOnWrite.get();
+        copyOnWrite.set(on);
+        return previous;
+    }
+
+    static boolean isCopyOnWrite() {
+        return copyOnWrite.get();
+    }
+
+    /**
+     * Sets up the copy to share our list and components. From now on both of us copy them before use.
+     */
+    private void shareWith(Deck<T> copy) {
+        listShared = componentsShared = true;
+        ownComponents = null;
+        copy.components = components;
+        copy.listShared = copy.componentsShared = true;
+        copy.capacity = capacity;
+        copyZobristTo(copy);
+        copyComponentTo(copy);
+    }
+
+    /**
+     * This must be called before the list of components is changed. If we share the list with another Deck,
+     * then we take our own (shallow) copy of it.
+     */
+    private void ownList() {
+        if (listShared) {
+            components = new RingBufferList<>(components);
+            listShared = false;
+        }
+    }
+
+    /**
+     * The component at the given index, which the caller may change. If we share it with another Deck, then it
+     * is first replaced by our own copy.
+     */
+    @SuppressWarnings("unchecked")
+    private T ownComponent(int idx) {
+        T c = components.get(idx);
+        if (!isOwn(c)) {
+            ownList();
+            c = (T) c.copy();
+            components.set(idx, c);
+            markOwn(c);
+        }
+        return c;
+    }
+
+    private boolean isOwn(T c) {
+        return !componentsShared || (ownComponents != null && ownComponents.contains(c));
+    }
+
+    private void markOwn(T c) {
+        if (componentsShared) {
+            if (ownComponents == null)
+                ownComponents = Collections.newSetFromMap(new IdentityHashMap<>());
+            ownComponents.add(c);
+        }
+    }
+
+    /**
+     * This must be called before the list of components of this Deck is exposed, or changed other than through
+     * the methods of Deck. If we share components with another Deck, then copies are taken so that any changes
+     * are not seen by the other Deck.
+     */
+    protected final void ensureOwnComponents() {
+        if (componentsShared) {
+            for (int i = 0; i < components.size(); i++)
+                ownComponent(i);
+            componentsShared = false;
+            ownComponents = null;
+        }
+        ownList();
+    }
+
+    /**
+     * A 64-bit hash of the components of this deck, in order, for use in IStateKey.zobrist.
+     * Equal decks have equal hashes. Each component is keyed on its ID and contents, as in
+     * AbstractGameState.zobristHash(Component).
+     * Adding or removing a component at the top or bottom of the deck updates the hash in O(1). As a component handed
+     * out by get(), peek() or iterator() may then be changed in place, its key is checked on the next call, and the
+     * hash is only recomputed if it has changed. Changes made to components in other ways (for example after
+     * getComponents(), or AbstractGameState.getComponentById()) need invalidateZobristHash().
+     */
+    @Override
+    public long getZobristHash() {
+        if (zobristValid && zobristHandedOut != null && !zobristHandedOut.isEmpty()) {
+            for (Map.Entry<T, Long> e : zobristHandedOut.entrySet()) {
+                if (zobristKey(e.getKey()) != e.getValue()) {
+                    zobristValid = false;
+                    break;
+                }
+            }
+            zobristHandedOut.clear();
+        }
+        if (!zobristValid) {
+            long h = 0, power = 1;
+            for (T c : components) {
+                h += zobristKey(c) * power;
+                power *= ZOBRIST_BASE;
+            }
+            zobristHash = h;
+            zobristPower = power;
+            zobristValid = true;
+        }
+        return zobristHash;
+    }
+
+    /**
+     * Forces the next call of getZobristHash() to recompute the hash from the components.
+     */
+    public void invalidateZobristHash() {
+        zobristValid = false;
+        if (zobristHandedOut != null)
+            zobristHandedOut.clear();
+    }
+
+    private static long zobristKey(Component c) {
+        if (c instanceof IZobristHashable z) return Zobrist.key(c.getComponentID(), z.getZobristHash());
+        return Zobrist.key(c.getComponentID(), c);
+    }
+
+    // to be called with each component handed out, which the caller may then change
+    private T zobristHandOut(T c) {
+        if (zobristValid) {
+            if (zobristHandedOut == null)
+                zobristHandedOut = new IdentityHashMap<>();
+            zobristHandedOut.putIfAbsent(c, zobristKey(c));
+        }
+        return c;
+    }
+
+    // the key of c as included in the hash, which differs from its current key if it was handed out and then changed
+    private long zobristKeyInHash(T c) {
+        Long key = zobristHandedOut == null ? null : zobristHandedOut.remove(c);
+        return key == null ? zobristKey(c) : key;
+    }
+
+    // to be called after c has been added at index
+    private void zobristAdded(int index, T c) {
+        if (!zobristValid) return;
+        if (index == 0) {
+            zobristHash = zobristKey(c) + zobristHash * ZOBRIST_BASE;
+            zobristPower *= ZOBRIST_BASE;
+        } else if (index == components.size() - 1) {
+            zobristHash += zobristKey(c) * zobristPower;
+            zobristPower *= ZOBRIST_BASE;
+        } else {
+            invalidateZobristHash();
+        }
+    }
+
+    // to be called after c has been removed from index
+    private void zobristRemoved(int index, T c) {
+        if (!zobristValid) return;
+        if (index == 0) {
+            zobristHash = (zobristHash - zobristKeyInHash(c)) * ZOBRIST_BASE_INVERSE;
+            zobristPower *= ZOBRIST_BASE_INVERSE;
+        } else if (index == components.size()) {
+            zobristPower *= ZOBRIST_BASE_INVERSE;
+            zobristHash -= zobristKeyInHash(c) * zobristPower;
+        } else {
+            invalidateZobristHash();
+        }
+    }
+
+    private void copyZobristTo(Deck<T> deck) {
+        if (zobristValid)
+            getZobristHash();  // to check any components handed out, as the copy does not know about them
+        deck.zobristHash = zobristHash;
+        deck.zobristPower = zobristPower;
+        deck.zobristValid = zobristValid;
+    }
+
+    // Newton's iteration for the inverse of an odd number modulo 2^64; each step doubles the number of correct bits
+    private static long inverse(long a) {
+        long x = a;
+        for (int i = 0; i < 5; i++)
+            x *= 2 - a * x;
+        return x;
+    }
+
     @SuppressWarnings("unchecked")
     protected void copyTo(Deck<T> deck) {
-        List<T> newComponents = new LinkedList<>();
+        List<T> newComponents = new RingBufferList<>(components.size());
         for (T c : components) {
             newComponents.add((T) c.copy());
         }
         deck.components = newComponents;
         deck.capacity = capacity;
+        copyZobristTo(deck);
 
         //copy type and component.
         copyComponentTo(deck);
@@ -452,7 +714,7 @@ public class Deck<T extends Component> extends Component implements IComponentCo
 
     @SuppressWarnings("unchecked")
     protected void copyTo(Deck<T> deck, int playerId) {
-        List<T> newComponents = new LinkedList<>();
+        List<T> newComponents = new RingBufferList<>(components.size());
         for (T c : components) {
             newComponents.add((T) c.copy(playerId));
         }
@@ -1,14 +1,13 @@
 package core.components;
 
-import java.io.FileReader;
 import java.io.IOException;
 import java.util.*;
 
 import core.CoreConstants;
 import org.json.simple.JSONArray;
 import org.json.simple.JSONObject;
-import org.json.simple.parser.JSONParser;
 import org.json.simple.parser.ParseException;
+import utilities.JSONDataCache;
 
 import static core.components.Dice.Type.*;
 
@@ -110,12 +109,11 @@ public class Dice extends Component {
      * @return - List of Dice objects.
      */
     public static List<Dice> loadDice(String filename) {
-        JSONParser jsonParser = new JSONParser();
         ArrayList<Dice> dice = new ArrayList<>();
 
-        try (FileReader reader = new FileReader(filename)) {
+        try {
 
-            JSONArray data = (JSONArray) jsonParser.parse(reader);
+            JSONArray data = (JSONArray) JSONDataCache.parse(filename);
             for (Object o : data) {
                 dice.add(loadDie((JSONObject) o));
             }
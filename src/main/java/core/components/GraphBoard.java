@@ -6,11 +6,10 @@ import core.interfaces.IComponentContainer;
 import core.properties.*;
 import org.json.simple.JSONArray;
 import org.json.simple.JSONObject;
-import org.json.simple.parser.JSONParser;
 import org.json.simple.parser.ParseException;
 import utilities.Hash;
+import utilities.JSONDataCache;
 
-import java.io.FileReader;
 import java.io.IOException;
 import java.util.*;
 
@@ -209,12 +208,11 @@ public class GraphBoard extends Component implements IComponentContainer<BoardNo
      */
     public static List<GraphBoard> loadBoards(String filename)
     {
-        JSONParser jsonParser = new JSONParser();
         ArrayList<GraphBoard> graphBoards = new ArrayList<>();
 
-        try (FileReader reader = new FileReader(filename)) {
+        try {
 
-            JSONArray data = (JSONArray) jsonParser.parse(reader);
+            JSONArray data = (JSONArray) JSONDataCache.parse(filename);
             for(Object o : data) {
                 GraphBoard newGraphBoard = new GraphBoard();
                 newGraphBoard.loadBoard((JSONObject) o);
@@ -2,16 +2,17 @@ package core.components;
 
 import core.CoreConstants;
 import core.interfaces.IComponentContainer;
+import core.interfaces.IZobristHashable;
 import core.properties.PropertyString;
 import core.properties.PropertyVector2D;
 import org.json.simple.JSONArray;
 import org.json.simple.JSONObject;
-import org.json.simple.parser.JSONParser;
 import org.json.simple.parser.ParseException;
+import utilities.JSONDataCache;
 import utilities.Pair;
 import utilities.Vector2D;
+import utilities.Zobrist;
 
-import java.io.FileReader;
 import java.io.IOException;
 import java.util.*;
 import java.util.stream.Collectors;
@@ -23,13 +24,21 @@ import static utilities.Utils.getNeighbourhood;
  * GridBoard is a 2D grid of Components. It can be used to represent a board in a game, a map, or any other 2D grid.
  * Each cell on the grid can contain a Component of any type.
  */
-public class GridBoard extends Component implements IComponentContainer<BoardNode> {
+public class GridBoard extends Component implements IComponentContainer<BoardNode>, IZobristHashable {
 
     private int width;  // Width of the board
     private int height;  // Height of the board
 
     private BoardNode[][] grid;  // 2D grid representation of this board
 
+    // Copy-on-write support, as for Deck. A copy made in this mode shares the grid and nodes of the original, and
+    // each of them takes its own copy before it next hands out or changes a node.
+    private transient boolean gridShared;
+
+    // Incremental hash of the grid (see getZobristHash()), the XOR over all cells of key(cell, node)
+    private transient long zobristHash;
+    private transient boolean zobristValid;
+
     protected GridBoard() {
         super(CoreConstants.ComponentType.BOARD);
     }
@@ -72,7 +81,7 @@ public class GridBoard extends Component implements IComponentContainer<BoardNod
         super(CoreConstants.ComponentType.BOARD);
         this.width = orig.getWidth();
         this.height = orig.getHeight();
-        this.grid = orig.grid.clone();
+        this.grid = orig.ownGrid().clone();
     }
 
     /**
@@ -117,6 +126,7 @@ public class GridBoard extends Component implements IComponentContainer<BoardNod
     // ***
     // A = old grid, top-left corner in new larger grid given by (offsetX, offsetY) coordinates.
     public void setWidthHeight(int width, int height, int offsetX, int offsetY) {
+        zobristValid = false;
         if (offsetX + this.width > width) offsetX = 0;
         if (offsetY + this.height > height) offsetY = 0;
 
@@ -127,8 +137,9 @@ public class GridBoard extends Component implements IComponentContainer<BoardNod
         this.height = height;
 
         BoardNode[][] grid = new BoardNode[height][width];
+        BoardNode[][] oldGrid = ownGrid();
         for (int i = 0; i < h; i++) {
-            if (w >= 0) System.arraycopy(this.grid[i], 0, grid[i + offsetY], offsetX, w);
+            if (w >= 0) System.arraycopy(oldGrid[i], 0, grid[i + offsetY], offsetX, w);
         }
         this.grid = grid;
     }
@@ -143,6 +154,9 @@ public class GridBoard extends Component implements IComponentContainer<BoardNod
      */
     public boolean setElement(int x, int y, BoardNode value) {
         if (x >= 0 && x < width && y >= 0 && y < height) {
+            BoardNode[][] grid = ownGrid();
+            if (zobristValid)
+                zobristHash ^= zobristKey(x, y, grid[y][x]) ^ zobristKey(x, y, value);
             grid[y][x] = value;
             return true;
         } else
@@ -161,6 +175,13 @@ public class GridBoard extends Component implements IComponentContainer<BoardNod
      * @return - element at (x,y) in the grid.
      */
     public BoardNode getElement(int x, int y) {
+        if (x >= 0 && x < width && y >= 0 && y < height)
+            return ownGrid()[y][x];
+        return null;
+    }
+
+    // As getElement(), for reading only. This does not take our own copy of a shared grid.
+    private BoardNode peekElement(int x, int y) {
         if (x >= 0 && x < width && y >= 0 && y < height)
             return grid[y][x];
         return null;
@@ -176,14 +197,15 @@ public class GridBoard extends Component implements IComponentContainer<BoardNod
      * @return - 2D grid.
      */
     public BoardNode[][] getGridValues() {
-        return grid;
+        zobristValid = false;  // the caller may change the grid
+        return ownGrid();
     }
 
     public List<Vector2D> getEmptyCells(BoardNode defaultElement) {
         List<Vector2D> emptyCells = new ArrayList<>();
         for (int i = 0; i < height; i++) {
             for (int j = 0; j < width; j++) {
-                if (getElement(j, i) == null || getElement(j, i).equals(defaultElement)) {
+                if (peekElement(j, i) == null || peekElement(j, i).equals(defaultElement)) {
                     emptyCells.add(new Vector2D(j, i));
                 }
             }
@@ -198,12 +220,12 @@ public class GridBoard extends Component implements IComponentContainer<BoardNod
      * @return - new grid with the same elements and correct orientation.
      */
     public BoardNode[][] rotate(int orientation) {
-        GridBoard copy = copy();
+        BoardNode[][] copy = copyGrid();
         orientation %= 4;  // Maximum 4 sides to a grid
         for (int i = 0; i < orientation; i++) {
-            copy.grid = rotateClockWise(copy.grid);
+            copy = rotateClockWise(copy);
         }
-        return copy.grid;
+        return copy;
     }
 
     /**
@@ -230,6 +252,12 @@ public class GridBoard extends Component implements IComponentContainer<BoardNod
      * @return 1D flattened grid
      */
     public BoardNode[] flattenGrid() {
+        ownGrid();
+        return flatten();
+    }
+
+    // As flattenGrid(), for reading only
+    private BoardNode[] flatten() {
         int length = getHeight() * getWidth();
         BoardNode[] array = new BoardNode[length];
         for (int i = 0; i < getHeight(); i++) {
@@ -240,34 +268,40 @@ public class GridBoard extends Component implements IComponentContainer<BoardNod
 
     @Override
     public GridBoard copy() {
-        BoardNode[][] gridCopy = new BoardNode[getHeight()][getWidth()];
-        Map<Integer, BoardNode> nodeCopies = new HashMap<>();
-        for (int i = 0; i < height; i++) {
-            for (int j = 0; j < width; j++) {
-                if (grid[i][j] != null) {
-                    gridCopy[i][j] = new BoardNode(grid[i][j]);
-                    nodeCopies.put(gridCopy[i][j].componentID, gridCopy[i][j]);
-                }
-            }
-        }
-        for (int i = 0; i < height; i++) {
-            for (int j = 0; j < width; j++) {
-                if (grid[i][j] != null) {
-                    for (Map.Entry<BoardNode, Double> neighbour : grid[i][j].getNeighbours().entrySet()) {
-                        gridCopy[i][j].addNeighbourWithCost(nodeCopies.get(neighbour.getKey().componentID), neighbour.getValue());
-                    }
-                    for (Map.Entry<BoardNode, Integer> neighbour : grid[i][j].getNeighbourSideMapping().entrySet()) {
-                        gridCopy[i][j].addNeighbourOnSide(nodeCopies.get(neighbour.getKey().componentID), neighbour.getValue());
-                    }
-                }
-            }
+        GridBoard g;
+        if (Deck.isCopyOnWrite() && getClass() == GridBoard.class) {
+            g = new GridBoard(grid, componentID);
+            gridShared = g.gridShared = true;
+        } else {
+            g = new GridBoard(copyGrid(), componentID);
         }
-        GridBoard g = new GridBoard(gridCopy, componentID);
+        g.zobristHash = zobristHash;
+        g.zobristValid = zobristValid;
         copyComponentTo(g);
         return g;
     }
 
     public GridBoard copyNewID() {
+        GridBoard g = new GridBoard(copyGrid());
+        copyComponentTo(g);
+        return g;
+    }
+
+    /**
+     * This must be called before the nodes of this board are exposed or the grid is modified.
+     * If we are sharing the grid with another board, then copies are taken so that any changes are not
+     * seen by the other board.
+     */
+    private BoardNode[][] ownGrid() {
+        if (gridShared) {
+            grid = copyGrid();
+            gridShared = false;
+        }
+        return grid;
+    }
+
+    // A copy of the grid with copies of its nodes, which are neighbours of each other as in the original
+    private BoardNode[][] copyGrid() {
         BoardNode[][] gridCopy = new BoardNode[getHeight()][getWidth()];
         Map<Integer, BoardNode> nodeCopies = new HashMap<>();
         for (int i = 0; i < height; i++) {
@@ -290,9 +324,7 @@ public class GridBoard extends Component implements IComponentContainer<BoardNod
                 }
             }
         }
-        GridBoard g = new GridBoard(gridCopy);
-        copyComponentTo(g);
-        return g;
+        return gridCopy;
     }
 
     public GridBoard emptyCopy() {
@@ -306,7 +338,7 @@ public class GridBoard extends Component implements IComponentContainer<BoardNod
         String s = "";
         for (int y = 0; y < getHeight(); y++) {
             for (int x = 0; x < getWidth(); x++) {
-                BoardNode t = getElement(x, y);
+                BoardNode t = peekElement(x, y);
                 if (t != null) s += t + " ";
             }
             s += "\n";
@@ -321,12 +353,11 @@ public class GridBoard extends Component implements IComponentContainer<BoardNod
      * @return - List of Board objects.
      */
     public static List<GridBoard> loadBoards(String filename) {
-        JSONParser jsonParser = new JSONParser();
         ArrayList<GridBoard> gridBoards = new ArrayList<>();
 
-        try (FileReader reader = new FileReader(filename)) {
+        try {
 
-            JSONArray data = (JSONArray) jsonParser.parse(reader);
+            JSONArray data = (JSONArray) JSONDataCache.parse(filename);
             for (Object o : data) {
                 GridBoard newGridBoard = new GridBoard();
                 newGridBoard.loadBoard((JSONObject) o);
@@ -407,9 +438,9 @@ public class GridBoard extends Component implements IComponentContainer<BoardNod
         // Add all cells as board nodes connected to each other
         for (int i = 0; i < height; i++) {
             for (int j = 0; j < width; j++) {
-                BoardNode bn = new BoardNode(-1, getElement(j, i).toString());
+                BoardNode bn = new BoardNode(-1, peekElement(j, i).toString());
                 bn.setProperty(new PropertyVector2D("coordinates", new Vector2D(j, i)));
-                bn.setProperty(new PropertyString("terrain", getElement(j, i).toString()));
+                bn.setProperty(new PropertyString("terrain", peekElement(j, i).toString()));
                 gb.addBoardNode(bn);
                 bnMapping.put(new Vector2D(j, i), bn);
             }
@@ -444,10 +475,10 @@ public class GridBoard extends Component implements IComponentContainer<BoardNod
         // Add all cells as board nodes connected to each other
         for (int i = 0; i < height; i++) {
             for (int j = 0; j < width; j++) {
-                if (getElement(j, i) != null) {
-                    BoardNode bn = new BoardNode(-1, getElement(j, i).toString());
+                if (peekElement(j, i) != null) {
+                    BoardNode bn = new BoardNode(-1, peekElement(j, i).toString());
                     bn.setProperty(new PropertyVector2D("coordinates", new Vector2D(j, i)));
-                    bn.setProperty(new PropertyString("terrain", getElement(j, i).toString()));
+                    bn.setProperty(new PropertyString("terrain", peekElement(j, i).toString()));
                     gb.addBoardNode(bn);
                     bnMapping.put(new Vector2D(j, i), bn);
                 }
@@ -484,14 +515,36 @@ public class GridBoard extends Component implements IComponentContainer<BoardNod
     @Override
     public boolean equals(Object o) {
         if (o instanceof GridBoard other) {
-            return componentID == other.componentID && Arrays.equals(flattenGrid(), other.flattenGrid());
+            return componentID == other.componentID && Arrays.equals(flatten(), other.flatten());
         }
         return false;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(componentID) + 5 * Arrays.hashCode(flattenGrid());
+        return Objects.hash(componentID) + 5 * Arrays.hashCode(flatten());
+    }
+
+    /**
+     * A 64-bit hash of the grid, for use in IStateKey.zobrist. Each node is keyed on its position and ID, so this is
+     * updated in O(1) by setElement(). Changes made within a node (after getElement()) are not included, and a game
+     * whose nodes change in place should add their contents to its own hash.
+     */
+    @Override
+    public long getZobristHash() {
+        if (!zobristValid) {
+            long h = 0;
+            for (int y = 0; y < height; y++)
+                for (int x = 0; x < width; x++)
+                    h ^= zobristKey(x, y, grid[y][x]);
+            zobristHash = h;
+            zobristValid = true;
+        }
+        return zobristHash;
+    }
+
+    private long zobristKey(int x, int y, BoardNode node) {
+        return Zobrist.key((long) y * width + x, node == null ? -1L : node.getComponentID());
     }
 
     @Override
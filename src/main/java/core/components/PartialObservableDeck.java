@@ -4,7 +4,6 @@ import core.AbstractGameState;
 import core.CoreConstants.VisibilityMode;
 import org.jetbrains.annotations.NotNull;
 import utilities.DeterminisationUtilities;
-import utilities.Pair;
 
 import java.util.*;
 
@@ -15,25 +14,51 @@ public class PartialObservableDeck<T extends Component> extends Deck<T> {
     protected boolean[] deckVisibility;
 
     // Visibility of each component in the deck, order corresponds to order of elements in the deck;
-    protected List<boolean[]> elementVisibility = new LinkedList<>();
+    private VisibilityBits elementVisibility;
 
     public boolean getVisibilityForPlayer(int elementIdx, int playerID) {
-        return elementVisibility.get(elementIdx)[playerID];
+        return elementVisibility.get(elementIdx, playerID);
     }
 
+    /**
+     * @return a new array with the visibility of the component for each player. Changing this array does not
+     * change the deck; use setVisibilityOfComponent() for that.
+     */
     public boolean[] getVisibilityOfComponent(int elementIdx) {
         return elementVisibility.get(elementIdx);
     }
 
+    /**
+     * Returns the indices of all components that the given player cannot see, in increasing order.
+     * This is the set of positions that a determinisation for that player may change.
+     *
+     * @param playerID - ID of player observing the deck.
+     * @return indices of the hidden components.
+     */
+    public int[] getUnknownIndices(int playerID) {
+        if (playerID < 0 || playerID >= deckVisibility.length)
+            throw new IllegalArgumentException("playerID " + playerID + " needs to be in range [0," + (deckVisibility.length - 1) + "]");
+        return elementVisibility.hiddenIndices(playerID);
+    }
+
+    /**
+     * @return the number of components that the given player can see
+     */
+    public int getVisibleCount(int playerID) {
+        return elementVisibility.visibleCount(playerID);
+    }
+
 
     public PartialObservableDeck(String id, int ownerID, boolean[] defaultVisibility) {
         super(id, ownerID, VisibilityMode.MIXED_VISIBILITY);
         this.deckVisibility = defaultVisibility;
+        this.elementVisibility = new VisibilityBits(defaultVisibility.length);
     }
 
     public PartialObservableDeck(String id, int ownerID, int nPlayers, VisibilityMode visibilityMode) {
         super(id, ownerID, visibilityMode);
         deckVisibility = new boolean[nPlayers];
+        elementVisibility = new VisibilityBits(nPlayers);
         switch (visibilityMode) {
             case VISIBLE_TO_ALL:
                 for (int i = 0; i < nPlayers; i++)
@@ -67,8 +92,7 @@ public class PartialObservableDeck<T extends Component> extends Deck<T> {
 
         List<T> visibleComponents = new ArrayList<>(components.size());
         for (int i = 0; i < components.size(); i++) {
-            boolean[] b = elementVisibility.get(i);
-            if (b[playerID])
+            if (elementVisibility.get(i, playerID))
                 visibleComponents.add(i, components.get(i));
             else
                 visibleComponents.add(i, null);
@@ -86,7 +110,7 @@ public class PartialObservableDeck<T extends Component> extends Deck<T> {
     public boolean isComponentVisible(int idx, int playerID) {
         if (playerID < 0 || playerID >= deckVisibility.length)
             throw new IllegalArgumentException("playerID " + playerID + " needs to be in range [0," + (deckVisibility.length - 1) + "]");
-        return elementVisibility.get(idx)[playerID];
+        return elementVisibility.get(idx, playerID);
     }
 
 
@@ -106,7 +130,7 @@ public class PartialObservableDeck<T extends Component> extends Deck<T> {
      */
     public void setComponents(List<T> components, List<boolean[]> visibilityPerPlayer) {
         super.setComponents(components);
-        this.elementVisibility = visibilityPerPlayer;
+        setElementVisibility(visibilityPerPlayer);
     }
 
 
@@ -120,15 +144,23 @@ public class PartialObservableDeck<T extends Component> extends Deck<T> {
             if (b.length != this.deckVisibility.length)
                 throw new IllegalArgumentException("All entries of visibility need to have length " + deckVisibility.length +
                         " but at least one entry is of length " + b.length);
-        this.elementVisibility = visibility;
+        setElementVisibility(visibility);
+    }
+
+    private void setElementVisibility(List<boolean[]> visibility) {
+        elementVisibility = new VisibilityBits(deckVisibility.length);
+        elementVisibility.insert(0, visibility.size(), deckVisibility);
+        for (int i = 0; i < visibility.size(); i++)
+            elementVisibility.set(i, visibility.get(i));
     }
+
     private void applyVisibilityMode() {
         if (getVisibilityMode() == VisibilityMode.TOP_VISIBLE_TO_ALL)
             for (int j = 0; j < deckVisibility.length; j++)
-                elementVisibility.get(0)[j] = true;
+                elementVisibility.set(0, j, true);
         if (getVisibilityMode() == VisibilityMode.BOTTOM_VISIBLE_TO_ALL)
             for (int j = 0; j < deckVisibility.length; j++)
-                elementVisibility.get(components.size() - 1)[j] = true;
+                elementVisibility.set(components.size() - 1, j, true);
     }
 
     /**
@@ -141,7 +173,7 @@ public class PartialObservableDeck<T extends Component> extends Deck<T> {
     public void setVisibilityOfComponent(int index, int playerID, boolean visibility) {
         if (index >= 0 && index < elementVisibility.size()) {
             if (playerID >= 0 && playerID < deckVisibility.length)
-                this.elementVisibility.get(index)[playerID] = visibility;
+                this.elementVisibility.set(index, playerID, visibility);
             else
                 throw new IllegalArgumentException("playerID " + playerID + "needs to be in range [0," + (deckVisibility.length - 1) + "]");
         } else {
@@ -157,7 +189,7 @@ public class PartialObservableDeck<T extends Component> extends Deck<T> {
      */
     public void setVisibilityOfComponent(int index, boolean[] visibility) {
         if (index >= 0 && index < elementVisibility.size() && visibility.length == deckVisibility.length) {
-            this.elementVisibility.set(index, visibility.clone());
+            this.elementVisibility.set(index, visibility);
         } else {
             throw new IllegalArgumentException("component index " + index + " needs to be in range [0," + components.size() + "]");
         }
@@ -185,7 +217,7 @@ public class PartialObservableDeck<T extends Component> extends Deck<T> {
      * @return true if not over capacity, false otherwise.
      */
     public boolean add(T c, int index, boolean[] visibilityPerPlayer) {
-        this.elementVisibility.add(index, visibilityPerPlayer.clone());
+        this.elementVisibility.insert(index, 1, visibilityPerPlayer);
         boolean retValue = super.add(c, index);
         applyVisibilityMode();
         return retValue;
@@ -200,17 +232,10 @@ public class PartialObservableDeck<T extends Component> extends Deck<T> {
      */
     @Override
     public boolean add(Deck<T> d, int index) {
+        this.elementVisibility.insert(index, d.getSize(), deckVisibility);
         if (d instanceof PartialObservableDeck<T> pod) {
-            int length = d.components.size();
-            for (int i = 0; i < length; i++) {
-                // Add in reverse order to keep the order of the deck
-                // this is to ties up with addAll() of components in super.add() a few lines down
-                this.elementVisibility.add(index, pod.elementVisibility.get(length - i - 1).clone());
-            }
-        } else {
-            for (int i = 0; i < d.components.size(); i++) {
-                this.elementVisibility.add(index, deckVisibility.clone());
-            }
+            for (int i = 0; i < pod.getSize(); i++)
+                this.elementVisibility.set(index + i, pod.elementVisibility.get(i));
         }
         boolean retValue = super.add(d, index);
         applyVisibilityMode();
@@ -219,9 +244,7 @@ public class PartialObservableDeck<T extends Component> extends Deck<T> {
 
     @Override
     public boolean add(Collection<T> d, int index) {
-        for (int i = 0; i < d.size(); i++) {
-            this.elementVisibility.add(index, deckVisibility.clone());
-        }
+        this.elementVisibility.insert(index, d.size(), deckVisibility);
         return super.add(d, index);
     }
 
@@ -234,9 +257,7 @@ public class PartialObservableDeck<T extends Component> extends Deck<T> {
     public void setComponents(List<T> components) {
         super.setComponents(components);
         elementVisibility.clear();
-        for (int i = 0; i < components.size(); i++) {
-            elementVisibility.add(deckVisibility.clone());
-        }
+        elementVisibility.insert(0, components.size(), deckVisibility);
         applyVisibilityMode();
     }
 
@@ -290,7 +311,7 @@ public class PartialObservableDeck<T extends Component> extends Deck<T> {
      */
     @Override
     public void shuffle(Random rnd) {
-        elementVisibility.replaceAll(ignored -> deckVisibility.clone());
+        elementVisibility.fill(deckVisibility);
         super.shuffle(rnd);
         applyVisibilityMode();
     }
@@ -301,37 +322,21 @@ public class PartialObservableDeck<T extends Component> extends Deck<T> {
      * @param rnd random number generator to be used in shuffling.
      */
     public void shuffleAndKeepVisibility(Random rnd) {
-        Pair<List<T>, List<boolean[]>> shuffled = shuffleLists(components, elementVisibility, rnd);
-        components = shuffled.a;
-        elementVisibility = shuffled.b;
-        applyVisibilityMode();
-    }
-
-
-    /**
-     * Shuffles a list of components and associated visibility
-     *
-     * @param comps - list of components
-     * @param vis   - associated visibility
-     * @param rnd   - random number generator to be used in shuffling.
-     * @return - both lists shuffled, keeping the mapping from component to visibility at the same index.
-     */
-    private Pair<List<T>, List<boolean[]>> shuffleLists(List<T> comps, List<boolean[]> vis, Random rnd) {
-        List<T> tmp_components = new LinkedList<>();
-        List<boolean[]> tmp_visibility = new LinkedList<>();
-
-        List<Integer> indexList = new ArrayList<>(comps.size());
-        for (int i = 0; i < comps.size(); i++)
+        List<Integer> indexList = new ArrayList<>(components.size());
+        for (int i = 0; i < components.size(); i++)
             indexList.add(i);
         Collections.shuffle(indexList, rnd);
 
-        for (int targetIndex = 0; targetIndex < indexList.size(); targetIndex++) {
-            int sourceIndex = indexList.get(targetIndex);
-            tmp_components.add(targetIndex, comps.get(sourceIndex));
-            tmp_visibility.add(targetIndex, vis.get(sourceIndex));
+        int[] source = new int[indexList.size()];
+        List<T> shuffled = new RingBufferList<>(components.size());
+        for (int targetIndex = 0; targetIndex < source.length; targetIndex++) {
+            source[targetIndex] = indexList.get(targetIndex);
+            shuffled.add(components.get(source[targetIndex]));
         }
-
-        return new Pair<>(tmp_components, tmp_visibility);
+        components = shuffled;
+        invalidateZobristHash();
+        elementVisibility.permute(source);
+        applyVisibilityMode();
     }
 
     /**
@@ -366,12 +371,7 @@ public class PartialObservableDeck<T extends Component> extends Deck<T> {
     @NotNull
     private PartialObservableDeck<T> commonCopy(PartialObservableDeck<T> dp) {
         dp.deckVisibility = deckVisibility.clone();
-
-        ArrayList<boolean[]> newVisibility = new ArrayList<>();
-        for (boolean[] visibility : elementVisibility) {
-            newVisibility.add(visibility.clone());
-        }
-        dp.elementVisibility = newVisibility;
+        dp.elementVisibility = elementVisibility.copy();
 
         return dp;
     }
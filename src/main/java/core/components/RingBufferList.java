@@ -0,0 +1,163 @@
+package core.components;
+
+import java.util.*;
+
+/**
+ * A List backed by a circular array, used as the store for Deck.
+ * Adding or removing at either end (the top of a Deck is index 0) is O(1), as is get(idx) and set(idx);
+ * inserting or removing in the middle moves whichever side of the index is shorter.
+ */
+public class RingBufferList<T> extends AbstractList<T> implements RandomAccess {
+
+    private static final int MIN_CAPACITY = 8;
+
+    private Object[] elements;  // length is always a power of 2, so that indices can be wrapped with a mask
+    private int head;  // position in elements of index 0
+    private int size;
+
+    public RingBufferList() {
+        this(MIN_CAPACITY);
+    }
+
+    public RingBufferList(int initialCapacity) {
+        elements = new Object[capacityFor(initialCapacity)];
+    }
+
+    public RingBufferList(Collection<? extends T> c) {
+        Object[] data = c.toArray();
+        elements = new Object[capacityFor(data.length)];
+        System.arraycopy(data, 0, elements, 0, data.length);
+        size = data.length;
+    }
+
+    private static int capacityFor(int n) {
+        if (n <= MIN_CAPACITY) return MIN_CAPACITY;
+        int capacity = Integer.highestOneBit(n - 1) << 1;
+        if (capacity < 0)
+            throw new IllegalArgumentException("Too many elements: " + n);
+        return capacity;
+    }
+
+    private int slot(int index) {
+        return (head + index) & (elements.length - 1);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        Objects.checkIndex(index, size);
+        return (T) elements[slot(index)];
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T set(int index, T element) {
+        Objects.checkIndex(index, size);
+        int s = slot(index);
+        T old = (T) elements[s];
+        elements[s] = element;
+        return old;
+    }
+
+    @Override
+    public void add(int index, T element) {
+        Objects.checkIndex(index, size + 1);
+        openGap(index, 1);
+        elements[slot(index)] = element;
+    }
+
+    @Override
+    public boolean addAll(int index, Collection<? extends T> c) {
+        Objects.checkIndex(index, size + 1);
+        Object[] data = c.toArray();
+        if (data.length == 0) return false;
+        openGap(index, data.length);
+        for (int i = 0; i < data.length; i++)
+            elements[slot(index + i)] = data[i];
+        return true;
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends T> c) {
+        return addAll(size, c);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T remove(int index) {
+        Objects.checkIndex(index, size);
+        T old = (T) elements[slot(index)];
+        closeGap(index, 1);
+        return old;
+    }
+
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex < toIndex)
+            closeGap(fromIndex, toIndex - fromIndex);
+    }
+
+    @Override
+    public void clear() {
+        modCount++;
+        for (int i = 0; i < size; i++)
+            elements[slot(i)] = null;
+        head = 0;
+        size = 0;
+    }
+
+    /**
+     * Makes room for n elements starting at index, moving the elements before index towards the front or
+     * those after it towards the back, whichever is fewer.
+     */
+    private void openGap(int index, int n) {
+        modCount++;
+        if (size + n > elements.length)
+            grow(size + n);
+        int mask = elements.length - 1;
+        if (index < size - index) {
+            head = (head - n) & mask;
+            for (int i = 0; i < index; i++)
+                elements[slot(i)] = elements[slot(i + n)];
+        } else {
+            for (int i = size - 1; i >= index; i--)
+                elements[slot(i + n)] = elements[slot(i)];
+        }
+        size += n;
+    }
+
+    /**
+     * Removes the n elements starting at index, moving whichever side of the gap is shorter to close it.
+     */
+    private void closeGap(int index, int n) {
+        modCount++;
+        int mask = elements.length - 1;
+        if (index < size - index - n) {
+            for (int i = index - 1; i >= 0; i--)
+                elements[slot(i + n)] = elements[slot(i)];
+            for (int i = 0; i < n; i++)
+                elements[slot(i)] = null;
+            head = (head + n) & mask;
+        } else {
+            for (int i = index + n; i < size; i++)
+                elements[slot(i - n)] = elements[slot(i)];
+            for (int i = size - n; i < size; i++)
+                elements[slot(i)] = null;
+        }
+        size -= n;
+    }
+
+    private void grow(int minCapacity) {
+        Object[] newElements = new Object[capacityFor(minCapacity)];
+        int firstPart = Math.min(size, elements.length - head);
+        System.arraycopy(elements, head, newElements, 0, firstPart);
+        System.arraycopy(elements, 0, newElements, firstPart, size - firstPart);
+        elements = newElements;
+        head = 0;
+    }
+}
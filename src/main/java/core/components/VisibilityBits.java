@@ -0,0 +1,186 @@
+package core.components;
+
+import java.util.Arrays;
+
+/**
+ * Per-element visibility for a PartialObservableDeck, held as one bitset per player (one long for every 64
+ * elements), so that copies are a handful of array clones, and inserting or removing at an index is a shift
+ * of the words above it.
+ * Bits at or above size() are always zero.
+ */
+final class VisibilityBits {
+
+    private final long[][] words;  // [player][word]
+    private int size;
+
+    VisibilityBits(int nPlayers) {
+        words = new long[nPlayers][1];
+    }
+
+    private VisibilityBits(VisibilityBits other) {
+        words = new long[other.words.length][];
+        for (int p = 0; p < words.length; p++)
+            words[p] = other.words[p].clone();
+        size = other.size;
+    }
+
+    VisibilityBits copy() {
+        return new VisibilityBits(this);
+    }
+
+    int size() {
+        return size;
+    }
+
+    int nPlayers() {
+        return words.length;
+    }
+
+    boolean get(int index, int player) {
+        checkIndex(index);
+        return (words[player][index >>> 6] & (1L << index)) != 0;
+    }
+
+    boolean[] get(int index) {
+        checkIndex(index);
+        boolean[] retValue = new boolean[words.length];
+        for (int p = 0; p < words.length; p++)
+            retValue[p] = (words[p][index >>> 6] & (1L << index)) != 0;
+        return retValue;
+    }
+
+    void set(int index, int player, boolean visible) {
+        checkIndex(index);
+        if (visible)
+            words[player][index >>> 6] |= 1L << index;
+        else
+            words[player][index >>> 6] &= ~(1L << index);
+    }
+
+    void set(int index, boolean[] visibility) {
+        for (int p = 0; p < words.length; p++)
+            set(index, p, visibility[p]);
+    }
+
+    /**
+     * Inserts count elements at index, all with the same visibility.
+     */
+    void insert(int index, int count, boolean[] visibility) {
+        if (index < 0 || index > size)
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + size);
+        ensureCapacity(size + count);
+        for (int p = 0; p < words.length; p++) {
+            for (int i = 0; i < count; i++)
+                shiftUp(words[p], index, size + i);
+        }
+        size += count;
+        for (int i = 0; i < count; i++)
+            set(index + i, visibility);
+    }
+
+    void remove(int index) {
+        checkIndex(index);
+        for (long[] w : words)
+            shiftDown(w, index);
+        size--;
+    }
+
+    void clear() {
+        for (long[] w : words)
+            Arrays.fill(w, 0L);
+        size = 0;
+    }
+
+    /**
+     * Sets every element to the same visibility.
+     */
+    void fill(boolean[] visibility) {
+        for (int p = 0; p < words.length; p++) {
+            long[] w = words[p];
+            Arrays.fill(w, 0L);
+            if (visibility[p]) {
+                for (int i = 0; i < size >>> 6; i++)
+                    w[i] = -1L;
+                if ((size & 63) != 0)
+                    w[size >>> 6] = (1L << size) - 1;
+            }
+        }
+    }
+
+    /**
+     * Reorders the elements, so that the new element i has the visibility of the old element source[i].
+     */
+    void permute(int[] source) {
+        for (int p = 0; p < words.length; p++) {
+            long[] old = words[p];
+            long[] w = new long[old.length];
+            for (int i = 0; i < size; i++) {
+                if ((old[source[i] >>> 6] & (1L << source[i])) != 0)
+                    w[i >>> 6] |= 1L << i;
+            }
+            words[p] = w;
+        }
+    }
+
+    /**
+     * @return the indices of all elements not visible to the player, in increasing order.
+     */
+    int[] hiddenIndices(int player) {
+        long[] w = words[player];
+        int[] retValue = new int[size - visibleCount(player)];
+        int n = 0;
+        for (int i = 0; i * 64 < size; i++) {
+            long hidden = ~w[i];
+            if ((i + 1) * 64 > size)
+                hidden &= (1L << size) - 1;
+            while (hidden != 0) {
+                retValue[n++] = i * 64 + Long.numberOfTrailingZeros(hidden);
+                hidden &= hidden - 1;
+            }
+        }
+        return retValue;
+    }
+
+    int visibleCount(int player) {
+        int count = 0;
+        for (long w : words[player])
+            count += Long.bitCount(w);
+        return count;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size)
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + size);
+    }
+
+    private void ensureCapacity(int newSize) {
+        int needed = (newSize + 63) >>> 6;
+        if (words.length > 0 && needed > words[0].length) {
+            int length = Math.max(needed, words[0].length * 2);
+            for (int p = 0; p < words.length; p++)
+                words[p] = Arrays.copyOf(words[p], length);
+        }
+    }
+
+    // Moves every bit from index upwards by one place, leaving a zero at index. There must be room for length + 1.
+    private void shiftUp(long[] w, int index, int length) {
+        int first = index >>> 6;
+        int last = length >>> 6;
+        for (int i = last; i > first; i--)
+            w[i] = (w[i] << 1) | (w[i - 1] >>> 63);
+        long below = (1L << index) - 1;
+        w[first] = (w[first] & below) | ((w[first] & ~below) << 1);
+    }
+
+    // Removes the bit at index, moving every bit above it down by one place
+    private void shiftDown(long[] w, int index) {
+        int first = index >>> 6;
+        int last = (size - 1) >>> 6;
+        long below = (1L << index) - 1;
+        w[first] = (w[first] & below) | ((w[first] >>> 1) & ~below);
+        for (int i = first; i < last; i++) {
+            w[i] |= w[i + 1] << 63;
+            w[i + 1] >>>= 1;
+        }
+    }
+}
@@ -3,6 +3,8 @@ package core.interfaces;
 
 import core.AbstractGameState;
 
+import java.util.List;
+
 public interface IStateHeuristic {
 
     /**
@@ -14,6 +16,21 @@ public interface IStateHeuristic {
      */
     double evaluateState(AbstractGameState gs, int playerId);
 
+    /**
+     * Scores several states at once, for the same player. This is used when many states need to be evaluated
+     * together (as the leaves of MCTS with Leaf parallelism), so that a heuristic that is cheaper to apply to a batch
+     * (a learned model, for example) can override it. By default each state is evaluated in turn.
+     * @param states - game states to evaluate and score.
+     * @param playerId - id of the player we're evaluating the game for.
+     * @return - value of each of the given states, in the same order.
+     */
+    default double[] evaluateStates(List<? extends AbstractGameState> states, int playerId) {
+        double[] retValue = new double[states.size()];
+        for (int i = 0; i < retValue.length; i++)
+            retValue[i] = evaluateState(states.get(i), playerId);
+        return retValue;
+    }
+
     default double minValue() {
         return -1;
     }
@@ -1,9 +1,15 @@
 package core.interfaces;
 
 import core.AbstractGameState;
+import utilities.Zobrist;
 
 public interface IStateKey {
 
+    // The 64-bit hash of the state from AbstractGameState.getZobristHash(), which is O(1) per component for games
+    // that maintain it incrementally. This is only suitable as an MCGS key for games that override getZobristHash()
+    // (such as LoveLetter): the default is a mix of hashCode(), and so has only 32 bits, with far more collisions
+    IStateKey zobrist = (state, playerId) -> Zobrist.key(playerId, state.getZobristHash());
+
     default Object getKey(AbstractGameState state) {
         return getKey(state, state.getCurrentPlayer());
     }
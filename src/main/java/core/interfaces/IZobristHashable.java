@@ -0,0 +1,14 @@
+package core.interfaces;
+
+/**
+ * Implemented by components that can supply a 64-bit hash of their current contents cheaply, usually because they
+ * keep it up to date as they change rather than recomputing it (see Deck).
+ * These are combined into a hash of the whole game state by AbstractGameState.getZobristHash().
+ */
+public interface IZobristHashable {
+
+    /**
+     * @return a 64-bit hash of the current contents. Equal objects must return equal values.
+     */
+    long getZobristHash();
+}
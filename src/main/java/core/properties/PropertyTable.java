@@ -0,0 +1,181 @@
+package core.properties;
+
+import java.util.*;
+
+/**
+ * Maps the integer hash keys of properties to Property objects for a Component.
+ * This is an open-addressing table on primitive int keys, so get(int) and put(int, Property) do not box the key
+ * or allocate map entries, and copy() is two array clones plus a copy of each Property.
+ * It is also a Map<Integer, Property>, for code that wants the general view.
+ */
+public class PropertyTable extends AbstractMap<Integer, Property> {
+
+    private static final int MIN_CAPACITY = 8;
+
+    private int[] keys;
+    private Property[] values;  // null marks an empty slot, so any int is a valid key
+    private int size;
+
+    public PropertyTable() {
+        keys = new int[MIN_CAPACITY];
+        values = new Property[MIN_CAPACITY];
+    }
+
+    private PropertyTable(int[] keys, Property[] values, int size) {
+        this.keys = keys;
+        this.values = values;
+        this.size = size;
+    }
+
+    private int home(int key) {
+        int h = key * 0x9E3779B9;
+        return (h ^ (h >>> 16)) & (keys.length - 1);
+    }
+
+    private int slot(int key) {
+        int mask = keys.length - 1;
+        int i = home(key);
+        while (values[i] != null && keys[i] != key)
+            i = (i + 1) & mask;
+        return i;
+    }
+
+    public Property get(int key) {
+        return values[slot(key)];
+    }
+
+    public boolean containsKey(int key) {
+        return values[slot(key)] != null;
+    }
+
+    public Property put(int key, Property value) {
+        Objects.requireNonNull(value);
+        int i = slot(key);
+        Property old = values[i];
+        if (old == null) {
+            if ((size + 1) * 2 > keys.length) {
+                resize(keys.length * 2);
+                i = slot(key);
+            }
+            keys[i] = key;
+            size++;
+        }
+        values[i] = value;
+        return old;
+    }
+
+    public Property remove(int key) {
+        int i = slot(key);
+        Property old = values[i];
+        if (old == null) return null;
+        // backward-shift deletion, so that no tombstones are needed
+        int mask = keys.length - 1;
+        int j = i;
+        while (true) {
+            j = (j + 1) & mask;
+            if (values[j] == null) break;
+            if (((j - home(keys[j])) & mask) >= ((j - i) & mask)) {
+                keys[i] = keys[j];
+                values[i] = values[j];
+                i = j;
+            }
+        }
+        values[i] = null;
+        size--;
+        return old;
+    }
+
+    /**
+     * @return a new table with a copy of every Property
+     */
+    public PropertyTable copy() {
+        Property[] newValues = new Property[values.length];
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] != null)
+                newValues[i] = values[i].copy();
+        }
+        return new PropertyTable(keys.clone(), newValues, size);
+    }
+
+    private void resize(int capacity) {
+        int[] oldKeys = keys;
+        Property[] oldValues = values;
+        keys = new int[capacity];
+        values = new Property[capacity];
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldValues[i] != null) {
+                int s = slot(oldKeys[i]);
+                keys[s] = oldKeys[i];
+                values[s] = oldValues[i];
+            }
+        }
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(values, null);
+        size = 0;
+    }
+
+    @Override
+    public Property get(Object key) {
+        return key instanceof Integer k ? get(k.intValue()) : null;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return key instanceof Integer k && containsKey(k.intValue());
+    }
+
+    @Override
+    public Property put(Integer key, Property value) {
+        return put(key.intValue(), value);
+    }
+
+    @Override
+    public Property remove(Object key) {
+        return key instanceof Integer k ? remove(k.intValue()) : null;
+    }
+
+    @Override
+    public Set<Entry<Integer, Property>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Entry<Integer, Property>> iterator() {
+                return new Iterator<>() {
+                    int next = advance(0);
+                    int last = -1;
+
+                    private int advance(int from) {
+                        while (from < values.length && values[from] == null)
+                            from++;
+                        return from;
+                    }
+
+                    @Override
+                    public boolean hasNext() {
+                        return next < values.length;
+                    }
+
+                    @Override
+                    public Entry<Integer, Property> next() {
+                        if (!hasNext()) throw new NoSuchElementException();
+                        last = next;
+                        next = advance(next + 1);
+                        return new SimpleImmutableEntry<>(keys[last], values[last]);
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+}
@@ -137,7 +137,7 @@ public abstract class TurnOrder {
 
         gameState.getPlayerTimer()[getCurrentPlayer(gameState)].incrementTurn();
 
-        listeners.forEach(l -> l.onEvent(Event.createEvent(Event.GameEvent.TURN_OVER, gameState,getCurrentPlayer(gameState))));
+        gameState.sendEvent(listeners, Event.GameEvent.TURN_OVER, null, getCurrentPlayer(gameState));
 
         turnCounter++;
         if (turnCounter >= nPlayers) endRound(gameState);
@@ -149,13 +149,13 @@ public abstract class TurnOrder {
     // helper function to avoid time-consuming string manipulations if the message is not actually
     // going to be logged anywhere
     public void logEvent(Supplier<String> eventText, AbstractGameState state) {
-        if (listeners.isEmpty() && !state.getCoreGameParameters().recordEventHistory)
+        if (!state.getCoreGameParameters().recordEventHistory && !IGameListener.anyListens(listeners, Event.GameEvent.GAME_EVENT))
             return; // to avoid expensive string manipulations
         logEvent(eventText.get(), state);
     }
     public void logEvent(String eventText, AbstractGameState state) {
-        LogEvent logAction = new LogEvent(eventText);
-        listeners.forEach(l -> l.onEvent(Event.createEvent(Event.GameEvent.GAME_EVENT, state, logAction)));
+        if (IGameListener.anyListens(listeners, Event.GameEvent.GAME_EVENT))
+            state.sendEvent(listeners, Event.GameEvent.GAME_EVENT, new LogEvent(eventText), -1);
         if (state.getCoreGameParameters().recordEventHistory) {
             state.recordHistory(eventText);
         }
@@ -174,7 +174,7 @@ public abstract class TurnOrder {
 
         gameState.getPlayerTimer()[getCurrentPlayer(gameState)].incrementRound();
 
-        listeners.forEach(l -> l.onEvent(Event.createEvent(Event.GameEvent.ROUND_OVER, gameState, getCurrentPlayer(gameState))));
+        gameState.sendEvent(listeners, Event.GameEvent.ROUND_OVER, null, getCurrentPlayer(gameState));
         if (gameState.getCoreGameParameters().recordEventHistory) {
             gameState.recordHistory(Event.GameEvent.ROUND_OVER.name());
         }
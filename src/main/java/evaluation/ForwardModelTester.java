@@ -24,6 +24,13 @@ public class ForwardModelTester {
      * <p>
      * This is a useful way of checking automatically if some copy() is not doing a full deep copy, as in this case
      * an action may (incorrectly) change the state of the historic game state from which it was copied.
+     * v) We also apply a random action to a further copy, and check that the original state is unchanged. This
+     * catches changes that leak from a copy back into the original (as can happen in copyOnWrite mode if a
+     * Component is modified directly rather than through its Deck).
+     * <p>
+     * The 'copyOnWrite' argument runs the game with CoreParameters.copyOnWrite set.
+     * The 'nDecisions' argument stops each game after that many decisions, for games that take too long to play
+     * to the end in a unit test.
      */
 
     List<Integer> hashCodes = new ArrayList<>();
@@ -32,6 +39,8 @@ public class ForwardModelTester {
     List<AbstractGameState> stateHistory = new ArrayList<>();
     List<AbstractAction> actionHistory = new ArrayList<>();
     int decision = 0;
+    // used to pick the action applied to a copy (separate so that the seeds of the games are unaffected)
+    Random copyRnd = new Random(0);
 
     public static void main(String... args) {
         new ForwardModelTester(args);
@@ -47,9 +56,12 @@ public class ForwardModelTester {
         String gameToRun = Utils.getArg(args, "game", "MonopolyDeal");
         int nPlayers = Utils.getArg(args, "nPlayers", 2);
         boolean verbose = Arrays.asList(args).contains("verbose");
+        boolean copyOnWrite = Arrays.asList(args).contains("copyOnWrite");
+        int maxDecisions = Utils.getArg(args, "nDecisions", Integer.MAX_VALUE);
         GameType gt = GameType.valueOf(gameToRun);
         long seed = Utils.getArg(args, "seed", System.currentTimeMillis());
         Game game = params == null ? gt.createGameInstance(nPlayers, seed) : gt.createGameInstance(nPlayers, params);
+        game.getCoreParameters().copyOnWrite = copyOnWrite;
         List<AbstractPlayer> allPlayers = new ArrayList<>();
         AbstractPlayer agent = PlayerFactory.createPlayer(agentToPlay);
         for (int i = 0; i < nPlayers; i++)
@@ -115,7 +127,9 @@ public class ForwardModelTester {
                     System.out.printf("\tOrig: %s%n\tCopy: %s%n", game.getGameState().toString(), stateCopy);
                     throw new AssertionError("Copy of game state should have same hashcode as original");
                 }
-                allFine = checkHistory();
+                if (stateCopy.getZobristHash() != game.getGameState().getZobristHash())
+                    throw new AssertionError("Copy of game state should have same Zobrist hash as original");
+                allFine = checkHistory() && checkCopyIsIndependent(game);
                 int player = game.getGameState().getCurrentPlayer();
                 int currentRound = game.getGameState().getRoundCounter();
                 AbstractAction action = game.oneAction();
@@ -124,10 +138,30 @@ public class ForwardModelTester {
                 if (verbose)
                     System.out.printf("Decision %d made by player %d in Round %d (%s)%n", decision, player, currentRound, action);
 
-            } while (allFine && game.getGameState().isNotTerminal());
+            } while (allFine && game.getGameState().isNotTerminal() && decision < maxDecisions);
         }
     }
 
+    private boolean checkCopyIsIndependent(Game game) {
+        // Here we apply a random action to a copy of the current state, and check the original is unchanged
+        AbstractGameState original = game.getGameState();
+        int originalHash = original.hashCode();
+        AbstractGameState copy = original.copy();
+        AbstractForwardModel fm = game.getForwardModel();
+        List<AbstractAction> actions = fm.computeAvailableActions(copy);
+        if (!actions.isEmpty()) {
+            AbstractAction action = actions.get(copyRnd.nextInt(actions.size()));
+            fm.next(copy, action);
+            if (original.hashCode() != originalHash) {
+                String error = String.format("Applying %s to a copy after decision %d changed the original - old/new hashcodes are %d/%d",
+                        action, decision, originalHash, original.hashCode());
+                System.out.println(error);
+                throw new AssertionError(error);
+            }
+        }
+        return true;
+    }
+
     private boolean checkHistory() {
         // Here we run through the history of game state to make sure that their hashcodes are unchanged
         for (int i = 0; i < stateHistory.size(); i++) {
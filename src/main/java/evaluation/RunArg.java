@@ -35,10 +35,25 @@ public enum RunArg {
             "\t If false, then each player will be assigned a player type independently.",
             true,
             new Usage[]{Usage.RunGames, Usage.ParameterSearch}),
+    checkpointPeriod("(Optional) If zero or more, then the progress of each tournament is saved to a checkpoint file\n" +
+            "\t in destDir at most every this many seconds (0 saves after every matchup), and when it finishes.\n" +
+            "\t Use with 'resume' to restart a tournament that was stopped. Defaults to -1 (no checkpoints).",
+            -1,
+            new Usage[]{Usage.RunGames, Usage.SkillLadder}),
+    confidence("For 'adaptive' mode, the confidence required in the ranking of the agents before the tournament\n" +
+            "\t stops (default is 0.95). This is shared between all the comparisons of adjacent agents in the ranking.",
+            0.95,
+            new Usage[]{Usage.RunGames}),
     config("The location of a JSON file from which to read the configuration. \n" +
             "\t If this is specified, then all other arguments are ignored.",
             "",
             new Usage[]{Usage.RunGames, Usage.ParameterSearch}),
+    decisionTime("(Optional) If greater than zero, then each decision is made on a separate (virtual where available)\n" +
+            "\t thread, and the game waits at most this many milliseconds of wall-clock time for it. Players that support\n" +
+            "\t a budget are then interrupted and play their best action so far; other players time out, and play a\n" +
+            "\t random action (or are disqualified if the game parameters say so). Default is 0 (no limit).",
+            0,
+            new Usage[]{Usage.RunGames}),
     destDir("The directory to which the results will be written. Defaults to 'metrics/out'.\n" +
             "\t If (and only if) this is being run for multiple games/player counts, then a subdirectory\n" +
             "\t will be created for each game, and then within that for  each player count combination.",
@@ -118,7 +133,7 @@ public enum RunArg {
             "\tFor NTBEA this will be used as a final tournament between the recommended agents from each run.",
             1,
             new Usage[]{Usage.RunGames, Usage.ParameterSearch, Usage.SkillLadder}),
-    mode("exhaustive|exhaustiveSP|random|sequential|fixed\n" +
+    mode("exhaustive|exhaustiveSP|random|sequential|fixed|adaptive\n" +
             "\t 'exhaustive' will iterate exhaustively through every possible permutation: \n" +
             "\t every possible player in every possible position, and run an equal number of games'\n" +
             "\t for each. This can be unworkable for a given matchup budget for a large number of players.\n" +
@@ -129,6 +144,9 @@ public enum RunArg {
             "\t 'sequential' will run tournaments on a ONE_VS_ALL basis between each pair of agents.\n" +
             "\t 'fixed' will run a fixed tournament, where the same agents occupy the same position for all games.\n" +
             "\t In this mode the playerDirectory must contain exactly one json file for each position. These will be sorted alphabetically.\n" +
+            "\t 'adaptive' plays rounds of the 'exhaustive' permutations, but only those with an agent whose position in the\n" +
+            "\t ranking is still uncertain, and stops once the ranking is clear at the required 'confidence', or once\n" +
+            "\t it has played as many games as 'exhaustive' would have done.\n" +
             "\t If a focusPlayer is provided, then 'mode' is ignored.",
             "random",
             new Usage[]{Usage.RunGames}),
@@ -138,6 +156,17 @@ public enum RunArg {
     nPlayers("The number of players in each game. Overrides playerRange.",
             -1,
             new Usage[]{Usage.ParameterSearch, Usage.RunGames}),
+    nProcesses("The number of worker JVM processes used to run the games of a tournament (default is 0).\n" +
+            "\t If greater than 1, then each matchup is sent to a worker process, which streams back the results.\n" +
+            "\t Results and listener outputs are merged in the same order as a sequential run. The workers rebuild\n" +
+            "\t the agents and listeners from this configuration, so this is only available from RunGames.",
+            0,
+            new Usage[]{Usage.RunGames}),
+    nThreads("The number of worker threads used to run the games of a tournament (default is 1).\n" +
+            "\t If greater than 1, then each thread has its own Game instance and matchups are run concurrently.\n" +
+            "\t Results are merged in the same order as a sequential run, so are identical for the same seeds.",
+            1,
+            new Usage[]{Usage.RunGames}),
     discretisation("The number of discretisation levels to use in NTBEAFunctions. Default is 10.",
             10,
             new Usage[]{Usage.ParameterSearch}),
@@ -169,6 +198,17 @@ public enum RunArg {
             "\t Defaults to the end of the tournament (-1)",
             -1,
             new Usage[]{Usage.RunGames}),
+    resume("(Optional) If true, then each tournament with a checkpoint file (see 'checkpointPeriod') continues\n" +
+            "\t from it, skipping the games already played, and gives the same final results as an uninterrupted run.\n" +
+            "\t Tournaments that had finished are not run again. The configuration must be unchanged. Default is false.",
+            false,
+            new Usage[]{Usage.RunGames, Usage.SkillLadder}),
+    reuseInitialState("(Optional) For StableNTBEA only. If true (default is false), then each game after the first\n" +
+            "\t in a trial (which all have the same seed) starts from a copy of the first game's initial state, rather\n" +
+            "\t than running setup again. Only use this for games whose state copies exactly; for some (e.g. Wonders7,\n" +
+            "\t Catan) the games then diverge from those set up from scratch.",
+            false,
+            new Usage[]{Usage.ParameterSearch}),
     searchSpace("The json-format file of the search space to use. No default.",
             "",
             new Usage[]{Usage.ParameterSearch}),
@@ -217,7 +257,12 @@ public enum RunArg {
             new Usage[]{Usage.ParameterSearch}),
     verbose("If true, then the result of each game is reported. Default is false.",
             false,
-            new Usage[]{Usage.RunGames, Usage.ParameterSearch});
+            new Usage[]{Usage.RunGames, Usage.ParameterSearch}),
+    workerHosts("(Optional) A pipe-delimited list of hosts on which to start the nProcesses worker processes,\n" +
+            "\t which are shared between the hosts in turn. Workers on other hosts are started with ssh, and\n" +
+            "\t need the same java installation and classpath as this one. Defaults to 'localhost'.",
+            "localhost",
+            new Usage[]{Usage.RunGames});
 
     public final String helpText;
     public final Object defaultValue;
@@ -63,25 +63,9 @@ public class RunGames implements IGameRunner {
             throw new IllegalArgumentException("Cannot yet provide a gameParams argument if running multiple games");
 
         // 2. Setup
-        LinkedList<AbstractPlayer> agents = new LinkedList<>();
-        if (!runGames.config.get(playerDirectory).equals("")) {
-            agents.addAll(PlayerFactory.createPlayers((String) runGames.config.get(playerDirectory)));
-        } else {
-            agents.add(new MCTSPlayer());
-//            agents.add(new BasicMCTSPlayer());
-            agents.add(new RandomPlayer());
-//            agents.add(new RMHCPlayer());
-//            agents.add(new OSLAPlayer());
-        }
+        LinkedList<AbstractPlayer> agents = createAgents(runGames.config);
         runGames.agents = agents;
 
-        if (!runGames.config.get(focusPlayer).equals("")) {
-            // if a focus Player is provided, then this override some other settings
-            runGames.config.put(mode, "onevsall");
-            AbstractPlayer fp = PlayerFactory.createPlayer((String) runGames.config.get(focusPlayer));
-            agents.add(0, fp);  // convention is that they go first in the list of agents
-        }
-
         runGames.timeDir = new SimpleDateFormat("yyyy-MM-dd_HH-mm-ss").format(new Date());
 
         // 3. Run!
@@ -94,6 +78,31 @@ public class RunGames implements IGameRunner {
     }
 
 
+    /**
+     * Creates the agents for the tournament from the playerDirectory and focusPlayer settings.
+     * This is also used by the worker processes of a distributed tournament, which must end up with the same agents.
+     */
+    public static LinkedList<AbstractPlayer> createAgents(Map<RunArg, Object> config) {
+        LinkedList<AbstractPlayer> agents = new LinkedList<>();
+        if (!config.get(playerDirectory).equals("")) {
+            agents.addAll(PlayerFactory.createPlayers((String) config.get(playerDirectory)));
+        } else {
+            agents.add(new MCTSPlayer());
+//            agents.add(new BasicMCTSPlayer());
+            agents.add(new RandomPlayer());
+//            agents.add(new RMHCPlayer());
+//            agents.add(new OSLAPlayer());
+        }
+
+        if (!config.get(focusPlayer).equals("")) {
+            // if a focus Player is provided, then this override some other settings
+            config.put(mode, "onevsall");
+            AbstractPlayer fp = PlayerFactory.createPlayer((String) config.get(focusPlayer));
+            agents.add(0, fp);  // convention is that they go first in the list of agents
+        }
+        return agents;
+    }
+
     @Override
     public void run() {
         // Now we loop over each game and player count combination
@@ -108,6 +117,8 @@ public class RunGames implements IGameRunner {
                 AbstractParameters params = config.get(gameParams).equals("") ? null : AbstractParameters.createFromFile(gameType, (String) config.get(gameParams));
 
                 RoundRobinTournament tournament = new RoundRobinTournament(agents, gameType, playerCount, params, config);
+                tournament.setCheckpointFile(config.get(destDir) + File.separator +
+                        String.format("Checkpoint_%s_%dP.bin", gameName, playerCount));
 
                 // Add listeners
                 //noinspection unchecked
@@ -0,0 +1,162 @@
+package evaluation;
+
+import core.AbstractPlayer;
+import core.CoreConstants;
+import core.CoreParameters;
+import core.Game;
+import games.GameType;
+import players.PlayerFactory;
+import utilities.Utils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs many games of one GameType as fast as possible, to measure the raw speed of the game implementation
+ * rather than to evaluate agents (for which see RunGames).
+ * <p>
+ * Games are played on all available cores, each thread with its own Game and players. No listeners are attached, and
+ * verbose output and event history are turned off, with the history of each state reduced to historyMode (NONE by
+ * default). At the end the number of games and actions per second are reported, with the mean time per action taken to
+ * copy the state, compute the available actions, decide (agent) and apply the action (next).
+ * <p>
+ * Arguments (all optional): game=TicTacToe nPlayers=2 nGames=1000 agent=random nThreads=[all cores] seed=[time]
+ * warmUp=0 historyMode=NONE. The agent is anything that PlayerFactory.createPlayer() accepts, so cheap agents such
+ * as 'osla' can be used as well as 'random'. The warmUp games are played by each thread before timing starts.
+ */
+public class Simulate {
+
+    public static void main(String[] args) {
+        if (Arrays.asList(args).contains("--help") || Arrays.asList(args).contains("-h")) {
+            System.out.println("Arguments: game=TicTacToe nPlayers=2 nGames=1000 agent=random nThreads=<all cores> " +
+                    "seed=<time> warmUp=0 historyMode=NONE|COMPACT|FULL");
+            return;
+        }
+        GameType gameType = GameType.valueOf(Utils.getArg(args, "game", "TicTacToe"));
+        int nPlayers = Utils.getArg(args, "nPlayers", 2);
+        int nGames = Utils.getArg(args, "nGames", 1000);
+        String agent = Utils.getArg(args, "agent", "random");
+        int nThreads = Utils.getArg(args, "nThreads", Runtime.getRuntime().availableProcessors());
+        long seed = Utils.getArg(args, "seed", System.currentTimeMillis());
+        int warmUp = Utils.getArg(args, "warmUp", 0);
+        CoreConstants.HistoryMode historyMode = CoreConstants.HistoryMode.valueOf(Utils.getArg(args, "historyMode", "NONE"));
+
+        Simulate simulate = new Simulate(gameType, nPlayers, agent, historyMode);
+        if (warmUp > 0)
+            simulate.run(warmUp * nThreads, nThreads, seed - warmUp * nThreads);
+        System.out.println(simulate.run(nGames, nThreads, seed));
+    }
+
+    /**
+     * The totals over all the games of a run. Times are in nanoseconds.
+     */
+    public record Result(GameType gameType, int nGames, long nActions, long nDecisions, double elapsedTime,
+                         double copyTime, double actionComputeTime, double agentTime, double nextTime) {
+
+        public double gamesPerSecond() {
+            return nGames / elapsedTime * 1e9;
+        }
+
+        public double actionsPerSecond() {
+            return nActions / elapsedTime * 1e9;
+        }
+
+        @Override
+        public String toString() {
+            // The means are per action in microseconds, apart from agent time which is per decision
+            return String.format("%s: %d games, %d actions in %.2f s%n" +
+                            "\t%.1f games/s, %.1f actions/s (%.1f actions per game)%n" +
+                            "\tMean copy %.2f us, compute actions %.2f us, agent %.2f us, next %.2f us",
+                    gameType.name(), nGames, nActions, elapsedTime / 1e9,
+                    gamesPerSecond(), actionsPerSecond(), nActions / (double) nGames,
+                    copyTime / nActions / 1e3, actionComputeTime / nActions / 1e3,
+                    nDecisions == 0 ? 0.0 : agentTime / nDecisions / 1e3, nextTime / nActions / 1e3);
+        }
+    }
+
+    private final GameType gameType;
+    private final int nPlayers;
+    private final String agent;
+    private final CoreConstants.HistoryMode historyMode;
+
+    public Simulate(GameType gameType, int nPlayers, String agent, CoreConstants.HistoryMode historyMode) {
+        if (nPlayers < gameType.getMinPlayers() || nPlayers > gameType.getMaxPlayers())
+            throw new IllegalArgumentException(gameType.name() + " cannot be played by " + nPlayers + " players");
+        this.gameType = gameType;
+        this.nPlayers = nPlayers;
+        this.agent = agent;
+        this.historyMode = historyMode;
+    }
+
+    /**
+     * Plays nGames games, with seeds seed, seed + 1, ... shared out between nThreads threads
+     */
+    public Result run(int nGames, int nThreads, long seed) {
+        nThreads = Math.max(1, Math.min(nThreads, nGames));
+        AtomicInteger nextGame = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(nThreads, r -> {
+            Thread thread = new Thread(r, "Simulate");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            long start = System.nanoTime();
+            List<Future<double[]>> futures = new ArrayList<>();
+            for (int t = 0; t < nThreads; t++)
+                futures.add(executor.submit(() -> playGames(nextGame, nGames, seed)));
+            double[] totals = new double[6];
+            for (Future<double[]> future : futures) {
+                double[] threadTotals = future.get();
+                for (int i = 0; i < totals.length; i++)
+                    totals[i] += threadTotals[i];
+            }
+            double elapsed = System.nanoTime() - start;
+            return new Result(gameType, nGames, (long) totals[0], (long) totals[1], elapsed,
+                    totals[2], totals[3], totals[4], totals[5]);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while simulating " + gameType.name(), e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException re)
+                throw re;
+            if (e.getCause() instanceof Error err)
+                throw err;
+            throw new RuntimeException(e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    // Plays games until nGames have been started over all threads, and returns the totals of this thread in the
+    // order of the Result fields
+    private double[] playGames(AtomicInteger nextGame, int nGames, long seed) {
+        Game game = gameType.createGameInstance(nPlayers, seed);
+        CoreParameters coreParameters = game.getCoreParameters();
+        coreParameters.verbose = false;
+        coreParameters.recordEventHistory = false;
+        coreParameters.historyMode = historyMode;
+        AbstractPlayer prototype = PlayerFactory.createPlayer(agent);
+        List<AbstractPlayer> players = new ArrayList<>();
+        for (int p = 0; p < nPlayers; p++)
+            players.add(prototype.copy());
+
+        double[] totals = new double[6];
+        for (int g = nextGame.getAndIncrement(); g < nGames; g = nextGame.getAndIncrement()) {
+            game.reset(players, seed + g);
+            game.run();
+            totals[0] += game.getTick();
+            totals[1] += game.getNDecisions();
+            totals[2] += game.getTotalCopyTime();
+            totals[3] += game.getTotalActionComputeTime();
+            totals[4] += game.getTotalAgentTime();
+            totals[5] += game.getTotalNextTime();
+        }
+        return totals;
+    }
+}
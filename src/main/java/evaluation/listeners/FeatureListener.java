@@ -2,6 +2,7 @@ package evaluation.listeners;
 
 import core.*;
 import core.actions.AbstractAction;
+import core.interfaces.IGameEvent;
 import core.interfaces.IStatisticLogger;
 import evaluation.loggers.FileStatsLogger;
 import evaluation.metrics.Event;
@@ -24,6 +25,7 @@ public abstract class FeatureListener implements IGameListener {
 
     List<StateFeatureListener.LocalDataWrapper> currentData = new ArrayList<>();
     Event.GameEvent frequency;
+    Set<IGameEvent> eventTypes;
     boolean currentPlayerOnly;
     IStatisticLogger logger;
     Game game;
@@ -31,6 +33,12 @@ public abstract class FeatureListener implements IGameListener {
     protected FeatureListener(Event.GameEvent frequency, boolean currentPlayerOnly) {
         this.currentPlayerOnly = currentPlayerOnly;
         this.frequency = frequency;
+        this.eventTypes = new HashSet<>(Arrays.asList(frequency, Event.GameEvent.GAME_OVER));
+    }
+
+    @Override
+    public Set<IGameEvent> getEventTypes() {
+        return eventTypes;
     }
 
     public void setLogger(IStatisticLogger logger) {
@@ -1,6 +1,7 @@
 package evaluation.listeners;
 
 import core.Game;
+import core.interfaces.IGameEvent;
 import evaluation.metrics.AbstractMetric;
 import evaluation.metrics.Event;
 import evaluation.metrics.GameMetrics;
@@ -12,6 +13,7 @@ import java.io.File;
 import java.lang.reflect.Constructor;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Set;
 
 public interface IGameListener {
@@ -24,6 +26,28 @@ public interface IGameListener {
      */
     void onEvent(Event event);
 
+    /**
+     * The types of event this listener needs. Events of any other type are not sent to this listener, and are
+     * not created at all if no listener needs them (see AbstractGameState.sendEvent()).
+     *
+     * @return the event types needed, or null (the default) for every event.
+     */
+    default Set<IGameEvent> getEventTypes() {
+        return null;
+    }
+
+    default boolean listens(IGameEvent type) {
+        Set<IGameEvent> types = getEventTypes();
+        return types == null || types.contains(type);
+    }
+
+    static boolean anyListens(List<IGameListener> listeners, IGameEvent type) {
+        for (int i = 0; i < listeners.size(); i++)
+            if (listeners.get(i).listens(type))
+                return true;
+        return false;
+    }
+
 
     /**
      * This is called when all processing is finished, for example after running a sequence of games
@@ -37,6 +61,30 @@ public interface IGameListener {
         return true;
     }
 
+    /**
+     * A distributed tournament plays its games in worker processes, each with its own copy of this listener.
+     * If this returns true, then the data recorded by those copies is passed back to this listener
+     * with takeRecordedData() and mergeRecordedData(), so that report() gives the same output as if all the
+     * games had been played here. Otherwise the tournament is run in a single process.
+     */
+    default boolean canMergeRecordedData() {
+        return false;
+    }
+
+    /**
+     * @return the data recorded since the last call (or since init()), which is then discarded by this listener
+     */
+    default byte[] takeRecordedData() {
+        throw new UnsupportedOperationException(getClass().getSimpleName() + " cannot pass on its recorded data");
+    }
+
+    /**
+     * Adds data recorded by another copy of this listener, as returned by its takeRecordedData()
+     */
+    default void mergeRecordedData(byte[] data) {
+        throw new UnsupportedOperationException(getClass().getSimpleName() + " cannot merge recorded data");
+    }
+
     void setGame(Game game);
 
     Game getGame();
@@ -9,7 +9,7 @@ import evaluation.metrics.IMetricsCollection;
 import evaluation.metrics.tablessaw.DataTableSaw;
 import utilities.Utils;
 
-import java.io.File;
+import java.io.*;
 import java.util.*;
 
 import static evaluation.metrics.Event.GameEvent.*;
@@ -69,6 +69,12 @@ public class MetricsGameListener implements IGameListener {
         eventsOfInterest.add(Event.GameEvent.GAME_OVER);
     }
 
+    // Subclasses that override onEvent() to handle other events must override this too
+    @Override
+    public Set<IGameEvent> getEventTypes() {
+        return eventsOfInterest;
+    }
+
     /**
      * Manages all events.
      *
@@ -148,6 +154,34 @@ public class MetricsGameListener implements IGameListener {
         }
     }
 
+    @Override
+    public boolean canMergeRecordedData() {
+        return true;
+    }
+
+    @Override
+    public byte[] takeRecordedData() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            for (AbstractMetric metric : metrics.values())
+                metric.takeRecordedData(out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    @Override
+    public void mergeRecordedData(byte[] data) {
+        // the metrics are in the same order in every copy of this listener
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(data))) {
+            for (AbstractMetric metric : metrics.values())
+                metric.mergeRecordedData(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     private String eventToIndexingColumn(IGameEvent e) {
         if (e == ABOUT_TO_START || e == GAME_OVER) {
             return "GameID";
@@ -0,0 +1,208 @@
+package evaluation.listeners;
+
+import core.AbstractGameState;
+import core.Game;
+import core.interfaces.IGameEvent;
+import evaluation.metrics.Event;
+import evaluation.metrics.IDataLogger;
+import utilities.LatencyHistogram;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.*;
+
+import static evaluation.metrics.Event.GameEvent.*;
+import static evaluation.metrics.IDataLogger.ReportDestination.*;
+import static utilities.Utils.createDirectory;
+
+/**
+ * Records how long each action takes in each of the phases timed by Game (copying the state for the player, computing
+ * the available actions, the agent's decision and the forward model's next()), in a LatencyHistogram for each
+ * phase and player. Game itself only keeps the time of the last action, so this shows the tails as well as the means:
+ * the p50, p95, p99 and max of each phase, per player and for each game.
+ * <p>
+ * The report gives these over all games. If written to file, then timings.csv has one row per game, phase and
+ * player (and 'All' players), and timingSummary.csv the same over all games; times are in microseconds.
+ * <p>
+ * Several games may be played at once (as in a tournament with nThreads), so each game is tracked separately.
+ */
+public class TimingHistogramListener implements IGameListener {
+
+    public enum Phase {
+        Copy, ComputeActions, Agent, Next
+    }
+
+    private static final String HEADER = "GameID,Game,Phase,Player,Count,Mean,P50,P95,P99,Max";
+
+    private final List<IDataLogger.ReportDestination> reportDestinations;
+    private final Set<IGameEvent> eventTypes = new HashSet<>(Arrays.asList(ABOUT_TO_START, ACTION_TAKEN, GAME_OVER));
+    private final Map<Game, GameTimings> inProgress = new IdentityHashMap<>();
+    // over all games; the index is the player
+    private final Map<Phase, List<LatencyHistogram>> overall = new EnumMap<>(Phase.class);
+    private final List<String> gameRows = new ArrayList<>();
+    private final Set<String> gameNames = new TreeSet<>();
+    private int nGames;
+    private String destDir = "metrics/out/";
+    private Game game;
+
+    public TimingHistogramListener() {
+        this(ToConsole);
+    }
+
+    public TimingHistogramListener(IDataLogger.ReportDestination logTo) {
+        reportDestinations = Collections.singletonList(logTo);
+        for (Phase phase : Phase.values())
+            overall.put(phase, new ArrayList<>());
+    }
+
+    // The timings of the game in progress, and the counters of the Game at the last action
+    private static class GameTimings {
+        final Map<Phase, LatencyHistogram[]> histograms = new EnumMap<>(Phase.class);
+        int lastDecisions, lastTimeouts;
+
+        GameTimings(int nPlayers) {
+            for (Phase phase : Phase.values()) {
+                LatencyHistogram[] perPlayer = new LatencyHistogram[nPlayers];
+                for (int p = 0; p < nPlayers; p++)
+                    perPlayer[p] = new LatencyHistogram();
+                histograms.put(phase, perPlayer);
+            }
+        }
+    }
+
+    @Override
+    public Set<IGameEvent> getEventTypes() {
+        return eventTypes;
+    }
+
+    @Override
+    public void onEvent(Event event) {
+        if (game == null)
+            return;
+        if (event.type == ABOUT_TO_START) {
+            inProgress.put(game, new GameTimings(event.state.getNPlayers()));
+        } else if (event.type == ACTION_TAKEN) {
+            GameTimings timings = inProgress.computeIfAbsent(game, g -> new GameTimings(event.state.getNPlayers()));
+            int player = event.playerID;
+            record(timings, Phase.Copy, player, game.getCopyTime());
+            record(timings, Phase.ComputeActions, player, game.getActionComputeTime());
+            // the agent and next() times are only updated if the agent made a decision, and next() was then applied
+            if (game.getNDecisions() > timings.lastDecisions)
+                record(timings, Phase.Agent, player, game.getAgentTime());
+            if (game.getNDecisionTimeouts() == timings.lastTimeouts)
+                record(timings, Phase.Next, player, game.getNextTime());
+            timings.lastDecisions = game.getNDecisions();
+            timings.lastTimeouts = game.getNDecisionTimeouts();
+        } else if (event.type == GAME_OVER) {
+            GameTimings timings = inProgress.remove(game);
+            if (timings != null)
+                endGame(event.state, timings);
+        }
+    }
+
+    private static void record(GameTimings timings, Phase phase, int player, double nanoTime) {
+        if (player >= 0)
+            timings.histograms.get(phase)[player].record((long) nanoTime);
+    }
+
+    private void endGame(AbstractGameState state, GameTimings timings) {
+        String gameName = state.getGameType().name();
+        gameNames.add(gameName);
+        nGames++;
+        for (Phase phase : Phase.values()) {
+            LatencyHistogram[] perPlayer = timings.histograms.get(phase);
+            List<LatencyHistogram> overallPerPlayer = overall.get(phase);
+            LatencyHistogram all = new LatencyHistogram();
+            for (int p = 0; p < perPlayer.length; p++) {
+                gameRows.add(row(state.getGameID() + "," + gameName, phase, String.valueOf(p), perPlayer[p]));
+                all.add(perPlayer[p]);
+                while (overallPerPlayer.size() <= p)
+                    overallPerPlayer.add(new LatencyHistogram());
+                overallPerPlayer.get(p).add(perPlayer[p]);
+            }
+            gameRows.add(row(state.getGameID() + "," + gameName, phase, "All", all));
+        }
+    }
+
+    private static String row(String prefix, Phase phase, String player, LatencyHistogram h) {
+        return String.format("%s,%s,%s,%d,%.3f,%.3f,%.3f,%.3f,%.3f", prefix, phase, player, h.count(),
+                h.mean() / 1e3, h.percentile(50) / 1e3, h.percentile(95) / 1e3, h.percentile(99) / 1e3, h.max() / 1e3);
+    }
+
+    /**
+     * @return the histogram of the phase over all finished games, for one player (or all players if player is -1)
+     */
+    public LatencyHistogram getHistogram(Phase phase, int player) {
+        List<LatencyHistogram> perPlayer = overall.get(phase);
+        if (player >= 0)
+            return player < perPlayer.size() ? perPlayer.get(player) : new LatencyHistogram();
+        LatencyHistogram all = new LatencyHistogram();
+        for (LatencyHistogram h : perPlayer)
+            all.add(h);
+        return all;
+    }
+
+    @Override
+    public boolean setOutputDirectory(String... nestedDirectories) {
+        if (reportDestinations.contains(ToFile) || reportDestinations.contains(ToBoth))
+            destDir = new File(createDirectory(nestedDirectories)).getAbsolutePath() + File.separator;
+        return true;
+    }
+
+    @Override
+    public void report() {
+        List<String> summaryRows = new ArrayList<>();
+        String prefix = "All," + String.join("|", gameNames);
+        for (Phase phase : Phase.values()) {
+            for (int p = 0; p < overall.get(phase).size(); p++)
+                summaryRows.add(row(prefix, phase, String.valueOf(p), getHistogram(phase, p)));
+            summaryRows.add(row(prefix, phase, "All", getHistogram(phase, -1)));
+        }
+        if (reportDestinations.contains(ToConsole) || reportDestinations.contains(ToBoth)) {
+            System.out.println("Action timings in microseconds over " + nGames + " games:");
+            System.out.printf("%-15s %-6s %10s %10s %10s %10s %10s %10s%n", "Phase", "Player", "Count", "Mean", "P50", "P95", "P99", "Max");
+            for (String summaryRow : summaryRows) {
+                String[] values = summaryRow.split(",");
+                System.out.printf("%-15s %-6s %10s %10s %10s %10s %10s %10s%n",
+                        values[2], values[3], values[4], values[5], values[6], values[7], values[8], values[9]);
+            }
+        }
+        if (reportDestinations.contains(ToFile) || reportDestinations.contains(ToBoth)) {
+            createDirectory(destDir);
+            writeCSV(destDir + "timings.csv", gameRows);
+            writeCSV(destDir + "timingSummary.csv", summaryRows);
+        }
+    }
+
+    private static void writeCSV(String fileName, List<String> rows) {
+        try (PrintWriter writer = new PrintWriter(new FileWriter(fileName))) {
+            writer.println(HEADER);
+            for (String row : rows)
+                writer.println(row);
+        } catch (IOException e) {
+            throw new RuntimeException("Unable to write " + fileName, e);
+        }
+    }
+
+    @Override
+    public void reset() {
+        inProgress.clear();
+        gameRows.clear();
+        gameNames.clear();
+        nGames = 0;
+        for (List<LatencyHistogram> perPlayer : overall.values())
+            perPlayer.clear();
+    }
+
+    @Override
+    public void setGame(Game game) {
+        this.game = game;
+    }
+
+    @Override
+    public Game getGame() {
+        return game;
+    }
+}
@@ -37,4 +37,10 @@ public class TournamentMetricsGameListener extends MetricsGameListener {
         }
     }
 
+    @Override
+    public boolean canMergeRecordedData() {
+        // the metrics are initialised for each matchup, which only happens when the games are played here
+        return false;
+    }
+
 }
@@ -4,6 +4,9 @@ import core.Game;
 import core.interfaces.IGameEvent;
 import evaluation.listeners.MetricsGameListener;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -259,6 +262,24 @@ public abstract class AbstractMetric {
         return columnNames;
     }
 
+    /**
+     * Writes the data recorded by this metric, and then discards it, so that it can be merged into a copy
+     * of this metric in another process (see IGameListener.takeRecordedData()).
+     */
+    public void takeRecordedData(DataOutput out) throws IOException {
+        out.writeInt(gamesCompleted);
+        gamesCompleted = 0;
+        dataLogger.takeData(out);
+    }
+
+    /**
+     * Adds the data written by takeRecordedData() on a copy of this metric.
+     */
+    public void mergeRecordedData(DataInput in) throws IOException {
+        gamesCompleted += in.readInt();
+        dataLogger.appendData(in);
+    }
+
     public void notifyGameOver() {
         this.gamesCompleted++;
     }
@@ -56,6 +56,19 @@ public class Event
         return e;
     }
 
+    /**
+     * Re-initialises this Event, so that one object can be sent many times. AbstractGameState.sendEvent() does this,
+     * so a listener must not keep a reference to an Event after onEvent() returns.
+     */
+    public Event set(IGameEvent type, AbstractGameState gameState, AbstractAction action, int playerID)
+    {
+        this.type = type;
+        this.state = gameState;
+        this.action = action;
+        this.playerID = playerID;
+        return this;
+    }
+
     public static Event createEvent(IGameEvent type)
     {
         return Event.createEvent(type, null, null, -1);
@@ -200,6 +200,7 @@ public class GameMetrics implements IMetricsCollection {
                 put("Next (ms)", Double.class);
                 put("Copy (ms)", Double.class);
                 put("Actions Available Compute (ms)", Double.class);
+                put("Events", Integer.class);
                 put("Agent (ms)", Double.class);
                 put("Agent", String.class);
                 put("Player", Integer.class);
@@ -212,6 +213,7 @@ public class GameMetrics implements IMetricsCollection {
             records.put("Next (ms)", listener.getGame().getNextTime() / 1e6);
             records.put("Copy (ms)", listener.getGame().getCopyTime() / 1e6);
             records.put("Actions Available Compute (ms)", listener.getGame().getActionComputeTime() / 1e6);
+            records.put("Events", listener.getGame().getNEvents());
             records.put("Agent (ms)", listener.getGame().getAgentTime() / 1e6);
             records.put("Agent", listener.getGame().getPlayers().get(e.playerID).toString());
             records.put("Player", e.playerID);
@@ -2,6 +2,9 @@ package evaluation.metrics;
 
 import core.Game;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 import java.util.Set;
 
 public interface IDataLogger
@@ -39,6 +42,23 @@ public interface IDataLogger
      */
     void addData(String columnName, Object data);
 
+    /**
+     * Writes all the data logged so far, and then removes it from this logger. This is used to pass the
+     * data from a worker process of a distributed tournament back to the main process.
+     * @param out - destination of the data
+     */
+    default void takeData(DataOutput out) throws IOException {
+        throw new UnsupportedOperationException(getClass().getSimpleName() + " cannot pass on its data");
+    }
+
+    /**
+     * Appends data written by takeData() on another logger with the same columns.
+     * @param in - source of the data
+     */
+    default void appendData(DataInput in) throws IOException {
+        throw new UnsupportedOperationException(getClass().getSimpleName() + " cannot append data");
+    }
+
     /**
      * Returns a data processor by default that is compatible with this data logger
      * @return - A data processor
@@ -8,6 +8,9 @@ import evaluation.metrics.IDataProcessor;
 import tech.tablesaw.api.*;
 import tech.tablesaw.columns.Column;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 import java.util.*;
 
 /**
@@ -115,6 +118,55 @@ public class DataTableSaw implements IDataLogger {
         }
     }
 
+    @Override
+    public void takeData(DataOutput out) throws IOException {
+        out.writeInt(data.columnCount());
+        for (Column<?> column : data.columns()) {
+            out.writeUTF(column.name());
+            out.writeInt(column.size());
+            for (int row = 0; row < column.size(); row++) {
+                boolean missing = column.isMissing(row);
+                out.writeBoolean(missing);
+                if (missing)
+                    continue;
+                if (column instanceof StringColumn c)
+                    out.writeUTF(c.get(row));
+                else if (column instanceof IntColumn c)
+                    out.writeInt(c.getInt(row));
+                else if (column instanceof DoubleColumn c)
+                    out.writeDouble(c.getDouble(row));
+                else if (column instanceof BooleanColumn c)
+                    out.writeBoolean(c.get(row));
+                else
+                    throw new AssertionError("Unknown column type");
+            }
+        }
+        data.clear();
+    }
+
+    @Override
+    public void appendData(DataInput in) throws IOException {
+        int nColumns = in.readInt();
+        for (int i = 0; i < nColumns; i++) {
+            Column<?> column = data.column(in.readUTF());
+            int nRows = in.readInt();
+            for (int row = 0; row < nRows; row++) {
+                if (in.readBoolean())
+                    column.appendMissing();
+                else if (column instanceof StringColumn c)
+                    c.append(in.readUTF());
+                else if (column instanceof IntColumn c)
+                    c.append(in.readInt());
+                else if (column instanceof DoubleColumn c)
+                    c.append(in.readDouble());
+                else if (column instanceof BooleanColumn c)
+                    c.append(in.readBoolean());
+                else
+                    throw new AssertionError("Unknown column type");
+            }
+        }
+    }
+
     @Override
     public IDataProcessor getDefaultProcessor() {
         return new TableSawDataProcessor();
@@ -3,6 +3,7 @@ package evaluation.optimisation;
 import core.AbstractParameters;
 import core.AbstractPlayer;
 import core.Game;
+import core.GamePool;
 import core.interfaces.IGameHeuristic;
 import core.interfaces.IStateHeuristic;
 import evaluation.listeners.IGameListener;
@@ -97,7 +98,8 @@ public class GameEvaluator implements SolutionEvaluator {
         boolean tuningPlayer = configuredThing instanceof AbstractPlayer;
         boolean tuningGame = configuredThing instanceof Game;
 
-        Game newGame = tuningGame ? (Game) configuredThing : game.createGameInstance(nPlayers, gameParams);
+        // when only the players change, we reuse the same few games rather than create a new one for each evaluation
+        Game newGame = tuningGame ? (Game) configuredThing : GamePool.acquire(game, nPlayers, gameParams);
         // we assign one player to each team (the default for a game is each player being their own team of 1)
         int nTeams = newGame.getGameState().getNTeams();
 
@@ -111,6 +113,9 @@ public class GameEvaluator implements SolutionEvaluator {
         if (params.mode == StableNTBEA && !tuningPlayer)
             throw new AssertionError("StableNTBEA mode requires tuning of player");
         int gamesToRun = params.mode == StableNTBEA ? nTeams : 1;
+        // each of these games has the same seed, so only the first needs to be set up from scratch (if this is
+        // asked for, as the copy of the initial state is not exact for all games)
+        newGame.setReuseInitialState(params.reuseInitialState && gamesToRun > 1);
         long seed = rnd.nextLong();
         double retValue = 0.0;
         for (int loop = 0; loop < gamesToRun; loop++) {
@@ -132,6 +137,8 @@ public class GameEvaluator implements SolutionEvaluator {
             retValue += tuningGame ? gameHeuristic.evaluateGame(newGame) : stateHeuristic.evaluateState(newGame.getGameState(), playerOnTeam);
         }
         //    System.out.println("GameEvaluator: " + retValue);
+        if (!tuningGame)
+            GamePool.release(newGame);
 
         nEvals++;
         return retValue;
@@ -45,6 +45,7 @@ public class NTBEAParameters extends TunableParameters<NTBEA> {
     public Mode mode;
     public int quantile = -1;
     public int evaluationsPerTrial = 1;
+    public boolean reuseInitialState = false;
 
     // and those that are not (so must be included separately in copy etc)
     public boolean tuningGame = false;
@@ -77,6 +78,7 @@ public class NTBEAParameters extends TunableParameters<NTBEA> {
         addTunableParameter("mode", Mode.NTBEA);
         addTunableParameter("quantile", -1);
         addTunableParameter("evalsPerTrial", 1);
+        addTunableParameter("reuseInitialState", false);
     }
 
     @Override
@@ -100,6 +102,7 @@ public class NTBEAParameters extends TunableParameters<NTBEA> {
         mode = (Mode) getParameterValue("mode");
         quantile = (int) getParameterValue("quantile");
         evaluationsPerTrial = (int) getParameterValue("evalsPerTrial");
+        reuseInitialState = (boolean) getParameterValue("reuseInitialState");
 
         if (evalGames == -1) evalGames = iterationsPerRun / 5;
     }
@@ -126,6 +129,7 @@ public class NTBEAParameters extends TunableParameters<NTBEA> {
         setParameterValue("mode", Mode.valueOf(args.get(RunArg.NTBEAMode).toString()));
         setParameterValue("quantile", args.get(RunArg.quantile));
         setParameterValue("evalsPerTrial", args.get(RunArg.evalsPerTrial));
+        setParameterValue("reuseInitialState", args.get(RunArg.reuseInitialState));
 
         configure(args);
     }
@@ -172,6 +172,18 @@ public abstract class TunableParameters<T> extends AbstractParameters implements
         return tunable;
     }
 
+    /**
+     * Freezes any sub-parameters as well as this object
+     */
+    @Override
+    public void freeze() {
+        super.freeze();
+        for (Object value : currentValues.values()) {
+            if (value instanceof TunableParameters<?> subParams)
+                subParams.freeze();
+        }
+    }
+
     // This is much faster in a forward model, and just changes the random seed
     // It is suitable if the same set of parameters are being used with none of them recording any state
     // This is usually the case for forward models in MCTS for example
@@ -214,6 +226,7 @@ public abstract class TunableParameters<T> extends AbstractParameters implements
      * @param <T>          The type of the parameter
      */
     public <T> void addTunableParameter(String name, T defaultValue, List<T> allSettings) {
+        checkNotFrozen();
         if (!parameterNames.contains(name)) parameterNames.add(name);
         defaultValues.put(name, defaultValue);
         parameterTypes.put(name, defaultValue.getClass());
@@ -222,6 +235,7 @@ public abstract class TunableParameters<T> extends AbstractParameters implements
     }
 
     public <T> void addTunableParameter(String name, Class<? extends T> parameterClass, T defaultValue, List<T> allSettings) {
+        checkNotFrozen();
         if (!parameterNames.contains(name)) parameterNames.add(name);
         defaultValues.put(name, defaultValue);
         parameterTypes.put(name, parameterClass);
@@ -234,6 +248,7 @@ public abstract class TunableParameters<T> extends AbstractParameters implements
     }
 
     public <T> void addTunableParameter(String name, Class<T> classType) {
+        checkNotFrozen();
         if (!parameterNames.contains(name)) parameterNames.add(name);
         defaultValues.put(name, null);
         parameterTypes.put(name, classType);
@@ -281,6 +296,7 @@ public abstract class TunableParameters<T> extends AbstractParameters implements
     @Override
     public void setParameterValue(String parameterName, Object value) {
     //    System.out.println("Setting " + parameterName + " to " + value);
+        checkNotFrozen();
         if (parameterName.split(Pattern.quote(".")).length > 1) {
             // in this case we pass on to the subParam (as well as updating here)
             String[] split = parameterName.split(Pattern.quote("."));
@@ -392,6 +408,7 @@ public abstract class TunableParameters<T> extends AbstractParameters implements
     }
 
     public void setRawJSON(JSONObject json) {
+        checkNotFrozen();
         rawJSON = json;
     }
 
@@ -18,13 +18,16 @@ public abstract class AbstractTournament implements IGameRunner {
      * EXHAUSTIVE - Play all agents against each other. With every permutation of agents to player positions.
      * EXHAUSTIVE_SELF_PLAY - Play all agents against each other, but allow for self-play.
      * ONE_VS_ALL - Play one agent against all others. The one (focus) agent will be the only agent of its type in each game.
+     * ADAPTIVE - Play rounds of the EXHAUSTIVE matchups, dropping those between agents whose ranking is already clear,
+     * and stop once every agent is separated from its neighbours in the ranking with the required confidence.
      */
     public enum TournamentMode {
         RANDOM,
         EXHAUSTIVE,
         EXHAUSTIVE_SELF_PLAY,
         ONE_VS_ALL,
-        FIXED
+        FIXED,
+        ADAPTIVE
     }
     // List of players taking part in the tournament
     protected List<? extends AbstractPlayer> agents;
@@ -1,11 +1,16 @@
 package evaluation.tournaments;
 
+import core.AbstractGameState;
 import core.AbstractParameters;
 import core.AbstractPlayer;
+import core.Game;
+import core.interfaces.IGameEvent;
 import evaluation.RunArg;
 import evaluation.listeners.IGameListener;
 import evaluation.listeners.TournamentMetricsGameListener;
+import evaluation.metrics.Event;
 import games.GameType;
+import org.apache.commons.math3.distribution.NormalDistribution;
 import org.apache.commons.math3.linear.EigenDecomposition;
 import org.apache.commons.math3.linear.MatrixUtils;
 import org.apache.commons.math3.linear.RealMatrix;
@@ -15,6 +20,10 @@ import utilities.*;
 import java.io.File;
 import java.io.FileWriter;
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
@@ -44,7 +53,7 @@ public class RoundRobinTournament extends AbstractTournament {
     protected LinkedHashMap<Integer, Pair<Double, Double>> finalWinRanking; // contains index of agent in agents
     protected LinkedHashMap<Integer, Pair<Double, Double>> finalOrdinalRanking; // contains index of agent in agents
     LinkedList<Integer> allAgentIds;
-    private int totalGamesRun;
+    int totalGamesRun;
     protected boolean randomGameParams;
     public String name;
     public boolean byTeam;
@@ -55,6 +64,38 @@ public class RoundRobinTournament extends AbstractTournament {
     String seedFile;
     Random seedRnd;
 
+    // Parallel execution: each worker thread has its own Game, and results are merged in submission order
+    int nThreads;
+    // if greater than zero, then each decision is made asynchronously within this many milliseconds (see Game)
+    int decisionTime;
+    private ExecutorService executor;
+    private final ThreadLocal<Game> workerGame = ThreadLocal.withInitial(this::createWorkerGame);
+    private final List<Pair<List<Integer>, Future<List<GameOutcome>>>> pendingMatchUps = new ArrayList<>();
+
+    // Distributed execution: each matchup is a work unit played by a worker process (see TournamentCoordinator)
+    int nProcesses;
+    List<String> workerHosts;
+    final Map<RunArg, Object> config;
+    private TournamentCoordinator coordinator;
+    private final List<Pair<List<Integer>, Future<TournamentCoordinator.WorkResult>>> pendingWorkUnits = new ArrayList<>();
+    // the number of copies made of each agent so far, which worker processes replay to keep their agents in step
+    final int[] agentCopies;
+
+    // Checkpointing: progress is saved every checkpointPeriod seconds, and can be resumed (see TournamentCheckpoint)
+    int checkpointPeriod;
+    boolean resume;
+    String checkpointFile = "TournamentCheckpoint.bin";
+    int matchUpsDone, firstGameID;
+    private int matchUpsStarted, resumeFrom;
+    private long lastCheckpoint;
+
+    // ADAPTIVE mode: rounds of games are played until the ranking is clear with this confidence
+    static final int MIN_ADAPTIVE_GAMES = 30;
+    double confidence;
+    int adaptiveRounds;
+    private int exhaustiveGames;
+    private String adaptiveSummary;
+
     /**
      * Create a round robin tournament, which plays all agents against all others.
      *
@@ -72,6 +113,7 @@ public class RoundRobinTournament extends AbstractTournament {
             case "EXHAUSTIVESP" -> EXHAUSTIVE_SELF_PLAY;
             case "ONEVSALL" -> ONE_VS_ALL;
             case "FIXED" -> FIXED;
+            case "ADAPTIVE" -> ADAPTIVE;
             default -> RANDOM;
         };
         if (tournamentMode == EXHAUSTIVE && nTeams > this.agents.size()) {
@@ -137,6 +179,19 @@ public class RoundRobinTournament extends AbstractTournament {
                 }
                 actualGames = this.gamesPerMatchup * Utils.playerPermutations(agentPositions, agents.size(), selfPlay);
                 break;
+            case ADAPTIVE:
+                // the budget is that of the equivalent exhaustive tournament, with self-play only if there are too few agents
+                boolean adaptiveSelfPlay = agents.size() < agentPositions;
+                this.gamesPerMatchup = Utils.gamesPerMatchup(agentPositions, agents.size(), totalGameBudget, adaptiveSelfPlay);
+                if (this.gamesPerMatchup < 1) {
+                    throw new IllegalArgumentException(String.format("Higher budget needed. There are %d permutations of agents to positions in adaptive mode, which is more than %d game in the available budget.",
+                            Utils.playerPermutations(agentPositions, agents.size(), adaptiveSelfPlay), totalGameBudget));
+                }
+                if (tournamentSeeds > 0)
+                    throw new IllegalArgumentException("Adaptive mode chooses its own game seeds, so cannot be used with distinctRandomSeeds or seedFile");
+                actualGames = this.gamesPerMatchup * Utils.playerPermutations(agentPositions, agents.size(), adaptiveSelfPlay);
+                this.exhaustiveGames = actualGames;
+                break;
             case FIXED:
                 // we run the totalGameBudget number of games with no change to agent order
             case RANDOM:
@@ -148,13 +203,26 @@ public class RoundRobinTournament extends AbstractTournament {
         this.randomSeed = ((Number) config.getOrDefault(RunArg.seed, System.currentTimeMillis())).longValue();
         this.seedRnd = new Random(randomSeed);
         this.randomGameParams = (boolean) config.getOrDefault(RunArg.randomGameParams, false);
+        this.nThreads = (int) config.getOrDefault(RunArg.nThreads, 1);
+        this.decisionTime = (int) config.getOrDefault(RunArg.decisionTime, 0);
+        if (decisionTime > 0)
+            game.setAsyncDecisions(Game.sharedDecisionExecutor(), decisionTime);
+        this.nProcesses = (int) config.getOrDefault(RunArg.nProcesses, 0);
+        this.workerHosts = Arrays.asList(config.getOrDefault(RunArg.workerHosts, "localhost").toString().split("\\|"));
+        this.config = config;
+        this.agentCopies = new int[agents.size()];
+        this.checkpointPeriod = (int) config.getOrDefault(RunArg.checkpointPeriod, -1);
+        this.resume = (boolean) config.getOrDefault(RunArg.resume, false);
+        this.confidence = ((Number) config.getOrDefault(RunArg.confidence, 0.95)).doubleValue();
 
         this.name = String.format("Game: %s, Players: %d, Mode: %s, TotalGames: %d, GamesPerMatchup: %d",
                 gameToPlay.name(), playersPerGame, tournamentMode, actualGames, gamesPerMatchup);
         System.out.println(name);
         String destDir = (String) config.getOrDefault(RunArg.destDir, "");
-        if (!destDir.isEmpty())
+        if (!destDir.isEmpty()) {
             this.resultsFile = destDir + File.separator + resultsFile;
+            this.checkpointFile = destDir + File.separator + checkpointFile;
+        }
     }
 
     /**
@@ -169,10 +237,48 @@ public class RoundRobinTournament extends AbstractTournament {
                 //           .peek(a -> System.out.println(a.toString()))
                 .map(AbstractPlayer::toString).collect(Collectors.toSet());
 
+        if (nThreads > 1 && listeners.stream().anyMatch(l -> l instanceof TournamentMetricsGameListener)) {
+            System.out.println("TournamentMetricsGameListener requires sequential execution; ignoring nThreads = " + nThreads);
+            nThreads = 1;
+        }
+        if (nProcesses > 1) {
+            String reason = TournamentCoordinator.unsupportedReason(this);
+            if (reason != null) {
+                System.out.println(reason + "; ignoring nProcesses = " + nProcesses);
+                nProcesses = 0;
+            }
+        }
+        if (nThreads > 1 && nProcesses <= 1)
+            executor = Executors.newFixedThreadPool(nThreads);
+
         for (IGameListener gameTracker : listeners) {
             gameTracker.init(game, nPlayers, agentNames);
-            game.addListener(gameTracker);
+            // in parallel mode the listeners are attached to each worker Game instead
+            if (executor == null)
+                game.addListener(gameTracker);
         }
+        firstGameID = Game.reserveGameIDs(0);
+        if (resume && new File(checkpointFile).exists()) {
+            boolean complete = TournamentCheckpoint.read(this, checkpointFile);
+            // we regenerate the matchups from the original seed, and skip those already played
+            seedRnd = new Random(randomSeed);
+            // (except in ADAPTIVE mode, which carries on from the last round)
+            resumeFrom = tournamentMode == ADAPTIVE ? 0 : matchUpsDone;
+            System.out.printf("Resuming from %s after %d matchups and %d games%n", checkpointFile, matchUpsDone, totalGamesRun);
+            if (complete) {
+                // the results and listener reports were written when the tournament finished
+                System.out.println("Tournament is already complete");
+                if (executor != null) {
+                    executor.shutdown();
+                    executor = null;
+                }
+                calculateFinalResults();
+                return;
+            }
+        }
+        lastCheckpoint = System.currentTimeMillis();
+        if (nProcesses > 1)
+            coordinator = new TournamentCoordinator(this, nProcesses, workerHosts);
 
         LinkedList<Integer> matchUp = new LinkedList<>();
         // add outer loop if we have tournamentSeeds enabled; if not this will just run once
@@ -189,10 +295,21 @@ public class RoundRobinTournament extends AbstractTournament {
             }
             createAndRunMatchUp(matchUp);
         }
+        if (executor != null) {
+            collectMatchUpResults();
+            executor.shutdown();
+            executor = null;
+        }
+        if (coordinator != null)
+            collectWorkUnitResults(true);
+        if (checkpointPeriod >= 0)
+            TournamentCheckpoint.write(this, checkpointFile, false);
         reportResults();
 
         for (IGameListener listener : listeners)
             listener.report();
+        if (checkpointPeriod >= 0)
+            TournamentCheckpoint.write(this, checkpointFile, true);
     }
 
     protected List<Integer> loadSeedsFromFile() {
@@ -221,6 +338,14 @@ public class RoundRobinTournament extends AbstractTournament {
         throw new AssertionError("Should not be reachable");
     }
 
+    /**
+     * Sets the file used for checkpoints, for example to give each of several tournaments its own.
+     * By default this is TournamentCheckpoint.bin in destDir.
+     */
+    public void setCheckpointFile(String checkpointFile) {
+        this.checkpointFile = checkpointFile;
+    }
+
     public AbstractPlayer getWinner() {
         return agents.get(getWinnerIndex());
     }
@@ -243,6 +368,9 @@ public class RoundRobinTournament extends AbstractTournament {
                 }
                 evaluateMatchUp(matchUp, gamesPerMatchup, gameSeeds);
                 break;
+            case ADAPTIVE:
+                runAdaptive(nTeams);
+                break;
             case RANDOM:
                 // In the RANDOM case we use a new seed for each game
                 PermutationCycler idStream = new PermutationCycler(agents.size(), seedRnd, nTeams);
@@ -305,6 +433,105 @@ public class RoundRobinTournament extends AbstractTournament {
         }
     }
 
+    /**
+     * Plays rounds of one game for each of the EXHAUSTIVE matchups that includes an agent whose place in the ranking
+     * is not yet clear (see unresolvedAgents()). This stops when every agent is resolved, or when another round would
+     * take us beyond the number of games of the equivalent EXHAUSTIVE tournament.
+     */
+    private void runAdaptive(int nTeams) {
+        List<List<Integer>> allMatchUps = new ArrayList<>();
+        addAllMatchUps(new ArrayList<>(), nTeams, agents.size() < nTeams, allMatchUps);
+        // we make adjacent comparisons in two rankings, and use a Bonferroni correction
+        int comparisons = Math.max(1, 2 * (agents.size() - 1));
+        double z = new NormalDistribution().inverseCumulativeProbability(1.0 - (1.0 - confidence) / (2.0 * comparisons));
+
+        boolean resolved = false;
+        while (true) {
+            boolean[] unresolved = unresolvedAgents(z);
+            List<List<Integer>> matchUps = allMatchUps.stream()
+                    .filter(m -> m.stream().anyMatch(a -> unresolved[a]))
+                    .toList();
+            if (matchUps.isEmpty()) {
+                resolved = true;
+                break;
+            }
+            if (totalGamesRun + matchUps.size() > exhaustiveGames)
+                break;
+            // each round has its own seeds, so that we can resume from a checkpoint at the end of any round
+            Random roundRnd = new Random(randomSeed ^ (0x9E3779B97F4A7C15L * (adaptiveRounds + 1)));
+            for (List<Integer> matchUp : matchUps)
+                evaluateMatchUp(matchUp, 1, Collections.singletonList(roundRnd.nextInt()));
+            // we need the results of this round before we can choose the next
+            if (executor != null)
+                collectMatchUpResults();
+            if (coordinator != null)
+                collectWorkUnitResults(false);
+            adaptiveRounds++;
+            if (checkpointPeriod >= 0 && System.currentTimeMillis() - lastCheckpoint >= checkpointPeriod * 1000L) {
+                TournamentCheckpoint.write(this, checkpointFile, false);
+                lastCheckpoint = System.currentTimeMillis();
+            }
+        }
+        adaptiveSummary = String.format("Adaptive: %s after %d rounds and %d games, compared to %d games for the equivalent exhaustive tournament (%.1f%% saved)\n",
+                resolved ? String.format("ranking resolved at %.1f%% confidence", confidence * 100) : "ranking not resolved",
+                adaptiveRounds, totalGamesRun, exhaustiveGames, 100.0 * (exhaustiveGames - totalGamesRun) / exhaustiveGames);
+        System.out.print(adaptiveSummary);
+    }
+
+    private void addAllMatchUps(List<Integer> matchUp, int nTeams, boolean selfPlay, List<List<Integer>> allMatchUps) {
+        if (matchUp.size() == nTeams) {
+            // a matchup of copies of a single agent tells us nothing about the ranking
+            if (matchUp.stream().distinct().count() > 1 || agents.size() == 1)
+                allMatchUps.add(new ArrayList<>(matchUp));
+            return;
+        }
+        for (Integer agentID : allAgentIds) {
+            if (selfPlay || !matchUp.contains(agentID)) {
+                matchUp.add(agentID);
+                addAllMatchUps(matchUp, nTeams, selfPlay, allMatchUps);
+                matchUp.remove(matchUp.size() - 1);
+            }
+        }
+    }
+
+    /**
+     * An agent is resolved once every agent has played at least MIN_ADAPTIVE_GAMES games (so that the Normal
+     * approximation is reasonable), and its mean points and mean ordinal position each differ from those of the
+     * agents either side of it in the corresponding ranking by more than z standard errors.
+     *
+     * @return for each agent, true if it is not yet resolved
+     */
+    boolean[] unresolvedAgents(double z) {
+        boolean[] retValue = new boolean[agents.size()];
+        if (Arrays.stream(nGamesPlayed).anyMatch(n -> n < MIN_ADAPTIVE_GAMES)) {
+            Arrays.fill(retValue, true);
+            return retValue;
+        }
+        markUnresolved(retValue, pointsPerPlayer, pointsPerPlayerSquared, z);
+        markUnresolved(retValue, rankPerPlayer, rankPerPlayerSquared, z);
+        return retValue;
+    }
+
+    private void markUnresolved(boolean[] unresolved, double[] sum, double[] sumSquared, double z) {
+        int n = agents.size();
+        double[] mean = new double[n];
+        double[] stdErrSquared = new double[n];
+        for (int i = 0; i < n; i++) {
+            mean[i] = sum[i] / nGamesPlayed[i];
+            stdErrSquared[i] = Math.max(0.0, sumSquared[i] / nGamesPlayed[i] - mean[i] * mean[i]) / nGamesPlayed[i];
+        }
+        List<Integer> ranking = IntStream.range(0, n).boxed()
+                .sorted(Comparator.comparingDouble(i -> mean[i]))
+                .toList();
+        for (int k = 0; k < n - 1; k++) {
+            int a = ranking.get(k), b = ranking.get(k + 1);
+            if (mean[b] - mean[a] <= z * Math.sqrt(stdErrSquared[a] + stdErrSquared[b])) {
+                unresolved[a] = true;
+                unresolved[b] = true;
+            }
+        }
+    }
+
     /**
      * Evaluates one combination of players.
      *
@@ -313,13 +540,14 @@ public class RoundRobinTournament extends AbstractTournament {
     protected void evaluateMatchUp(List<Integer> agentIDsInThisGame, int nGames, List<Integer> seeds) {
         if (seeds.size() < nGames)
             throw new AssertionError("Not enough seeds for the number of games requested");
+        if (matchUpsStarted++ < resumeFrom) {
+            // this matchup was played before the checkpoint we resumed from, but we still copy the agents,
+            // as this can change them (see copyAgentsForWorkUnit)
+            copyAgents(agentIDsInThisGame);
+            return;
+        }
         if (debug)
             System.out.printf("Evaluate %s at %tT%n", agentIDsInThisGame.toString(), System.currentTimeMillis());
-        LinkedList<AbstractPlayer> matchUpPlayers = new LinkedList<>();
-
-        // create a copy of the player to avoid them sharing the same state
-        for (int agentID : agentIDsInThisGame)
-            matchUpPlayers.add(this.agents.get(agentID).copy());
 
         if (verbose) {
             StringBuffer sb = new StringBuffer();
@@ -330,6 +558,29 @@ public class RoundRobinTournament extends AbstractTournament {
             System.out.println(sb);
         }
 
+        if (coordinator != null) {
+            // the worker makes the copies of the agents, after first catching up with the copies made before this
+            List<Integer> agentIDs = new ArrayList<>(agentIDsInThisGame);
+            int[] copiesBefore = new int[agentIDs.size()];
+            for (int i = 0; i < copiesBefore.length; i++)
+                copiesBefore[i] = agentCopies[agentIDs.get(i)];
+            for (int agentID : agentIDs)
+                agentCopies[agentID]++;
+            pendingWorkUnits.add(new Pair<>(agentIDs, coordinator.submit(agentIDs, copiesBefore, seeds.subList(0, nGames))));
+            return;
+        }
+
+        // create a copy of the player to avoid them sharing the same state
+        List<AbstractPlayer> matchUpPlayers = copyAgents(agentIDsInThisGame);
+
+        if (executor != null) {
+            // the matchUp list is modified as the recursion in createAndRunMatchUp continues, so we take a copy
+            List<Integer> agentIDs = new ArrayList<>(agentIDsInThisGame);
+            pendingMatchUps.add(new Pair<>(agentIDs,
+                    executor.submit(() -> playMatchUp(workerGame.get(), matchUpPlayers, nGames, seeds))));
+            return;
+        }
+
         // TODO : Not sure this is the ideal place for this...ask Raluca
         Set<String> agentNames = agents.stream().map(AbstractPlayer::toString).collect(Collectors.toSet());
         for (IGameListener listener : listeners) {
@@ -342,76 +593,209 @@ public class RoundRobinTournament extends AbstractTournament {
         for (int i = 0; i < nGames; i++) {
             // if tournamentSeeds > 0, then we are running this many tournaments, each with a different random seed fixed for the whole tournament
             // so we override the standard random seeds
-            game.reset(matchUpPlayers, seeds.get(i));
+            recordOutcome(agentIDsInThisGame, playGame(game, matchUpPlayers, seeds.get(i)));
+        }
+        totalGamesRun += nGames;
+        matchUpCompleted();
+    }
 
-            // Randomize parameters
-            if (randomGameParams) {
-                game.getGameState().getGameParameters().randomize();
-                System.out.println("Game parameters: " + game.getGameState().getGameParameters());
-            }
+    /**
+     * Called once the results of each matchup have been recorded, in the order the matchups were created, to save
+     * a checkpoint if one is due.
+     */
+    private void matchUpCompleted() {
+        matchUpsDone++;
+        // in ADAPTIVE mode the checkpoints are at the end of each round instead
+        if (checkpointPeriod >= 0 && tournamentMode != ADAPTIVE && System.currentTimeMillis() - lastCheckpoint >= checkpointPeriod * 1000L) {
+            TournamentCheckpoint.write(this, checkpointFile, false);
+            lastCheckpoint = System.currentTimeMillis();
+        }
+    }
+
+    /**
+     * Plays all the games of one matchup on the supplied Game instance. This is the unit of work for each worker
+     * thread; the players are re-used across the games, exactly as in the sequential case.
+     */
+    private List<GameOutcome> playMatchUp(Game gameToRun, List<AbstractPlayer> matchUpPlayers, int nGames, List<Integer> seeds) {
+        List<GameOutcome> outcomes = new ArrayList<>(nGames);
+        for (int i = 0; i < nGames; i++) {
+            outcomes.add(playGame(gameToRun, matchUpPlayers, seeds.get(i)));
+        }
+        return outcomes;
+    }
 
-            game.run();  // Always running tournaments without visuals
-            GameResult[] results = game.getGameState().getPlayerResults();
+    List<AbstractPlayer> copyAgents(List<Integer> agentIDs) {
+        List<AbstractPlayer> retValue = new LinkedList<>();
+        for (int agentID : agentIDs) {
+            retValue.add(this.agents.get(agentID).copy());
+            agentCopies[agentID]++;
+        }
+        return retValue;
+    }
 
-            int numDraws = 0;
-            for (int j = 0; j < matchUpPlayers.size(); j++) {
-                nGamesPlayed[agentIDsInThisGame.get(j)] += 1;
-                for (int k = 0; k < matchUpPlayers.size(); k++) {
-                    if (k != j) {
-                        nGamesPlayedPerOpponent[agentIDsInThisGame.get(j)][agentIDsInThisGame.get(k)] += 1;
-                    }
+    /**
+     * Used by a TournamentWorker to copy the agents for a work unit exactly as the coordinator would have done
+     * if it were playing the games itself. Some agents change when they are copied (a RandomPlayer draws the seed of
+     * the copy from its own random number generator), so we first make (and discard) however many copies the
+     * coordinator had already made of each agent before this work unit.
+     */
+    List<AbstractPlayer> copyAgentsForWorkUnit(List<Integer> agentIDs, int[] copiesBefore) {
+        for (int i = 0; i < copiesBefore.length; i++)
+            catchUpAgentCopies(agentIDs.get(i), copiesBefore[i]);
+        return copyAgents(agentIDs);
+    }
+
+    /**
+     * Makes (and discards) copies of the agent until it has been copied the given number of times
+     */
+    void catchUpAgentCopies(int agentID, int copies) {
+        if (agentCopies[agentID] > copies)
+            throw new IllegalStateException("Agent " + agentID + " has already been copied more than " + copies + " times");
+        while (agentCopies[agentID] < copies) {
+            this.agents.get(agentID).copy();
+            agentCopies[agentID]++;
+        }
+    }
+
+    GameOutcome playGame(Game gameToRun, List<AbstractPlayer> matchUpPlayers, int seed) {
+        gameToRun.reset(matchUpPlayers, seed);
+
+        // Randomize parameters
+        if (randomGameParams) {
+            gameToRun.getGameState().getGameParameters().randomize();
+            System.out.println("Game parameters: " + gameToRun.getGameState().getGameParameters());
+        }
+
+        gameToRun.run();  // Always running tournaments without visuals
+        return GameOutcome.of(gameToRun.getGameState());
+    }
+
+    /**
+     * Waits for all matchups submitted to the worker threads, and adds their results to the tournament totals.
+     * This is done in the order the matchups were submitted, so that the final accumulators are identical
+     * to those from a sequential run.
+     */
+    private void collectMatchUpResults() {
+        try {
+            for (Pair<List<Integer>, Future<List<GameOutcome>>> pending : pendingMatchUps) {
+                List<GameOutcome> outcomes = pending.b.get();
+                for (GameOutcome outcome : outcomes) {
+                    recordOutcome(pending.a, outcome);
                 }
+                totalGamesRun += outcomes.size();
+                matchUpCompleted();
+            }
+        } catch (InterruptedException | ExecutionException e) {
+            executor.shutdownNow();
+            throw new RuntimeException("Error running tournament game in worker thread", e);
+        } finally {
+            pendingMatchUps.clear();
+        }
+    }
 
-                // now we need to be careful if we have a team game, as the agents are indexed by Team, not player
-                if (byTeam) {
-                    for (int player = 0; player < game.getGameState().getNPlayers(); player++) {
-                        if (game.getGameState().getTeam(player) == j) {
-                            numDraws += updatePoints(results, agentIDsInThisGame, agentIDsInThisGame.get(j), player);
-                            break; // we stop after one player on the team to avoid double counting
-                        }
-                    }
-                } else {
-                    numDraws += updatePoints(results, agentIDsInThisGame, agentIDsInThisGame.get(j), j);
+    /**
+     * Waits for all work units submitted to the worker processes, and adds their results to the tournament totals,
+     * and the data they recorded to the listeners. As with threads, this is done in the order the units were
+     * submitted.
+     *
+     * @param lastUnits if true, then the worker processes are stopped afterwards
+     */
+    private void collectWorkUnitResults(boolean lastUnits) {
+        boolean failed = true;
+        try {
+            for (Pair<List<Integer>, Future<TournamentCoordinator.WorkResult>> pending : pendingWorkUnits) {
+                TournamentCoordinator.WorkResult result = pending.b.get();
+                for (GameOutcome outcome : result.outcomes()) {
+                    recordOutcome(pending.a, outcome);
                 }
+                for (int i = 0; i < listeners.size(); i++) {
+                    listeners.get(i).mergeRecordedData(result.listenerData()[i]);
+                }
+                totalGamesRun += result.outcomes().size();
+                matchUpCompleted();
+            }
+            failed = false;
+        } catch (InterruptedException | ExecutionException e) {
+            throw new RuntimeException("Error running tournament game in worker process", e);
+        } finally {
+            pendingWorkUnits.clear();
+            if (lastUnits || failed) {
+                coordinator.close();
+                coordinator = null;
             }
+        }
+    }
 
-            if (numDraws > 0) {
-                double pointsPerDraw = 1.0 / numDraws;
-                for (int j = 0; j < matchUpPlayers.size(); j++) {
-                    if (results[j] == GameResult.DRAW_GAME) pointsPerPlayer[agentIDsInThisGame.get(j)] += pointsPerDraw;
-                    if (results[j] == GameResult.DRAW_GAME)
-                        pointsPerPlayerSquared[agentIDsInThisGame.get(j)] += pointsPerDraw * pointsPerDraw;
+    private Game createWorkerGame() {
+        AbstractParameters params = game.getGameState().getGameParameters().copy();
+        Game retValue = game.getGameType().createGameInstance(nPlayers, params);
+        if (decisionTime > 0)
+            retValue.setAsyncDecisions(Game.sharedDecisionExecutor(), decisionTime);
+        for (IGameListener listener : listeners)
+            retValue.addListener(new SharedListener(listener));
+        return retValue;
+    }
+
+    private void recordOutcome(List<Integer> agentIDsInThisGame, GameOutcome outcome) {
+        GameResult[] results = outcome.results();
+        int nAgents = agentIDsInThisGame.size();
+        int numDraws = 0;
+        for (int j = 0; j < nAgents; j++) {
+            nGamesPlayed[agentIDsInThisGame.get(j)] += 1;
+            for (int k = 0; k < nAgents; k++) {
+                if (k != j) {
+                    nGamesPlayedPerOpponent[agentIDsInThisGame.get(j)][agentIDsInThisGame.get(k)] += 1;
                 }
             }
 
-            if (verbose) {
-                StringBuffer sb = new StringBuffer();
-                sb.append("[");
-                for (int j = 0; j < matchUpPlayers.size(); j++) {
-                    for (int player = 0; player < game.getGameState().getNPlayers(); player++) {
-                        if (game.getGameState().getTeam(player) == j) {
-                            sb.append(results[player]).append(",");
-                            break; // we stop after one player on the team to avoid double counting
-                        }
+            // now we need to be careful if we have a team game, as the agents are indexed by Team, not player
+            if (byTeam) {
+                for (int player = 0; player < outcome.nPlayers(); player++) {
+                    if (outcome.teams()[player] == j) {
+                        numDraws += updatePoints(outcome, agentIDsInThisGame, agentIDsInThisGame.get(j), player);
+                        break; // we stop after one player on the team to avoid double counting
                     }
                 }
-                sb.setCharAt(sb.length() - 1, ']');
-                System.out.println(sb);
+            } else {
+                numDraws += updatePoints(outcome, agentIDsInThisGame, agentIDsInThisGame.get(j), j);
             }
+        }
 
+        if (numDraws > 0) {
+            double pointsPerDraw = 1.0 / numDraws;
+            for (int j = 0; j < nAgents; j++) {
+                if (results[j] == GameResult.DRAW_GAME) pointsPerPlayer[agentIDsInThisGame.get(j)] += pointsPerDraw;
+                if (results[j] == GameResult.DRAW_GAME)
+                    pointsPerPlayerSquared[agentIDsInThisGame.get(j)] += pointsPerDraw * pointsPerDraw;
+            }
+        }
+
+        if (verbose) {
+            StringBuffer sb = new StringBuffer();
+            sb.append("[");
+            for (int j = 0; j < nAgents; j++) {
+                for (int player = 0; player < outcome.nPlayers(); player++) {
+                    if (outcome.teams()[player] == j) {
+                        sb.append(results[player]).append(",");
+                        break; // we stop after one player on the team to avoid double counting
+                    }
+                }
+            }
+            sb.setCharAt(sb.length() - 1, ']');
+            System.out.println(sb);
         }
-        totalGamesRun += nGames;
     }
 
-    private int updatePoints(GameResult[] results, List<Integer> matchUpPlayers, int j, int player) {
+    private int updatePoints(GameOutcome outcome, List<Integer> matchUpPlayers, int j, int player) {
         // j is the index of the agent in the matchup; player is the corresponding player number in the game
-        int ordinalPos = game.getGameState().getOrdinalPosition(player);
+        GameResult[] results = outcome.results();
+        int ordinalPos = outcome.ordinalPositions()[player];
         rankPerPlayer[j] += ordinalPos;
         rankPerPlayerSquared[j] += ordinalPos * ordinalPos;
 
-        for (int playerPos = 0; playerPos < game.getGameState().getNPlayers(); playerPos++) {
+        for (int playerPos = 0; playerPos < outcome.nPlayers(); playerPos++) {
             if (playerPos != player) {
-                int ordinalOther = game.getGameState().getOrdinalPosition(playerPos);
+                int ordinalOther = outcome.ordinalPositions()[playerPos];
                 ordinalDeltaPerOpponent[j][matchUpPlayers.get(playerPos)] += ordinalOther - ordinalPos;
             }
         }
@@ -461,6 +845,8 @@ public class RoundRobinTournament extends AbstractTournament {
         boolean toFile = resultsFile != null && !resultsFile.isEmpty();
         List<String> dataDump = new ArrayList<>();
         dataDump.add(name + "\n");
+        if (adaptiveSummary != null)
+            dataDump.add(adaptiveSummary);
 
         if (agents.size() > game.getGameState().getNPlayers()) {
             // We only calculate alpha-rank if we have more agents than players
@@ -767,4 +1153,66 @@ public class RoundRobinTournament extends AbstractTournament {
     public int[] getNGamesPlayed() {
         return nGamesPlayed;
     }
+
+    /**
+     * The final results of one game. This is captured as soon as the game ends so that the Game instance
+     * can be re-used (or run on another thread) before the results are added to the tournament totals.
+     */
+    record GameOutcome(GameResult[] results, int[] ordinalPositions, int[] teams) {
+        static GameOutcome of(AbstractGameState state) {
+            int n = state.getNPlayers();
+            int[] ordinals = new int[n];
+            int[] teams = new int[n];
+            for (int p = 0; p < n; p++) {
+                ordinals[p] = state.getOrdinalPosition(p);
+                teams[p] = state.getTeam(p);
+            }
+            return new GameOutcome(state.getPlayerResults().clone(), ordinals, teams);
+        }
+
+        int nPlayers() {
+            return ordinalPositions.length;
+        }
+    }
+
+    /**
+     * A listener shared by all worker Games. Events are passed on one at a time, with the wrapped listener
+     * pointing at the Game that generated the event (metrics use getGame() to find the players and timings).
+     */
+    static class SharedListener implements IGameListener {
+        final IGameListener wrapped;
+        Game game;
+
+        SharedListener(IGameListener wrapped) {
+            this.wrapped = wrapped;
+        }
+
+        @Override
+        public void onEvent(Event event) {
+            synchronized (wrapped) {
+                wrapped.setGame(game);
+                wrapped.onEvent(event);
+            }
+        }
+
+        @Override
+        public Set<IGameEvent> getEventTypes() {
+            return wrapped.getEventTypes();
+        }
+
+        @Override
+        public void report() {
+            // reporting is done once on the wrapped listener by the tournament
+        }
+
+        @Override
+        public void setGame(Game game) {
+            this.game = game;
+        }
+
+        @Override
+        public Game getGame() {
+            return game;
+        }
+    }
 }
@@ -138,7 +138,10 @@ public class SkillLadder {
                 finalConfig.put(RunArg.mode, "onevsall");
                 finalConfig.put(RunArg.verbose, false);
                 finalConfig.put(RunArg.gameParams, params);
+                finalConfig.put(RunArg.checkpointPeriod, config.get(RunArg.checkpointPeriod));
+                finalConfig.put(RunArg.resume, config.get(RunArg.resume));
                 RoundRobinTournament RRT = new RoundRobinTournament(agents, gameType, nPlayers, params, finalConfig);
+                RRT.setCheckpointFile(destDir + File.separator + "Checkpoint_Budget_" + newBudget + "_vs_" + otherBudget + ".bin");
                 for (String listenerClass : listenerClasses) {
                     if (listenerClass.isEmpty()) continue;
                     IGameListener gameTracker = IGameListener.createListener(listenerClass);
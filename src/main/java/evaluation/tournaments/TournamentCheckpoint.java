@@ -0,0 +1,202 @@
+package evaluation.tournaments;
+
+import core.AbstractPlayer;
+import core.Game;
+import evaluation.listeners.IGameListener;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Saves and restores the progress of a RoundRobinTournament, so that a long tournament can be restarted from where
+ * it stopped.
+ * <p>
+ * A checkpoint holds the number of matchups completed, the random seed of the tournament, the accumulated results,
+ * the next game ID, the number of copies made of each agent, and the data recorded by the listeners (if they can all pass this on, see
+ * IGameListener.canMergeRecordedData()). The state of the random number generator that picks the matchups and
+ * game seeds is not saved directly; on resume the tournament regenerates the same sequence of matchups from the
+ * saved seed, and skips those already completed. This also replays the copies made of each agent, so that the
+ * remaining games, and hence the final results, are identical to those of a run that was never interrupted.
+ * ADAPTIVE mode instead saves checkpoints at the end of each round, and carries on from there.
+ */
+final class TournamentCheckpoint {
+
+    private static final int MAGIC = 0x54434b50; // "TCKP"
+    private static final int VERSION = 2;
+
+    private TournamentCheckpoint() {
+    }
+
+    /**
+     * Listener data is only consistent with the accumulated results if every game it covers has also been recorded,
+     * which is not the case when worker threads feed the listeners as they play.
+     */
+    static boolean includesListeners(RoundRobinTournament t) {
+        if (t.nThreads > 1 && t.nProcesses <= 1)
+            return false;
+        for (IGameListener listener : t.listeners)
+            if (!listener.canMergeRecordedData())
+                return false;
+        return true;
+    }
+
+    /**
+     * Writes the checkpoint to a temporary file that then replaces the previous one, so that there is always a
+     * complete checkpoint on disk even if the process is killed while writing.
+     */
+    static void write(RoundRobinTournament t, String file, boolean complete) {
+        Path target = Path.of(file);
+        Path temp = Path.of(file + ".tmp");
+        try {
+            if (target.toAbsolutePath().getParent() != null)
+                Files.createDirectories(target.toAbsolutePath().getParent());
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                    new GZIPOutputStream(Files.newOutputStream(temp))))) {
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+                writeHeader(out, t);
+                out.writeBoolean(complete);
+                out.writeLong(t.randomSeed);
+                out.writeInt(t.matchUpsDone);
+                out.writeInt(t.totalGamesRun);
+                out.writeInt(t.firstGameID + t.totalGamesRun);
+                out.writeInt(t.adaptiveRounds);
+                writeInts(out, t.agentCopies);
+                writeDoubles(out, t.pointsPerPlayer);
+                writeDoubles(out, t.pointsPerPlayerSquared);
+                writeDoubles(out, t.winsPerPlayer);
+                writeDoubles(out, t.rankPerPlayer);
+                writeDoubles(out, t.rankPerPlayerSquared);
+                writeInts(out, t.nGamesPlayed);
+                for (int i = 0; i < t.agents.size(); i++) {
+                    writeInts(out, t.nGamesPlayedPerOpponent[i]);
+                    writeInts(out, t.winsPerPlayerPerOpponent[i]);
+                    writeInts(out, t.ordinalDeltaPerOpponent[i]);
+                }
+                if (!complete && includesListeners(t)) {
+                    out.writeInt(t.listeners.size());
+                    for (IGameListener listener : t.listeners) {
+                        // taking the data clears it from the listener, so we give it straight back
+                        byte[] data = listener.takeRecordedData();
+                        listener.mergeRecordedData(data);
+                        out.writeInt(data.length);
+                        out.write(data);
+                    }
+                } else {
+                    out.writeInt(-1);
+                }
+            }
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            // a failed checkpoint should not stop the tournament itself
+            System.out.println("Unable to write checkpoint " + file + " : " + e.getMessage());
+        }
+    }
+
+    /**
+     * Restores the tournament from the checkpoint. This must be called after the listeners have been initialised,
+     * and before any matchups are run.
+     *
+     * @return true if the checkpoint is of a tournament that had finished
+     */
+    static boolean read(RoundRobinTournament t, String file) {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(
+                new GZIPInputStream(new FileInputStream(file))))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION)
+                throw new IllegalArgumentException(file + " is not a tournament checkpoint");
+            readHeader(in, t, file);
+            boolean complete = in.readBoolean();
+            t.randomSeed = in.readLong();
+            t.matchUpsDone = in.readInt();
+            t.totalGamesRun = in.readInt();
+            // every game takes the next ID, so after a resume the remaining games get the same IDs as before
+            int nextGameID = in.readInt();
+            Game.setNextGameID(nextGameID);
+            t.firstGameID = nextGameID - t.totalGamesRun;
+            t.adaptiveRounds = in.readInt();
+            int[] agentCopies = new int[t.agents.size()];
+            readInts(in, agentCopies);
+            if (t.tournamentMode == AbstractTournament.TournamentMode.ADAPTIVE) {
+                // the matchups in ADAPTIVE mode depend on the results so far, so rather than replay them we
+                // carry on from the end of the last round, after copying the agents as often as before
+                for (int i = 0; i < agentCopies.length; i++)
+                    t.catchUpAgentCopies(i, agentCopies[i]);
+            }
+            readDoubles(in, t.pointsPerPlayer);
+            readDoubles(in, t.pointsPerPlayerSquared);
+            readDoubles(in, t.winsPerPlayer);
+            readDoubles(in, t.rankPerPlayer);
+            readDoubles(in, t.rankPerPlayerSquared);
+            readInts(in, t.nGamesPlayed);
+            for (int i = 0; i < t.agents.size(); i++) {
+                readInts(in, t.nGamesPlayedPerOpponent[i]);
+                readInts(in, t.winsPerPlayerPerOpponent[i]);
+                readInts(in, t.ordinalDeltaPerOpponent[i]);
+            }
+            int nListeners = in.readInt();
+            if (nListeners == t.listeners.size()) {
+                for (IGameListener listener : t.listeners) {
+                    byte[] data = new byte[in.readInt()];
+                    in.readFully(data);
+                    listener.mergeRecordedData(data);
+                }
+            } else if (!complete && !t.listeners.isEmpty()) {
+                System.out.println("Listener data is not in checkpoint " + file +
+                        "; listener output will only cover the games played after resuming");
+            }
+            return complete;
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Unable to read checkpoint " + file, e);
+        }
+    }
+
+    // The header identifies the tournament, so that we do not resume from the checkpoint of a different one
+    private static void writeHeader(DataOutputStream out, RoundRobinTournament t) throws IOException {
+        out.writeUTF(t.name);
+        out.writeInt(t.agents.size());
+        for (AbstractPlayer agent : t.agents)
+            out.writeUTF(agent.toString());
+    }
+
+    private static void readHeader(DataInputStream in, RoundRobinTournament t, String file) throws IOException {
+        String name = in.readUTF();
+        int nAgents = in.readInt();
+        boolean matches = name.equals(t.name) && nAgents == t.agents.size();
+        for (int i = 0; i < nAgents; i++) {
+            String agent = in.readUTF();
+            matches &= i < t.agents.size() && agent.equals(t.agents.get(i).toString());
+        }
+        if (!matches)
+            throw new IllegalArgumentException("Checkpoint " + file + " is for a different tournament: " + name);
+    }
+
+    private static void writeDoubles(DataOutputStream out, double[] values) throws IOException {
+        out.writeInt(values.length);
+        for (double v : values)
+            out.writeDouble(v);
+    }
+
+    private static void readDoubles(DataInputStream in, double[] values) throws IOException {
+        if (in.readInt() != values.length)
+            throw new IOException("Checkpoint does not match the number of agents");
+        for (int i = 0; i < values.length; i++)
+            values[i] = in.readDouble();
+    }
+
+    private static void writeInts(DataOutputStream out, int[] values) throws IOException {
+        out.writeInt(values.length);
+        for (int v : values)
+            out.writeInt(v);
+    }
+
+    private static void readInts(DataInputStream in, int[] values) throws IOException {
+        if (in.readInt() != values.length)
+            throw new IOException("Checkpoint does not match the number of agents");
+        for (int i = 0; i < values.length; i++)
+            values[i] = in.readInt();
+    }
+}
@@ -0,0 +1,337 @@
+package evaluation.tournaments;
+
+import core.AbstractPlayer;
+import core.Game;
+import evaluation.RunArg;
+import evaluation.listeners.IGameListener;
+import evaluation.tournaments.RoundRobinTournament.GameOutcome;
+
+import java.io.*;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static core.CoreConstants.GameResult;
+
+/**
+ * Plays the games of a RoundRobinTournament in separate worker processes (see TournamentWorker).
+ * <p>
+ * Each work unit is one matchup of the tournament (for one of its distinct random seeds, if there are several):
+ * the agents in each position, and the seeds of the games to play. Units are handed out to the workers in the order
+ * they are submitted. A worker sends back the result of each game as soon as it finishes, and then the data recorded
+ * by its listeners once the whole unit is done. The tournament adds these to its totals in submission order, so the
+ * results are identical to a single process run.
+ * <p>
+ * If a worker process dies (or cannot be reached) part way through a unit, then the results it sent for that unit
+ * are discarded, a new worker is started, and the unit is played again from the beginning. An error reported by a
+ * worker (an exception thrown while playing a game) would only happen again, so this fails the unit instead.
+ */
+final class TournamentCoordinator implements AutoCloseable {
+
+    // Messages from a worker to the coordinator
+    static final byte READY = 0, GAME = 1, UNIT_DONE = 2, FAILED = 3;
+    // The number of times a unit is attempted, each on a new worker process, before the tournament is abandoned
+    static final int MAX_ATTEMPTS = 3;
+
+    record WorkUnit(List<Integer> agentIDs, int[] copiesBefore, int firstGameID, List<Integer> seeds) {
+    }
+
+    record WorkResult(List<GameOutcome> outcomes, byte[][] listenerData) {
+    }
+
+    private record Pending(WorkUnit unit, CompletableFuture<WorkResult> result) {
+    }
+
+    private static final Pending STOP = new Pending(null, null);
+
+    private final byte[] handshake;
+    private final int nListeners;
+    private final LinkedBlockingQueue<Pending> queue = new LinkedBlockingQueue<>();
+    final List<WorkerProcess> workers = new ArrayList<>();
+    private final List<Thread> threads = new ArrayList<>();
+    private final AtomicInteger restarts = new AtomicInteger();
+
+    TournamentCoordinator(RoundRobinTournament tournament, int nProcesses, List<String> hosts) {
+        this.handshake = handshake(tournament);
+        this.nListeners = tournament.listeners.size();
+        for (int i = 0; i < nProcesses; i++) {
+            WorkerProcess worker = new WorkerProcess(i, workerCommand(hosts.get(i % hosts.size()).trim()));
+            Thread thread = new Thread(worker, "TournamentCoordinator-" + i);
+            thread.setDaemon(true);
+            thread.start();
+            workers.add(worker);
+            threads.add(thread);
+        }
+    }
+
+    /**
+     * @return null if the tournament can be run by worker processes, otherwise the reason it cannot
+     */
+    static String unsupportedReason(RoundRobinTournament tournament) {
+        for (IGameListener listener : tournament.listeners) {
+            if (!listener.canMergeRecordedData())
+                return listener.getClass().getSimpleName() + " cannot merge data recorded by worker processes";
+        }
+        if (!(tournament.config.getOrDefault(RunArg.gameParams, "") instanceof String))
+            return "Worker processes need the game parameters as a file";
+        return null;
+    }
+
+    /**
+     * Queues the games of one matchup to be played by the next free worker.
+     *
+     * @param agentIDs     - the agent in each position
+     * @param copiesBefore - the number of copies of each of these agents made by the tournament before this matchup
+     * @param seeds        - the seed of each game
+     */
+    Future<WorkResult> submit(List<Integer> agentIDs, int[] copiesBefore, List<Integer> seeds) {
+        // the games get the same IDs as they would if we played them here
+        int firstGameID = Game.reserveGameIDs(seeds.size());
+        CompletableFuture<WorkResult> result = new CompletableFuture<>();
+        queue.add(new Pending(new WorkUnit(agentIDs, copiesBefore, firstGameID, new ArrayList<>(seeds)), result));
+        return result;
+    }
+
+    /**
+     * @return the number of times a worker process has been restarted after it failed
+     */
+    int getRestarts() {
+        return restarts.get();
+    }
+
+    /**
+     * Stops all the workers. Any units that have not yet been started are cancelled.
+     */
+    @Override
+    public void close() {
+        List<Pending> notStarted = new ArrayList<>();
+        queue.drainTo(notStarted);
+        for (Pending pending : notStarted)
+            pending.result().cancel(false);
+        for (int i = 0; i < threads.size(); i++)
+            queue.add(STOP);
+        for (Thread thread : threads) {
+            try {
+                thread.join(TimeUnit.SECONDS.toMillis(10));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+    }
+
+    private static List<String> workerCommand(String host) {
+        List<String> command = new ArrayList<>();
+        if (!host.isEmpty() && !host.equals("localhost"))
+            command.addAll(List.of("ssh", host));
+        command.add(ProcessHandle.current().info().command().orElse("java"));
+        command.addAll(List.of("-cp", System.getProperty("java.class.path"), TournamentWorker.class.getName()));
+        return command;
+    }
+
+    /**
+     * The first message to each worker, with everything it needs to set up the same tournament:
+     * the configuration (from which it creates the agents and listeners), the game and the number of players.
+     * The names of the agents and the classes of the listeners are included so that the worker can check it has
+     * created the same ones.
+     */
+    private static byte[] handshake(RoundRobinTournament tournament) {
+        List<String> runArgs = new ArrayList<>();
+        for (Map.Entry<RunArg, Object> entry : tournament.config.entrySet()) {
+            // the listeners are sent separately, and any config file has already been read into the other values
+            if (entry.getKey() == RunArg.listener || entry.getKey() == RunArg.config || entry.getValue() == null)
+                continue;
+            String value = entry.getValue().toString();
+            if (!value.isEmpty())
+                runArgs.add(entry.getKey().name() + "=" + value);
+        }
+        @SuppressWarnings("unchecked")
+        List<String> listenerSpecs = (List<String>) tournament.config.getOrDefault(RunArg.listener, Collections.emptyList());
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            writeStrings(out, runArgs);
+            writeStrings(out, listenerSpecs);
+            out.writeUTF(tournament.game.getGameType().name());
+            out.writeInt(tournament.nPlayers);
+            writeStrings(out, tournament.agents.stream().map(AbstractPlayer::toString).toList());
+            writeStrings(out, tournament.listeners.stream().map(l -> l.getClass().getName()).toList());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * One worker process, and the thread that feeds it work units and reads back the results.
+     */
+    final class WorkerProcess implements Runnable {
+        private final int id;
+        private final List<String> command;
+        Process process;
+        private DataOutputStream toWorker;
+        private DataInputStream fromWorker;
+        // set if the worker rejected the tournament, in which case there is no point starting it again
+        private IllegalStateException setupError;
+
+        WorkerProcess(int id, List<String> command) {
+            this.id = id;
+            this.command = command;
+        }
+
+        @Override
+        public void run() {
+            try {
+                for (Pending next = queue.take(); next != STOP; next = queue.take())
+                    play(next);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                stop(true);
+            }
+        }
+
+        private void play(Pending pending) {
+            if (setupError != null) {
+                pending.result().completeExceptionally(setupError);
+                return;
+            }
+            for (int attempt = 1; ; attempt++) {
+                try {
+                    if (process == null)
+                        start();
+                    pending.result().complete(send(pending.unit()));
+                    return;
+                } catch (IOException e) {
+                    stop(false);
+                    if (attempt == MAX_ATTEMPTS) {
+                        pending.result().completeExceptionally(new IllegalStateException(
+                                "Work unit failed on " + MAX_ATTEMPTS + " worker processes", e));
+                        return;
+                    }
+                    restarts.incrementAndGet();
+                    System.out.printf("Worker %d failed (%s); restarting it to replay the work unit%n", id, e);
+                } catch (RuntimeException e) {
+                    stop(false);
+                    pending.result().completeExceptionally(e);
+                    return;
+                }
+            }
+        }
+
+        private void start() throws IOException {
+            process = new ProcessBuilder(command).redirectError(ProcessBuilder.Redirect.INHERIT).start();
+            toWorker = new DataOutputStream(new BufferedOutputStream(process.getOutputStream()));
+            fromWorker = new DataInputStream(new BufferedInputStream(process.getInputStream()));
+            toWorker.write(handshake);
+            toWorker.flush();
+            byte reply = fromWorker.readByte();
+            if (reply == FAILED) {
+                setupError = new IllegalStateException("Worker " + id + " could not set up the tournament: " + fromWorker.readUTF());
+                throw setupError;
+            }
+            if (reply != READY)
+                throw new IOException("Unexpected message " + reply + " from worker " + id);
+        }
+
+        private WorkResult send(WorkUnit unit) throws IOException {
+            toWorker.writeBoolean(true);
+            writeInts(toWorker, unit.agentIDs());
+            writeInts(toWorker, Arrays.stream(unit.copiesBefore()).boxed().toList());
+            toWorker.writeInt(unit.firstGameID());
+            writeInts(toWorker, unit.seeds());
+            toWorker.flush();
+
+            List<GameOutcome> outcomes = new ArrayList<>(unit.seeds().size());
+            while (true) {
+                byte message = fromWorker.readByte();
+                switch (message) {
+                    case GAME -> outcomes.add(readOutcome(fromWorker));
+                    case UNIT_DONE -> {
+                        byte[][] listenerData = new byte[fromWorker.readInt()][];
+                        if (listenerData.length != nListeners || outcomes.size() != unit.seeds().size())
+                            throw new IOException("Incomplete work unit from worker " + id);
+                        for (int i = 0; i < listenerData.length; i++) {
+                            listenerData[i] = new byte[fromWorker.readInt()];
+                            fromWorker.readFully(listenerData[i]);
+                        }
+                        return new WorkResult(outcomes, listenerData);
+                    }
+                    case FAILED -> throw new IllegalStateException("Error in worker " + id + ": " + fromWorker.readUTF());
+                    default -> throw new IOException("Unexpected message " + message + " from worker " + id);
+                }
+            }
+        }
+
+        private void stop(boolean tellWorker) {
+            if (process == null)
+                return;
+            try {
+                if (tellWorker) {
+                    toWorker.writeBoolean(false);
+                    toWorker.flush();
+                    process.waitFor(10, TimeUnit.SECONDS);
+                }
+            } catch (IOException ignored) {
+                // it has already gone
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            process.destroyForcibly();
+            process = null;
+        }
+    }
+
+    static void writeOutcome(DataOutput out, GameOutcome outcome) throws IOException {
+        out.writeInt(outcome.nPlayers());
+        for (int p = 0; p < outcome.nPlayers(); p++) {
+            out.writeByte(outcome.results()[p].ordinal());
+            out.writeInt(outcome.ordinalPositions()[p]);
+            out.writeInt(outcome.teams()[p]);
+        }
+    }
+
+    static GameOutcome readOutcome(DataInput in) throws IOException {
+        int n = in.readInt();
+        GameResult[] results = new GameResult[n];
+        int[] ordinals = new int[n];
+        int[] teams = new int[n];
+        for (int p = 0; p < n; p++) {
+            results[p] = GameResult.values()[in.readByte()];
+            ordinals[p] = in.readInt();
+            teams[p] = in.readInt();
+        }
+        return new GameOutcome(results, ordinals, teams);
+    }
+
+    static void writeInts(DataOutput out, List<Integer> values) throws IOException {
+        out.writeInt(values.size());
+        for (int value : values)
+            out.writeInt(value);
+    }
+
+    static List<Integer> readInts(DataInput in) throws IOException {
+        int n = in.readInt();
+        List<Integer> retValue = new ArrayList<>(n);
+        for (int i = 0; i < n; i++)
+            retValue.add(in.readInt());
+        return retValue;
+    }
+
+    static void writeStrings(DataOutput out, List<String> values) throws IOException {
+        out.writeInt(values.size());
+        for (String value : values)
+            out.writeUTF(value);
+    }
+
+    static List<String> readStrings(DataInput in) throws IOException {
+        int n = in.readInt();
+        List<String> retValue = new ArrayList<>(n);
+        for (int i = 0; i < n; i++)
+            retValue.add(in.readUTF());
+        return retValue;
+    }
+}
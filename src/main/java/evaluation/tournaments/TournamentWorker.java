@@ -0,0 +1,117 @@
+package evaluation.tournaments;
+
+import core.AbstractParameters;
+import core.AbstractPlayer;
+import core.Game;
+import evaluation.RunArg;
+import evaluation.RunGames;
+import evaluation.listeners.IGameListener;
+import evaluation.tournaments.RoundRobinTournament.GameOutcome;
+import games.GameType;
+
+import java.io.*;
+import java.util.*;
+
+import static evaluation.tournaments.TournamentCoordinator.*;
+
+/**
+ * A worker process of a distributed tournament, started by TournamentCoordinator.
+ * <p>
+ * This reads the set-up of the tournament and then a sequence of work units from System.in, and plays the games of
+ * each unit with its own copy of the tournament, sending back the results on System.out. Anything else that the
+ * games or players print to System.out is sent to System.err instead, so that it cannot corrupt the results.
+ * The worker stops once it is told there is no more work, or System.in is closed.
+ */
+public class TournamentWorker {
+
+    public static void main(String[] args) {
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(FileDescriptor.out)));
+        System.setOut(System.err);
+        DataInputStream in = new DataInputStream(new BufferedInputStream(System.in));
+        try {
+            RoundRobinTournament tournament;
+            try {
+                tournament = setUp(in);
+            } catch (RuntimeException | AssertionError e) {
+                out.writeByte(FAILED);
+                out.writeUTF(String.valueOf(e));
+                out.flush();
+                return;
+            }
+            out.writeByte(READY);
+            out.flush();
+            while (in.readBoolean())
+                playWorkUnit(tournament, in, out);
+        } catch (IOException e) {
+            // the coordinator has gone, so there is nothing more to do
+        }
+        System.exit(0);
+    }
+
+    /**
+     * Creates the tournament from the configuration sent by the coordinator, in the same way as RunGames.
+     */
+    private static RoundRobinTournament setUp(DataInput in) throws IOException {
+        String[] runArgs = readStrings(in).toArray(new String[0]);
+        List<String> listenerSpecs = readStrings(in);
+        GameType gameType = GameType.valueOf(in.readUTF());
+        int nPlayers = in.readInt();
+        List<String> agentNames = readStrings(in);
+        List<String> listenerClasses = readStrings(in);
+
+        Map<RunArg, Object> config = RunArg.parseConfig(runArgs, Collections.singletonList(RunArg.Usage.RunGames), false);
+        List<AbstractPlayer> agents = RunGames.createAgents(config);
+        if (!agents.stream().map(AbstractPlayer::toString).toList().equals(agentNames))
+            throw new IllegalStateException("Agents " + agents + " do not match " + agentNames +
+                    "; the agents of a distributed tournament must be created from its playerDirectory or focusPlayer");
+        String paramsFile = config.get(RunArg.gameParams).toString();
+        AbstractParameters params = paramsFile.isEmpty() ? null : AbstractParameters.createFromFile(gameType, paramsFile);
+        RoundRobinTournament tournament = new RoundRobinTournament(agents, gameType, nPlayers, params, config);
+
+        for (String spec : listenerSpecs) {
+            try {
+                tournament.addListener(IGameListener.createListener(spec));
+            } catch (IllegalArgumentException e) {
+                // RunGames skips these too
+            }
+        }
+        if (!tournament.listeners.stream().map(l -> l.getClass().getName()).toList().equals(listenerClasses))
+            throw new IllegalStateException("Listeners " + tournament.listeners + " do not match " + listenerClasses +
+                    "; the listeners of a distributed tournament must be created from its listener argument");
+        Set<String> names = new HashSet<>(agentNames);
+        for (IGameListener listener : tournament.listeners) {
+            listener.init(tournament.game, nPlayers, names);
+            tournament.game.addListener(listener);
+        }
+        return tournament;
+    }
+
+    private static void playWorkUnit(RoundRobinTournament tournament, DataInput in, DataOutputStream out) throws IOException {
+        List<Integer> agentIDs = readInts(in);
+        int[] copiesBefore = readInts(in).stream().mapToInt(Integer::intValue).toArray();
+        int firstGameID = in.readInt();
+        List<Integer> seeds = readInts(in);
+        try {
+            List<AbstractPlayer> players = tournament.copyAgentsForWorkUnit(agentIDs, copiesBefore);
+            Game.setNextGameID(firstGameID);
+            for (int seed : seeds) {
+                GameOutcome outcome = tournament.playGame(tournament.game, players, seed);
+                out.writeByte(GAME);
+                writeOutcome(out, outcome);
+                out.flush();
+            }
+            out.writeByte(UNIT_DONE);
+            out.writeInt(tournament.listeners.size());
+            for (IGameListener listener : tournament.listeners) {
+                byte[] data = listener.takeRecordedData();
+                out.writeInt(data.length);
+                out.write(data);
+            }
+        } catch (RuntimeException | AssertionError e) {
+            e.printStackTrace();
+            out.writeByte(FAILED);
+            out.writeUTF(String.valueOf(e));
+        }
+        out.flush();
+    }
+}
@@ -5,140 +5,9 @@ import core.AbstractGameState;
 import core.AbstractParameters;
 import core.Game;
 import core.rules.AbstractRuleBasedForwardModel;
-import games.azul.AzulForwardModel;
-import games.azul.AzulGUIManager;
-import games.azul.AzulGameState;
-import games.azul.AzulParameters;
-import games.battlelore.BattleloreForwardModel;
-import games.battlelore.BattleloreGameParameters;
-import games.battlelore.BattleloreGameState;
-import games.battlelore.gui.BattleloreGUI;
-import games.blackjack.BlackjackForwardModel;
-import games.blackjack.BlackjackGameState;
-import games.blackjack.BlackjackParameters;
-import games.blackjack.gui.BlackjackGUIManager;
-import games.cantstop.CantStopForwardModel;
-import games.cantstop.CantStopGameState;
-import games.cantstop.CantStopParameters;
-import games.cantstop.gui.CantStopGUIManager;
-import games.catan.CatanForwardModel;
-import games.catan.CatanGameState;
-import games.catan.CatanParameters;
-import games.catan.gui.CatanGUI;
-import games.chinesecheckers.CCForwardModel;
-import games.chinesecheckers.CCGameState;
-import games.chinesecheckers.CCParameters;
-import games.chinesecheckers.gui.CCGUIManager;
-import games.coltexpress.ColtExpressForwardModel;
-import games.coltexpress.ColtExpressGameState;
-import games.coltexpress.ColtExpressParameters;
-import games.coltexpress.gui.ColtExpressGUIManager;
-import games.connect4.Connect4ForwardModel;
-import games.connect4.Connect4GameParameters;
-import games.connect4.Connect4GameState;
-import games.connect4.gui.Connect4GUIManager;
-import games.descent2e.DescentForwardModel;
-import games.descent2e.DescentGameState;
-import games.descent2e.DescentParameters;
-import games.descent2e.gui.DescentGUI;
-import games.diamant.*;
-import games.diamant.DiamantForwardModel;
-import games.diamant.DiamantGameState;
-import games.diamant.DiamantParameters;
-import games.dominion.*;
-import games.dominion.gui.DominionGUIManager;
-import games.dotsboxes.DBForwardModel;
-import games.dotsboxes.DBGUIManager;
-import games.dotsboxes.DBGameState;
-import games.dotsboxes.DBParameters;
-import games.explodingkittens.ExplodingKittensForwardModel;
-import games.explodingkittens.ExplodingKittensGameState;
-import games.explodingkittens.ExplodingKittensParameters;
-import games.explodingkittens.gui.ExplodingKittensGUIManager;
-import games.hanabi.HanabiForwardModel;
-import games.hanabi.HanabiGameState;
-import games.hanabi.HanabiParameters;
-import games.hanabi.gui.HanabiGUIManager;
-import games.hearts.HeartsForwardModel;
-import games.hearts.HeartsGameState;
-import games.hearts.HeartsParameters;
-import games.hearts.gui.HeartsGUIManager;
-import games.loveletter.LoveLetterForwardModel;
-import games.loveletter.LoveLetterGameState;
-import games.loveletter.LoveLetterParameters;
-import games.loveletter.gui.LoveLetterGUIManager;
-import games.mastermind.MMForwardModel;
-import games.mastermind.MMGameState;
-import games.mastermind.MMParameters;
-import games.monopolydeal.gui.MonopolyDealGUIManager;
-import games.mastermind.*;
-import games.mastermind.gui.MMGUIManager;
-import games.pandemic.PandemicForwardModel;
-import games.pandemic.PandemicGameState;
-import games.pandemic.PandemicParameters;
-import games.pandemic.gui.PandemicGUIManager;
-import games.poker.PokerForwardModel;
-import games.poker.PokerGameParameters;
-import games.poker.PokerGameState;
-import games.poker.gui.PokerGUIManager;
-import games.puertorico.PuertoRicoForwardModel;
-import games.puertorico.PuertoRicoGameState;
-import games.puertorico.PuertoRicoParameters;
-import games.puertorico.gui.PuertoRicoGUI;
-import games.resistance.ResForwardModel;
-import games.resistance.ResGameState;
-import games.resistance.ResParameters;
-import games.resistance.gui.ResGUIManager;
-import games.root.RootForwardModel;
-import games.root.RootGameState;
-import games.root.RootParameters;
-import games.root.gui.RootGUIManager;
-import games.saboteur.SaboteurForwardModel;
-import games.saboteur.SaboteurGameParameters;
-import games.saboteur.SaboteurGameState;
-import games.saboteur.gui.SaboteurGUIManager;
-import games.stratego.StrategoForwardModel;
-import games.stratego.StrategoGameState;
-import games.stratego.StrategoParams;
-import games.stratego.gui.StrategoGUIManager;
-import games.sushigo.SGForwardModel;
-import games.sushigo.SGGameState;
-import games.sushigo.SGParameters;
-import games.sushigo.gui.SGGUIManager;
-import games.terraformingmars.TMForwardModel;
-import games.terraformingmars.TMGameParameters;
-import games.terraformingmars.TMGameState;
-import games.terraformingmars.gui.TMGUI;
-import games.tictactoe.TicTacToeForwardModel;
-import games.tictactoe.TicTacToeGameParameters;
-import games.tictactoe.TicTacToeGameState;
-import games.tictactoe.gui.TicTacToeGUIManager;
-import games.toads.ToadForwardModel;
-import games.toads.ToadGUIManager;
-import games.toads.ToadGameState;
-import games.toads.ToadParameters;
-import games.uno.UnoForwardModel;
-import games.uno.UnoGameParameters;
-import games.uno.UnoGameState;
-import games.uno.gui.UnoGUIManager;
-import games.virus.VirusForwardModel;
-import games.virus.VirusGameParameters;
-import games.virus.VirusGameState;
-import games.wonders7.Wonders7ForwardModel;
-import games.wonders7.Wonders7GameParameters;
-import games.wonders7.Wonders7GameState;
-import games.wonders7.gui.Wonders7GUI;
-import gametemplate.GTForwardModel;
-import gametemplate.GTGUIManager;
-import gametemplate.GTGameState;
-import gametemplate.GTParameters;
 import gui.AbstractGUIManager;
-import gui.GamePanel;
-import gui.*;
 import llm.DocumentSummariser;
 import org.apache.commons.lang3.reflect.ConstructorUtils;
-import players.human.ActionController;
-import players.human.HumanGUIPlayer;
 
 import java.io.*;
 import java.lang.reflect.Constructor;
@@ -148,7 +17,6 @@ import java.util.*;
 import static core.CoreConstants.*;
 import static games.GameType.Category.*;
 import static games.GameType.Mechanic.*;
-import games.monopolydeal.*;
 
 /**
  * Encapsulates all games available in the framework, with minimum and maximum number of players as per game rules.
@@ -161,7 +29,7 @@ public enum GameType {
     /**
      * Game template example, see template in package {@link gametemplate}
      */
-    GameTemplate(1, 8, null, null, GTGameState.class, GTForwardModel.class, GTParameters.class, GTGUIManager.class),
+    GameTemplate(1, 8, null, null, "gametemplate.GTGameState", "gametemplate.GTForwardModel", "gametemplate.GTParameters", "gametemplate.GTGUIManager"),
     /**
      * Each game in the framework corresponds to a enum value here, giving minimum players, maximum players,
      * a list of categories the game belongs to, and a list of mechanics the game uses.
@@ -170,144 +38,146 @@ public enum GameType {
     Pandemic(2, 4,
             Arrays.asList(Strategy, Medical),
             Arrays.asList(ActionPoints, Cooperative, HandManagement, PointToPointMovement, SetCollection, Trading, VariablePlayerPowers),
-            PandemicGameState.class, PandemicForwardModel.class, PandemicParameters.class, PandemicGUIManager.class,
+            "games.pandemic.PandemicGameState", "games.pandemic.PandemicForwardModel", "games.pandemic.PandemicParameters", "games.pandemic.gui.PandemicGUIManager",
             "data/pandemic/"),
     TicTacToe(2, 2,
             Arrays.asList(Simple, Abstract),
             Collections.singletonList(PatternBuilding),
-            TicTacToeGameState.class, TicTacToeForwardModel.class, TicTacToeGameParameters.class, TicTacToeGUIManager.class),
+            "games.tictactoe.TicTacToeGameState", "games.tictactoe.TicTacToeForwardModel", "games.tictactoe.TicTacToeGameParameters", "games.tictactoe.gui.TicTacToeGUIManager"),
     Connect4(2, 2,
             Arrays.asList(Simple, Abstract),
             Collections.singletonList(PatternBuilding),
-            Connect4GameState.class, Connect4ForwardModel.class, Connect4GameParameters.class, Connect4GUIManager.class),
+            "games.connect4.Connect4GameState", "games.connect4.Connect4ForwardModel", "games.connect4.Connect4GameParameters", "games.connect4.gui.Connect4GUIManager"),
     ExplodingKittens(2, 5,
             Arrays.asList(Strategy, Animals, Cards, ComicBook, Humour),
             Arrays.asList(HandManagement, HotPotato, PlayerElimination, PushYourLuck, SetCollection, TakeThat),
-            ExplodingKittensGameState.class, ExplodingKittensForwardModel.class, ExplodingKittensParameters.class, ExplodingKittensGUIManager.class),
+            "games.explodingkittens.ExplodingKittensGameState", "games.explodingkittens.ExplodingKittensForwardModel", "games.explodingkittens.ExplodingKittensParameters", "games.explodingkittens.gui.ExplodingKittensGUIManager"),
     LoveLetter(2, 4,
             Arrays.asList(Cards, Deduction, Renaissance),
             Arrays.asList(HandManagement, PlayerElimination),
-            LoveLetterGameState.class, LoveLetterForwardModel.class, LoveLetterParameters.class, LoveLetterGUIManager.class),
+            "games.loveletter.LoveLetterGameState", "games.loveletter.LoveLetterForwardModel", "games.loveletter.LoveLetterParameters", "games.loveletter.gui.LoveLetterGUIManager"),
     Uno(2, 10,
             Arrays.asList(Cards, ComicBook, Number, MoviesTVRadio),
             Arrays.asList(HandManagement, LoseATurn, TakeThat),
-            UnoGameState.class, UnoForwardModel.class, UnoGameParameters.class, UnoGUIManager.class),
+            "games.uno.UnoGameState", "games.uno.UnoForwardModel", "games.uno.UnoGameParameters", "games.uno.gui.UnoGUIManager"),
     Virus(2, 6,
             Arrays.asList(Cards, Medical),
             Arrays.asList(CardDrafting, SetCollection, TakeThat),
-            VirusGameState.class, VirusForwardModel.class, VirusGameParameters.class, null),
+            "games.virus.VirusGameState", "games.virus.VirusForwardModel", "games.virus.VirusGameParameters", null),
     ColtExpress(2,
             6,
             Arrays.asList(Strategy, AmericanWest, Fighting, Trains),
             Arrays.asList(ActionQueue, HandManagement, Memory, ProgrammedEvent, SimultaneousActionSelection, TakeThat, VariablePlayerPowers),
-            ColtExpressGameState.class, ColtExpressForwardModel.class, ColtExpressParameters.class, ColtExpressGUIManager.class),
+            "games.coltexpress.ColtExpressGameState", "games.coltexpress.ColtExpressForwardModel", "games.coltexpress.ColtExpressParameters", "games.coltexpress.gui.ColtExpressGUIManager"),
     DotsAndBoxes(2, 6,
             Arrays.asList(Simple, Abstract, TerritoryBuilding),
             Collections.singletonList(Enclosure),
-            DBGameState.class, DBForwardModel.class, DBParameters.class, DBGUIManager.class),
+            "games.dotsboxes.DBGameState", "games.dotsboxes.DBForwardModel", "games.dotsboxes.DBParameters", "games.dotsboxes.DBGUIManager"),
     Poker(2, 14,
             Arrays.asList(Cards, ComicBook, Number, MoviesTVRadio, Bluffing),
             Arrays.asList(HandManagement, LoseATurn, TakeThat),
-            PokerGameState.class, PokerForwardModel.class, PokerGameParameters.class, PokerGUIManager.class),
+            "games.poker.PokerGameState", "games.poker.PokerForwardModel", "games.poker.PokerGameParameters", "games.poker.gui.PokerGUIManager"),
     Blackjack(2, 7,
             Arrays.asList(Cards, ComicBook, Number, MoviesTVRadio),
             Arrays.asList(HandManagement, LoseATurn, TakeThat),
-            BlackjackGameState.class, BlackjackForwardModel.class, BlackjackParameters.class, BlackjackGUIManager.class),
+            "games.blackjack.BlackjackGameState", "games.blackjack.BlackjackForwardModel", "games.blackjack.BlackjackParameters", "games.blackjack.gui.BlackjackGUIManager"),
     Diamant(2, 6,
             Arrays.asList(Adventure, Bluffing, Exploration),
             Arrays.asList(MoveThroughDeck, PushYourLuck, SimultaneousActionSelection),
-            DiamantGameState.class, DiamantForwardModel.class, DiamantParameters.class, null),
+            "games.diamant.DiamantGameState", "games.diamant.DiamantForwardModel", "games.diamant.DiamantParameters", null),
     Dominion(2, 4,
             Arrays.asList(Cards, Strategy),
             Collections.singletonList(DeckManagement),
-            DominionGameState.class, DominionForwardModel.class, DominionFGParameters.class, DominionGUIManager.class),
+            "games.dominion.DominionGameState", "games.dominion.DominionForwardModel", "games.dominion.DominionFGParameters", "games.dominion.gui.DominionGUIManager"),
     DominionSizeDistortion(2, 4,
             Arrays.asList(Cards, Strategy),
             Collections.singletonList(DeckManagement),
-            DominionGameState.class, DominionForwardModel.class, DominionSDParameters.class, DominionGUIManager.class),
+            "games.dominion.DominionGameState", "games.dominion.DominionForwardModel", "games.dominion.DominionSDParameters", "games.dominion.gui.DominionGUIManager"),
     DominionImprovements(2, 4,
             Arrays.asList(Cards, Strategy),
             Collections.singletonList(DeckManagement),
-            DominionGameState.class, DominionForwardModel.class, DominionIParameters.class, DominionGUIManager.class),
+            "games.dominion.DominionGameState", "games.dominion.DominionForwardModel", "games.dominion.DominionIParameters", "games.dominion.gui.DominionGUIManager"),
     Battlelore(2, 2,
             Arrays.asList(Fantasy, Miniatures, Wargame),
             Arrays.asList(Campaign, BattleCardDriven, CommandCards, DiceRolling, GridMovement, ModularBoard, VariablePlayerPowers),
-            BattleloreGameState.class, BattleloreForwardModel.class, BattleloreGameParameters.class, BattleloreGUI.class,
+            "games.battlelore.BattleloreGameState", "games.battlelore.BattleloreForwardModel", "games.battlelore.BattleloreGameParameters", "games.battlelore.gui.BattleloreGUI",
             "data/battlelore/"),
     SushiGo(2, 5,
             Arrays.asList(Strategy, Cards),
             Arrays.asList(SetCollection, PushYourLuck, SimultaneousActionSelection),
-            SGGameState.class, SGForwardModel.class, SGParameters.class, SGGUIManager.class),
+            "games.sushigo.SGGameState", "games.sushigo.SGForwardModel", "games.sushigo.SGParameters", "games.sushigo.gui.SGGUIManager"),
     Catan(3, 4,
             Arrays.asList(Strategy, Cards, Economic),
             Arrays.asList(Memory, GridMovement, ModularBoard, Negotiation, DiceRolling, Income, HexagonGrid,
                     NetworkAndRouteBuilding, Race, RandomProduction, Trading, VariableSetup),
-            CatanGameState.class, CatanForwardModel.class, CatanParameters.class, CatanGUI.class),
+            "games.catan.CatanGameState", "games.catan.CatanForwardModel", "games.catan.CatanParameters", "games.catan.gui.CatanGUI"),
     TerraformingMars(1, 5,
             Arrays.asList(Economic, Environmental, Manufacturing, TerritoryBuilding, Cards, Strategy, Exploration),
             Arrays.asList(Drafting, EndGameBonus, HandManagement, HexagonGrid, Income, SetCollection, TakeThat, TilePlacement, ProgressiveTurnOrder, VariablePlayerPowers, EngineBuilding, TableauBuilding),
-            TMGameState.class, TMForwardModel.class, TMGameParameters.class, TMGUI.class),
+            "games.terraformingmars.TMGameState", "games.terraformingmars.TMForwardModel", "games.terraformingmars.TMGameParameters", "games.terraformingmars.gui.TMGUI"),
     Stratego(2, 2,
             Arrays.asList(Strategy, Bluffing, Deduction, Abstract),
             Arrays.asList(Memory, GridMovement),
-            StrategoGameState.class, StrategoForwardModel.class, StrategoParams.class, StrategoGUIManager.class),
+            "games.stratego.StrategoGameState", "games.stratego.StrategoForwardModel", "games.stratego.StrategoParams", "games.stratego.gui.StrategoGUIManager"),
     CantStop(2, 4,
             Arrays.asList(Dice, Abstract),
             Collections.singletonList(PushYourLuck),
-            CantStopGameState.class, CantStopForwardModel.class, CantStopParameters.class, CantStopGUIManager.class),
+            "games.cantstop.CantStopGameState", "games.cantstop.CantStopForwardModel", "games.cantstop.CantStopParameters", "games.cantstop.gui.CantStopGUIManager"),
     Descent2e(2,5,
             new ArrayList<>(),
             new ArrayList<>(),
-            DescentGameState.class, DescentForwardModel.class, DescentParameters.class, DescentGUI.class),
+            "games.descent2e.DescentGameState", "games.descent2e.DescentForwardModel", "games.descent2e.DescentParameters", "games.descent2e.gui.DescentGUI"),
     MonopolyDeal(2, 5,
             Arrays.asList(Strategy, Cards, Economic),
             Arrays.asList(SetCollection, HandManagement, TakeThat),
-            MonopolyDealGameState.class, MonopolyDealForwardModel.class, MonopolyDealParameters.class, MonopolyDealGUIManager.class),
-    Hanabi(2, 5, new ArrayList<>(), new ArrayList<>(), HanabiGameState.class, HanabiForwardModel.class, HanabiParameters.class, HanabiGUIManager.class),
+            "games.monopolydeal.MonopolyDealGameState", "games.monopolydeal.MonopolyDealForwardModel", "games.monopolydeal.MonopolyDealParameters", "games.monopolydeal.gui.MonopolyDealGUIManager"),
+    Hanabi(2, 5, new ArrayList<>(), new ArrayList<>(), "games.hanabi.HanabiGameState", "games.hanabi.HanabiForwardModel", "games.hanabi.HanabiParameters", "games.hanabi.gui.HanabiGUIManager"),
     PuertoRico(3, 5,
             Arrays.asList(Strategy, Economic, Manufacturing, TerritoryBuilding),
             Arrays.asList(EndGameBonus, TilePlacement, RoleSelection, EngineBuilding, TableauBuilding),
-            PuertoRicoGameState.class, PuertoRicoForwardModel.class, PuertoRicoParameters.class, PuertoRicoGUI.class),
+            "games.puertorico.PuertoRicoGameState", "games.puertorico.PuertoRicoForwardModel", "games.puertorico.PuertoRicoParameters", "games.puertorico.gui.PuertoRicoGUI"),
     Wonders7(3, 7,
             Arrays.asList(Strategy, Civilization, Ancient, Cards, CityBuilding, Economic),
             Arrays.asList(ClosedDrafting, HandManagement, NeighbourScope, SetCollection, SimultaneousActionSelection, VariablePlayerPowers),
-            Wonders7GameState.class, Wonders7ForwardModel.class, Wonders7GameParameters.class, Wonders7GUI.class),
+            "games.wonders7.Wonders7GameState", "games.wonders7.Wonders7ForwardModel", "games.wonders7.Wonders7GameParameters", "games.wonders7.gui.Wonders7GUI"),
     Resistance(5, 10,
             Arrays.asList(Strategy, Bluffing, Deduction, Abstract),
             Arrays.asList(Memory, GridMovement),
-            ResGameState.class, ResForwardModel.class, ResParameters.class, ResGUIManager.class),
+            "games.resistance.ResGameState", "games.resistance.ResForwardModel", "games.resistance.ResParameters", "games.resistance.gui.ResGUIManager"),
     Hearts(3,7,Arrays.asList(Cards, Number),
             Arrays.asList(HandManagement, LoseATurn, TakeThat),
-            HeartsGameState.class, HeartsForwardModel.class, HeartsParameters.class, HeartsGUIManager.class),
+            "games.hearts.HeartsGameState", "games.hearts.HeartsForwardModel", "games.hearts.HeartsParameters", "games.hearts.gui.HeartsGUIManager"),
     ChineseCheckers(2, 6,
             Arrays.asList(Strategy, Abstract),
             Arrays.asList(GridMovement),
-            CCGameState.class, CCForwardModel.class, CCParameters.class, CCGUIManager.class),
+            "games.chinesecheckers.CCGameState", "games.chinesecheckers.CCForwardModel", "games.chinesecheckers.CCParameters", "games.chinesecheckers.gui.CCGUIManager"),
     Mastermind(1,1,
             Arrays.asList(Simple, Abstract, CodeBreaking),
             Arrays.asList(),
-            MMGameState.class, MMForwardModel.class, MMParameters.class, MMGUIManager.class),
+            "games.mastermind.MMGameState", "games.mastermind.MMForwardModel", "games.mastermind.MMParameters", "games.mastermind.gui.MMGUIManager"),
     WarOfTheToads(2, 2,
             Arrays.asList(Strategy, Abstract, Cards),
             Collections.singletonList(TrickTaking),
-            ToadGameState.class, ToadForwardModel.class, ToadParameters.class, ToadGUIManager.class),
+            "games.toads.ToadGameState", "games.toads.ToadForwardModel", "games.toads.ToadParameters", "games.toads.ToadGUIManager"),
     Root(2, 4, Arrays.asList(Strategy,Wargame), Arrays.asList(ActionPoints, ActionQueue,
             ActionRetrieval, AreaMajority, AreaMovement, DiceRolling, HandManagement, MultiUseCards, Negotiation,
-            PointToPointMovement, Race, SuddenDeathEnding, TakeThat, VariablePlayerPowers, VariableSetup), RootGameState.class, RootForwardModel.class, RootParameters.class, RootGUIManager.class),
+            PointToPointMovement, Race, SuddenDeathEnding, TakeThat, VariablePlayerPowers, VariableSetup), "games.root.RootGameState", "games.root.RootForwardModel", "games.root.RootParameters", "games.root.gui.RootGUIManager"),
     Saboteur(3, 10,
             Arrays.asList(Strategy, Abstract),
             Arrays.asList(TakeThat, VariablePlayerPowers),
-            SaboteurGameState.class, SaboteurForwardModel.class, SaboteurGameParameters.class, SaboteurGUIManager.class),
+            "games.saboteur.SaboteurGameState", "games.saboteur.SaboteurForwardModel", "games.saboteur.SaboteurGameParameters", "games.saboteur.gui.SaboteurGUIManager"),
     Azul(2, 4,
             Arrays.asList(Strategy, Abstract),
             Arrays.asList(),
-            AzulGameState .class, AzulForwardModel .class, AzulParameters .class, AzulGUIManager .class);;
+            "games.azul.AzulGameState", "games.azul.AzulForwardModel", "games.azul.AzulParameters", "games.azul.AzulGUIManager");;
 
-    // Core classes where the game is defined
-    final Class<? extends AbstractGameState> gameStateClass;
-    final Class<? extends AbstractForwardModel> forwardModelClass;
-    final Class<? extends AbstractParameters> parameterClass;
-    final Class<? extends AbstractGUIManager> guiManagerClass;
+    // Core classes where the game is defined. These are named rather than referenced, and only loaded when first
+    // needed, so that playing one game does not load the classes of every other game (and of all their GUIs)
+    private final String gameStateClassName, forwardModelClassName, parameterClassName, guiManagerClassName;
+    private Class<? extends AbstractGameState> gameStateClass;
+    private Class<? extends AbstractForwardModel> forwardModelClass;
+    private Class<? extends AbstractParameters> parameterClass;
+    private Class<? extends AbstractGUIManager> guiManagerClass;
 
     // Minimum and maximum number of players supported in this game
     private final int minPlayers, maxPlayers;
@@ -320,23 +190,21 @@ public enum GameType {
     private final String dataPath;
 
     GameType(int minPlayers, int maxPlayers, List<Category> categories, List<Mechanic> mechanics,
-             Class<? extends AbstractGameState> gameStateClass, Class<? extends AbstractForwardModel> forwardModelClass,
-             Class<? extends AbstractParameters> parameterClass, Class<? extends AbstractGUIManager> guiManagerClass,
+             String gameStateClass, String forwardModelClass, String parameterClass, String guiManagerClass,
              String dataPath) {
         this.minPlayers = minPlayers;
         this.maxPlayers = maxPlayers;
         this.categories = categories;
         this.mechanics = mechanics;
-        this.gameStateClass = gameStateClass;
-        this.forwardModelClass = forwardModelClass;
-        this.parameterClass = parameterClass;
-        this.guiManagerClass = guiManagerClass;
+        this.gameStateClassName = gameStateClass;
+        this.forwardModelClassName = forwardModelClass;
+        this.parameterClassName = parameterClass;
+        this.guiManagerClassName = guiManagerClass;
         this.dataPath = dataPath;
     }
 
     GameType(int minPlayers, int maxPlayers, List<Category> categories, List<Mechanic> mechanics,
-             Class<? extends AbstractGameState> gameStateClass, Class<? extends AbstractForwardModel> forwardModelClass,
-             Class<? extends AbstractParameters> parameterClass, Class<? extends AbstractGUIManager> guiManagerClass) {
+             String gameStateClass, String forwardModelClass, String parameterClass, String guiManagerClass) {
         this(minPlayers, maxPlayers, categories, mechanics, gameStateClass, forwardModelClass, parameterClass, guiManagerClass, null);
     }
 
@@ -396,22 +264,42 @@ public enum GameType {
     }
 
     public Class<? extends AbstractGameState> getGameStateClass() {
+        if (gameStateClass == null)
+            gameStateClass = loadClass(gameStateClassName, AbstractGameState.class);
         return gameStateClass;
     }
 
     public Class<? extends AbstractForwardModel> getForwardModelClass() {
+        if (forwardModelClass == null)
+            forwardModelClass = loadClass(forwardModelClassName, AbstractForwardModel.class);
         return forwardModelClass;
     }
 
     public Class<? extends AbstractGUIManager> getGuiManagerClass() {
+        if (guiManagerClass == null)
+            guiManagerClass = loadClass(guiManagerClassName, AbstractGUIManager.class);
         return guiManagerClass;
     }
 
     public Class<? extends AbstractParameters> getParameterClass() {
+        if (parameterClass == null)
+            parameterClass = loadClass(parameterClassName, AbstractParameters.class);
         return parameterClass;
     }
 
+    // The class is loaded, but not initialised until it is used
+    private static <T> Class<? extends T> loadClass(String className, Class<T> superClass) {
+        if (className == null)
+            return null;
+        try {
+            return Class.forName(className, false, GameType.class.getClassLoader()).asSubclass(superClass);
+        } catch (ClassNotFoundException e) {
+            throw new AssertionError("Class not found: " + className, e);
+        }
+    }
+
     public AbstractGameState createGameState(AbstractParameters params, int nPlayers) {
+        Class<? extends AbstractGameState> gameStateClass = getGameStateClass();
         if (gameStateClass == null) throw new AssertionError("No game state class declared for the game: " + this);
         try {
             Constructor<?> constructorGS = ConstructorUtils.getMatchingAccessibleConstructor(gameStateClass, AbstractParameters.class, Integer.class);
@@ -422,6 +310,7 @@ public enum GameType {
     }
 
     public AbstractForwardModel createForwardModel(AbstractParameters params, int nPlayers) {
+        Class<? extends AbstractForwardModel> forwardModelClass = getForwardModelClass();
         if (forwardModelClass == null)
             throw new AssertionError("No forward model class declared for the game: " + this);
         try {
@@ -438,6 +327,7 @@ public enum GameType {
     }
 
     public AbstractParameters createParameters(long seed) {
+        Class<? extends AbstractParameters> parameterClass = getParameterClass();
         if (parameterClass == null) throw new AssertionError("No parameter class declared for the game: " + this);
         try {
             if (dataPath != null) {
@@ -461,34 +351,6 @@ public enum GameType {
         }
     }
 
-    /**
-     * Creates a graphical user interface for the given game type. Add here all games with a GUI available.
-     *
-     * @param game - game to create a GUI for.
-     * @param ac   - ActionController object allowing for user interaction with the GUI.
-     * @return - GUI for the given game type.
-     */
-    public AbstractGUIManager createGUIManager(GamePanel parent, Game game, ActionController ac) {
-        if (guiManagerClass == null) throw new AssertionError("No GUI manager class declared for the game: " + this);
-
-        // Find ID of human player, if any (-1 if none)
-        Set<Integer> human = new HashSet<>();
-        if (game != null && game.getPlayers() != null) {
-            for (int i = 0; i < game.getPlayers().size(); i++) {
-                if (game.getPlayers().get(i) instanceof HumanGUIPlayer) {
-                    human.add(i);
-                }
-            }
-        }
-
-        try {
-            Constructor<?> constructorGS = ConstructorUtils.getMatchingAccessibleConstructor(guiManagerClass, GamePanel.class, Game.class, ActionController.class, Set.class);
-            return (AbstractGUIManager) constructorGS.newInstance(parent, game, ac, human);
-        } catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
-            throw new RuntimeException(e);
-        }
-    }
-
     /**
      * Creates an instance of the given game type with nPlayers number of players and random seed.
      *
@@ -529,10 +391,10 @@ public enum GameType {
 
     @Override
     public String toString() {
-        boolean gui = guiManagerClass != null;
-        boolean fm = forwardModelClass != null;
-        boolean gs = gameStateClass != null;
-        boolean params = parameterClass != null;
+        boolean gui = guiManagerClassName != null;
+        boolean fm = forwardModelClassName != null;
+        boolean gs = gameStateClassName != null;
+        boolean params = parameterClassName != null;
         return ANSI_GREEN + this.name() + ANSI_RESET + " {" +
                 "\n\tminPlayers = " + minPlayers +
                 "\n\tmaxPlayers = " + maxPlayers +
@@ -50,7 +50,7 @@ public class Connect4GameState extends AbstractGameState implements IPrintable,
 
     @Override
     protected AbstractGameState _copy(int playerId) {
-        Connect4GameState s = new Connect4GameState(gameParameters.copy(), getNPlayers());
+        Connect4GameState s = new Connect4GameState(gameParameters.frozenCopy(), getNPlayers());
         s.gridBoard = gridBoard.copy();
 
         s.winnerCells.clear();
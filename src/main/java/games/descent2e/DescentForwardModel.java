@@ -136,7 +136,7 @@ public class DescentForwardModel extends StandardForwardModel {
             // Assign starting skills and equipment from chosen class
             Deck<Card> classDeck = _data.findDeck(heroClass.name());
             for (Card c : classDeck.getComponents()) {
-                if (((PropertyInt) c.getProperty(xpHash)).value <= figure.getAttribute(Figure.Attribute.XP).getValue()) {
+                if (c.getIntProperty(xpHash) <= figure.getAttribute(Figure.Attribute.XP).getValue()) {
                     figure.equip(new DescentCard(c));
                 }
             }
@@ -536,7 +536,7 @@ public class DescentForwardModel extends StandardForwardModel {
                 tileCoords.remove(option);
                 BoardNode position = dgs.masterBoard.getElement(option.getX(), option.getY());
                 if (position.getComponentName().equals("plain") &&
-                        ((PropertyInt) position.getProperty(playersHash)).value == -1) {
+                        position.getIntProperty(playersHash) == -1) {
                     //if (position.getComponentName().equals("plain") && !Move.checkCollision(dgs, monster, option)) {
                     // TODO: some monsters want to spawn in lava/water.
                     // This can be top-left corner, check if the other tiles are valid too
@@ -548,7 +548,7 @@ public class DescentForwardModel extends StandardForwardModel {
                             BoardNode tile = dgs.masterBoard.getElement(thisTile.getX(), thisTile.getY());
                             if (tile == null || !tile.getComponentName().equals("plain") ||
                                     !tileCoords.contains(thisTile) ||
-                                    ((PropertyInt) tile.getProperty(playersHash)).value != -1) {
+                                    tile.getIntProperty(playersHash) != -1) {
                                 canPlace = false;
                             }
                         }
@@ -1203,7 +1203,7 @@ public class DescentForwardModel extends StandardForwardModel {
             // Find width of this tile, according to orientation
             GridBoard tile = tileConfigs.get(bn.getComponentID());
             if (tile != null) {
-                int orientation = ((PropertyInt) bn.getProperty(orientationHash)).value;
+                int orientation = bn.getIntProperty(orientationHash);
                 if (orientation % 2 == 0) {
                     width += tile.getWidth();
                     height += tile.getHeight();
@@ -1231,7 +1231,7 @@ public class DescentForwardModel extends StandardForwardModel {
         if (firstTile != null) {
             // Find grid board of first tile, rotate to correct orientation and add its tiles to the board
             GridBoard tile = tileConfigs.get(firstTile.getComponentID());
-            int orientation = ((PropertyInt) firstTile.getProperty(orientationHash)).value;
+            int orientation = firstTile.getIntProperty(orientationHash);
             Component[][] rotated = tile.rotate(orientation);
             int startX = width / 2 - rotated[0].length / 2;
             int startY = height / 2 - rotated.length / 2;
@@ -1313,7 +1313,7 @@ public class DescentForwardModel extends StandardForwardModel {
         if (!drawn.containsKey(parentTile) || !drawn.get(parentTile).equals(tileToAdd)) {
             // Draw this tile in the big board at x, y location
             GridBoard tile = tiles.get(tileToAdd.getComponentID());
-            BoardNode[][] originalTileGrid = tile.rotate(((PropertyInt) tileToAdd.getProperty(orientationHash)).value);
+            BoardNode[][] originalTileGrid = tile.rotate(tileToAdd.getIntProperty(orientationHash));
             if (tileGrid == null) {
                 tileGrid = originalTileGrid;
             }
@@ -1380,7 +1380,7 @@ public class DescentForwardModel extends StandardForwardModel {
                     // Find orientation and opening connection from neighbour, generate top-left corner of neighbour from that
                     GridBoard tileN = tiles.get(neighbour.getComponentID());
                     if (tileN != null) {
-                        BoardNode[][] tileGridN = tileN.rotate(((PropertyInt) neighbour.getProperty(orientationHash)).value);
+                        BoardNode[][] tileGridN = tileN.rotate(neighbour.getIntProperty(orientationHash));
 
                         // Find location to start drawing neighbour
                         Pair<String, Vector2D> conn2 = findConnection(neighbour, tileToAdd, findOpenings(tileGridN));
@@ -1873,7 +1873,7 @@ public class DescentForwardModel extends StandardForwardModel {
             tileCoords.remove(option);
             BoardNode position = dgs.masterBoard.getElement(option.getX(), option.getY());
             if (position.getComponentName().equals("plain") &&
-                    ((PropertyInt) position.getProperty(playersHash)).value == -1) {
+                    position.getIntProperty(playersHash) == -1) {
                 // TODO: some monsters want to spawn in lava/water.
                 // This can be top-left corner, check if the other tiles are valid too
                 boolean canPlace = true;
@@ -1884,7 +1884,7 @@ public class DescentForwardModel extends StandardForwardModel {
                         BoardNode tile = dgs.masterBoard.getElement(thisTile.getX(), thisTile.getY());
                         if (tile == null || !tile.getComponentName().equals("plain") ||
                                 !tileCoords.contains(thisTile) ||
-                                ((PropertyInt) tile.getProperty(playersHash)).value != -1) {
+                                tile.getIntProperty(playersHash) != -1) {
                             canPlace = false;
                         }
                     }
@@ -12,12 +12,11 @@ import games.descent2e.concepts.GameOverCondition;
 import games.descent2e.concepts.Quest;
 import org.json.simple.JSONArray;
 import org.json.simple.JSONObject;
-import org.json.simple.parser.JSONParser;
 import org.json.simple.parser.ParseException;
+import utilities.JSONDataCache;
 import utilities.Vector2D;
 
 import java.io.File;
-import java.io.FileReader;
 import java.io.IOException;
 import java.lang.reflect.InvocationTargetException;
 import java.util.*;
@@ -127,11 +126,10 @@ public class DescentGameData extends AbstractGameData {
 
     private static ArrayList<Quest> loadQuests(String dataPath) {
 
-        JSONParser jsonParser = new JSONParser();
         ArrayList<Quest> quests = new ArrayList<>();
 
-        try (FileReader reader = new FileReader(dataPath)) {
-            JSONArray data = (JSONArray) jsonParser.parse(reader);
+        try {
+            JSONArray data = (JSONArray) JSONDataCache.parse(dataPath);
 
             for (Object o : data) {
                 JSONObject obj = (JSONObject) o;
@@ -293,9 +291,8 @@ public class DescentGameData extends AbstractGameData {
     private static HashMap<String, HashMap<String, Monster>> loadMonsters(String dataPath) {
         HashMap<String, HashMap<String, Monster>> monsters = new HashMap<>();
 
-        JSONParser jsonParser = new JSONParser();
-        try (FileReader reader = new FileReader(dataPath)) {
-            JSONArray data = (JSONArray) jsonParser.parse(reader);
+        try {
+            JSONArray data = (JSONArray) JSONDataCache.parse(dataPath);
 
             for (Object o : data) {
                 JSONObject obj = (JSONObject) o;
@@ -7,7 +7,6 @@ import core.components.Deck;
 import core.components.GridBoard;
 import core.properties.Property;
 import core.properties.PropertyInt;
-import core.properties.PropertyVector2D;
 import games.descent2e.actions.DescentAction;
 import games.descent2e.actions.Move;
 import games.descent2e.actions.attack.RangedAttack;
@@ -75,11 +74,11 @@ public class DescentHelper {
 
             for (BoardNode neighbour : neighbours) {
                 if (neighbour == null) continue;
-                int neighbourID = ((PropertyInt) neighbour.getProperty(playersHash)).value;
+                int neighbourID = neighbour.getIntProperty(playersHash);
                 if (neighbourID != -1) {
                     Figure other = (Figure) dgs.getComponentById(neighbourID);
                     // Checks to make sure that there is a line of sight before approving the attack action
-                    if (hasLineOfSight(dgs, ((PropertyVector2D) currentTile.getProperty("coordinates")).values, ((PropertyVector2D) neighbour.getProperty("coordinates")).values)) {
+                    if (hasLineOfSight(dgs, currentTile.getVector2DProperty(coordinateHash), neighbour.getVector2DProperty(coordinateHash))) {
                         if (f instanceof Monster && other instanceof Hero) {
                             // Monster attacks a hero
                             if (!targets.contains(other.getComponentID())) {
@@ -141,12 +140,12 @@ public class DescentHelper {
 
             for (BoardNode neighbour : rangedTargets) {
                 if (neighbour == null) continue;
-                int neighbourID = ((PropertyInt) neighbour.getProperty(playersHash)).value;
+                int neighbourID = neighbour.getIntProperty(playersHash);
                 if (neighbourID != -1) {
                     Figure other = (Figure) dgs.getComponentById(neighbourID);
 
                     // Checks to make sure that there is a line of sight before approving the attack action
-                    if (hasLineOfSight(dgs, ((PropertyVector2D) currentTile.getProperty("coordinates")).values, ((PropertyVector2D) neighbour.getProperty("coordinates")).values)) {
+                    if (hasLineOfSight(dgs, currentTile.getVector2DProperty(coordinateHash), neighbour.getVector2DProperty(coordinateHash))) {
                         if (f instanceof Monster && other instanceof Hero) {
                             // Monster attacks a hero
                             targets.add(other.getComponentID());
@@ -175,7 +174,7 @@ public class DescentHelper {
         for (BoardNode neighbour : startTile.getNeighbours().keySet()) {
             if (neighbour == null) continue;
             if (newTiles.contains(neighbour)) continue;
-            int neighbourID = ((PropertyInt) neighbour.getProperty(playersHash)).value;
+            int neighbourID = neighbour.getIntProperty(playersHash);
             if (neighbourID == f)
             {
                 newTiles.addAll(getAttackingTiles(f, neighbour, newTiles));
@@ -196,10 +195,10 @@ public class DescentHelper {
         ArrayList<Vector2D> containedPoints = LineOfSight.bresenhamsLineAlgorithm(startPoint, endPoint);
 
         BoardNode startTile = dgs.masterBoard.getElement(startPoint.getX(), startPoint.getY());
-        int start = ((PropertyInt) startTile.getProperty(playersHash)).value;
+        int start = startTile.getIntProperty(playersHash);
 
         BoardNode targetTile = dgs.masterBoard.getElement(endPoint.getX(), endPoint.getY());
-        int target = ((PropertyInt) targetTile.getProperty(playersHash)).value;
+        int target = targetTile.getIntProperty(playersHash);
 
         // For each coordinate in the line, check:
         // 1) Does the coordinate have its board node
@@ -219,7 +218,7 @@ public class DescentHelper {
             }
 
             // Check 2) Is the board node empty (or, if either figure is large, not occupied by itself or the target)
-            int owner = ((PropertyInt) currentTile.getProperty(playersHash)).value;
+            int owner = currentTile.getIntProperty(playersHash);
             if (owner != -1 && i != containedPoints.size() - 1){
                 if (owner != target && owner != start){
                     hasLineOfSight = false;
@@ -299,7 +298,7 @@ public class DescentHelper {
             for (BoardNode neighbourNode : neighbours){
                 PropertyInt figureOnLocation = (PropertyInt) neighbourNode.getProperty(playersHash);
                 if (figureOnLocation.value == -1){
-                    Vector2D loc = ((PropertyVector2D) neighbourNode.getProperty(coordinateHash)).values;
+                    Vector2D loc = neighbourNode.getVector2DProperty(coordinateHash);
 
                     // TODO: use actual A* instead of 0
                     //Double movementCost =  a_star_distance(figureNode, neighboutNode)
@@ -335,7 +334,7 @@ public class DescentHelper {
             // Go through all the neighbour nodes
             HashMap<BoardNode, Double> neighbours = expandingNode.getNeighbours();
             for (BoardNode neighbour : neighbours.keySet()){
-                Vector2D loc = ((PropertyVector2D) neighbour.getProperty(coordinateHash)).values;
+                Vector2D loc = neighbour.getVector2DProperty(coordinateHash);
 
                 double costToMoveToNeighbour = expandingNode.getNeighbourCost(neighbour);
                 double totalCost = expandingNodeCost + costToMoveToNeighbour;
@@ -395,7 +394,7 @@ public class DescentHelper {
         //Return list of coordinates
         HashMap<Vector2D, Pair<Double,List<Vector2D>>> allAdjacentLocations = new HashMap<>();
         for (BoardNode boardNode : allAdjacentNodes.keySet()){
-            Vector2D loc = ((PropertyVector2D) boardNode.getProperty(coordinateHash)).values;
+            Vector2D loc = boardNode.getVector2DProperty(coordinateHash);
             allAdjacentLocations.put(loc, allAdjacentNodes.get(boardNode));
         }
 
@@ -618,7 +617,7 @@ public class DescentHelper {
             Pair<BoardNode, Integer> curr = queue.peek();
             BoardNode node = curr.a;
 
-            Vector2D currLoc = ((PropertyVector2D) node.getProperty(coordinateHash)).values;
+            Vector2D currLoc = node.getVector2DProperty(coordinateHash);
 
             // If we have reached the destination cell, we are done
             if (currLoc.equals(end))
@@ -630,7 +629,7 @@ public class DescentHelper {
             for (BoardNode neighbour : node.getNeighbours().keySet())
             {
                 if (neighbour == null) continue;
-                Vector2D nextLoc = ((PropertyVector2D) neighbour.getProperty(coordinateHash)).values;
+                Vector2D nextLoc = neighbour.getVector2DProperty(coordinateHash);
                 if (!checkValid(nextLoc.getX(), nextLoc.getY(), board)) continue;
                 if (!visited[nextLoc.getX()][nextLoc.getY()])
                 {
@@ -655,7 +654,7 @@ public class DescentHelper {
         StringBuilder coords = new StringBuilder();
         for (Component node : grid) {
             if (node != null) {
-                if (((PropertyInt) node.getProperty(playersHash)).value == figureId) {
+                if (node.getIntProperty(playersHash) == figureId) {
                     counter++;
                     coords.append(node.getProperty("coordinates").toString()+"; ");
                 }
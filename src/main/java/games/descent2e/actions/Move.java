@@ -21,6 +21,7 @@ import java.util.Map;
 import java.util.Objects;
 
 import static utilities.Utils.getNeighbourhood;
+import static core.CoreConstants.playersHash;
 
 public class Move extends AbstractAction {
     final List<Vector2D> positionsTraveled;
@@ -81,7 +82,7 @@ public class Move extends AbstractAction {
 
         // We can only end our movement on a space that is not occupied by another figure
         // This is not important if we are considered off the map
-        int player = ((PropertyInt) node.getProperty("players")).value;
+        int player = node.getIntProperty(playersHash);
         if (!f.isOffMap()) {
             if (player != -1 && player != f.getComponentID()) return false;
             //if (checkCollision(dgs, f, finalPosition)) return false;
@@ -245,7 +246,7 @@ public class Move extends AbstractAction {
 
         BoardNode baseSpace = dgs.getMasterBoard().getElement(position.getX(), position.getY());
         // If the original space is empty, or is occupied by this figure, we can just place the figure there
-        int player = ((PropertyInt) baseSpace.getProperty("players")).value;
+        int player = baseSpace.getIntProperty(playersHash);
 
         if (player == -1 || player == f.getComponentID()) {
             place(dgs, f, position, orientation);
@@ -269,7 +270,7 @@ public class Move extends AbstractAction {
                     BoardNode node = board.getElement(neighbour.getX(), neighbour.getY());
                     if (node != null) {
                         // Check if there are no other figures on the space, and that it is walkable
-                        player = ((PropertyInt) node.getProperty("players")).value;
+                        player = node.getIntProperty(playersHash);
                         if (DescentTypes.TerrainType.isWalkableTerrain(node.getComponentName()) && (player == -1 || player == f.getComponentID())) {
                             possibilities.add(neighbour);
                         }
@@ -147,8 +147,8 @@ public class TriggerAttributeTest extends DescentAction implements IExtendedSequ
         // This is where the call for the Attribute Tests would go
         List<AbstractAction> retVal = new ArrayList<>();
         // TODO: This feels incredibly hacky, but for whatever reason, it just works.
-        if (state.getHistory().isEmpty()) return null;
-        AbstractAction lastAction = state.getHistory().get(state.getHistory().size() - 1).b;
+        AbstractAction lastAction = state.getLastAction();
+        if (lastAction == null) return null;
         if (lastAction instanceof RerollAttributeTest || lastAction instanceof EndCurrentPhase)
         {
             // If the Reroll option is available, even if the player chooses not to take it, the Game is expecting
@@ -3,7 +3,6 @@ package games.descent2e.actions.monsterfeats;
 import core.actions.AbstractAction;
 import core.components.BoardNode;
 import core.components.GridBoard;
-import core.properties.PropertyVector2D;
 import games.descent2e.DescentGameState;
 import games.descent2e.actions.DescentAction;
 import games.descent2e.actions.archetypeskills.Heal;
@@ -18,6 +17,7 @@ import java.util.List;
 
 import static games.descent2e.DescentHelper.getAttackingTiles;
 import static games.descent2e.DescentHelper.inRange;
+import static core.CoreConstants.coordinateHash;
 
 public class MonsterAbilities {
 
@@ -74,7 +74,7 @@ public class MonsterAbilities {
                             for (Hero h : heroes) {
                                 if (targets.contains(h.getComponentID())) continue;
                                 Vector2D other = h.getPosition();
-                                if (inRange(((PropertyVector2D) currentTile.getProperty("coordinates")).values, other, 3)) {
+                                if (inRange(currentTile.getVector2DProperty(coordinateHash), other, 3)) {
                                     targets.add(h.getComponentID());
                                 }
                             }
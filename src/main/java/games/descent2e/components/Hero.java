@@ -13,10 +13,9 @@ import games.descent2e.concepts.HeroicFeat;
 import org.jetbrains.annotations.NotNull;
 import org.json.simple.JSONArray;
 import org.json.simple.JSONObject;
-import org.json.simple.parser.JSONParser;
 import org.json.simple.parser.ParseException;
+import utilities.JSONDataCache;
 
-import java.io.FileReader;
 import java.io.IOException;
 import java.util.*;
 import java.util.stream.Collectors;
@@ -329,12 +328,11 @@ public class Hero extends Figure {
      * @return - List of Figure objects.
      */
     public static List<Hero> loadHeroes(String filename) {
-        JSONParser jsonParser = new JSONParser();
         ArrayList<Hero> figures = new ArrayList<>();
 
-        try (FileReader reader = new FileReader(filename)) {
+        try {
 
-            JSONArray data = (JSONArray) jsonParser.parse(reader);
+            JSONArray data = (JSONArray) JSONDataCache.parse(filename);
             for (Object o : data) {
 
                 Hero newFigure = new Hero("", -1);
@@ -5,6 +5,7 @@ import core.AbstractParameters;
 import core.components.Component;
 import core.interfaces.IStateHeuristic;
 import games.GameType;
+import utilities.Zobrist;
 
 import java.util.*;
 
@@ -26,6 +27,7 @@ public class DBGameState extends AbstractGameState {
     HashMap<DBCell, Integer> cellToOwnerMap;  // Mapping from each cell to its owner, if complete
     HashMap<DBEdge, Integer> edgeToOwnerMap;  // Mapping from each edge to its owner, if placed
     boolean lastActionDidNotScore;
+    long ownerZobristHash;  // XOR of the keys of all (edge, owner) and (cell, owner) pairs in the maps above
 
     /**
      * Constructor. Initialises some generic game state variables.
@@ -59,6 +61,7 @@ public class DBGameState extends AbstractGameState {
         dbgs.nCellsPerPlayer = nCellsPerPlayer.clone();
         dbgs.cellToOwnerMap = (HashMap<DBCell, Integer>) cellToOwnerMap.clone();
         dbgs.edgeToOwnerMap = (HashMap<DBEdge, Integer>) edgeToOwnerMap.clone();
+        dbgs.ownerZobristHash = ownerZobristHash;
         dbgs.heuristic = heuristic;
         return dbgs;
     }
@@ -107,6 +110,15 @@ public class DBGameState extends AbstractGameState {
         return result;
     }
 
+    /**
+     * The edges and cells never change, so only the owners need hashing; these are kept up to date by
+     * setEdgeOwner() and setCellOwner(). nCellsPerPlayer follows from cellToOwnerMap.
+     */
+    @Override
+    public long getZobristHash() {
+        return coreZobristHash() ^ ownerZobristHash ^ Zobrist.key(-100, lastActionDidNotScore ? 1 : 0);
+    }
+
     @Override
     public String toString() {
         StringBuilder sb = new StringBuilder();
@@ -159,6 +171,17 @@ public class DBGameState extends AbstractGameState {
         }
         return retValue;
     }
+    void setEdgeOwner(DBEdge edge, int player) {
+        edgeToOwnerMap.put(edge, player);
+        ownerZobristHash ^= Zobrist.key(Zobrist.key(-101, edge), player);
+    }
+
+    void setCellOwner(DBCell cell, int player) {
+        cellToOwnerMap.put(cell, player);
+        nCellsPerPlayer[player]++;
+        ownerZobristHash ^= Zobrist.key(Zobrist.key(-102, cell), player);
+    }
+
     public boolean getLastActionDidNotScore(){return lastActionDidNotScore;}
     public void setLastActionDidNotScore(boolean value){
         lastActionDidNotScore = value;}
@@ -59,7 +59,7 @@ public class ExplodingKittensGameState extends AbstractGameState {
 
     @Override
     protected ExplodingKittensGameState _copy(int playerId) {
-        ExplodingKittensGameState ekgs = new ExplodingKittensGameState(gameParameters.copy(), getNPlayers());
+        ExplodingKittensGameState ekgs = new ExplodingKittensGameState(gameParameters.frozenCopy(), getNPlayers());
         ekgs.discardPile = discardPile.copy();
         ekgs.currentPlayerTurnsLeft = currentPlayerTurnsLeft;
         ekgs.nextAttackLevel = nextAttackLevel;
@@ -11,6 +11,7 @@ import evaluation.metrics.Event;
 import games.GameType;
 import games.loveletter.cards.CardType;
 import games.loveletter.cards.LoveLetterCard;
+import utilities.Zobrist;
 
 import java.util.*;
 
@@ -68,7 +69,7 @@ public class LoveLetterGameState extends AbstractGameState implements IPrintable
 
     @Override
     protected AbstractGameState _copy(int playerId) {
-        LoveLetterGameState llgs = new LoveLetterGameState(gameParameters.copy(), getNPlayers());
+        LoveLetterGameState llgs = new LoveLetterGameState(gameParameters.frozenCopy(), getNPlayers());
         llgs.drawPile = drawPile.copy();
         llgs.reserveCards = reserveCards.copy();
         llgs.removedCard = removedCard.copy();
@@ -145,6 +146,14 @@ public class LoveLetterGameState extends AbstractGameState implements IPrintable
         return result;
     }
 
+    @Override
+    public long getZobristHash() {
+        long h = coreZobristHash() ^ zobristHash(playerHandCards) ^ zobristHash(playerDiscardCards);
+        h ^= zobristHash(drawPile) ^ zobristHash(reserveCards) ^ zobristHash(removedCard);
+        h ^= Zobrist.key(-100, Arrays.hashCode(effectProtection)) ^ Zobrist.key(-101, Arrays.hashCode(affectionTokens));
+        return h;
+    }
+
     /**
      * Updates components after round setup.
      */
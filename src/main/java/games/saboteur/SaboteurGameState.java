@@ -67,7 +67,7 @@ public class SaboteurGameState extends AbstractGameState
     @Override
     protected SaboteurGameState _copy(int playerId)
     {
-        SaboteurGameState copy = new SaboteurGameState(gameParameters.copy(), getNPlayers());
+        SaboteurGameState copy = new SaboteurGameState(gameParameters.frozenCopy(), getNPlayers());
         copy.rnd = rnd;
 
         //copying brokenToolsDeck
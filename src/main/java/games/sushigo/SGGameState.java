@@ -58,7 +58,7 @@ public class SGGameState extends AbstractGameState {
 
     @Override
     protected SGGameState _copy(int playerId) {
-        SGGameState copy = new SGGameState(gameParameters.copy(), getNPlayers());
+        SGGameState copy = new SGGameState(gameParameters.frozenCopy(), getNPlayers());
 
         copy.playerScore = new Counter[getNPlayers()];
         copy.playedCardTypes = new HashMap[getNPlayers()];
@@ -9,13 +9,12 @@ import games.terraformingmars.components.*;
 import games.terraformingmars.rules.effects.Bonus;
 import org.json.simple.JSONArray;
 import org.json.simple.JSONObject;
-import org.json.simple.parser.JSONParser;
 import org.json.simple.parser.ParseException;
+import utilities.JSONDataCache;
 import utilities.Utils;
 import utilities.Vector2D;
 
 import java.awt.*;
-import java.io.FileReader;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -304,9 +303,8 @@ public class TMTypes {
 
         public void loadBoard(GridBoard board, HashSet<TMMapTile> extraTiles, HashSet<Bonus> bonuses,
                               HashSet<Milestone> milestones, HashSet<Award> awards, HashMap<GlobalParameter, games.terraformingmars.components.GlobalParameter> globalParameters) {
-            JSONParser jsonParser = new JSONParser();
-            try (FileReader reader = new FileReader(getBoardPath())) {
-                JSONObject data = (JSONObject) jsonParser.parse(reader);
+            try {
+                JSONObject data = (JSONObject) JSONDataCache.parse(getBoardPath());
 
                 // Process main map
                 if (data.get("board") != null) {
@@ -387,9 +385,8 @@ public class TMTypes {
         }
 
         private void loadCards(Deck<TMCard> deck, String path) {
-            JSONParser jsonParser = new JSONParser();
-            try (FileReader reader = new FileReader(path)) {
-                JSONArray data = (JSONArray) jsonParser.parse(reader);
+            try {
+                JSONArray data = (JSONArray) JSONDataCache.parse(path);
                 for (Object o: data) {
                     TMCard card;
                     if (deck.getComponentName().equalsIgnoreCase("corporations")) {
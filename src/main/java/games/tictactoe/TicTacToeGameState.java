@@ -8,6 +8,7 @@ import core.components.GridBoard;
 import core.interfaces.IGridGameState;
 import core.interfaces.IPrintable;
 import games.GameType;
+import utilities.Zobrist;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -37,7 +38,7 @@ public class TicTacToeGameState extends AbstractGameState implements IPrintable,
 
     @Override
     protected TicTacToeGameState _copy(int playerId) {
-        TicTacToeGameState s = new TicTacToeGameState(gameParameters.copy(), getNPlayers());
+        TicTacToeGameState s = new TicTacToeGameState(gameParameters.frozenCopy(), getNPlayers());
         s.gridBoard = gridBoard.copy();
         return s;
     }
@@ -77,6 +78,12 @@ public class TicTacToeGameState extends AbstractGameState implements IPrintable,
     public int hashCode() {
         return Objects.hash(super.hashCode(), gridBoard);
     }
+
+    @Override
+    public long getZobristHash() {
+        return coreZobristHash() ^ Zobrist.key(-100, gridBoard.getZobristHash());
+    }
+
     @Override
     public String toString() {
         return Objects.hash(gameParameters) + "|" +
@@ -8,6 +8,7 @@ import core.components.PartialObservableDeck;
 import games.GameType;
 import games.toads.components.ToadCard;
 import utilities.DeterminisationUtilities;
+import utilities.Zobrist;
 
 import java.util.*;
 
@@ -283,6 +284,21 @@ public class ToadGameState extends AbstractGameState {
                 Arrays.hashCode(hiddenFlankCards) + Arrays.hashCode(fieldCards) + Arrays.hashCode(tieBreakers) + Arrays.hashCode(battlesTied);
     }
 
+    @Override
+    public long getZobristHash() {
+        long h = coreZobristHash() ^ Zobrist.key(-100, discardOptions) ^ Zobrist.key(-101, nextBattle);
+        h ^= Zobrist.key(-102, Arrays.deepHashCode(battlesWon)) ^ Zobrist.key(-103, Arrays.hashCode(battlesTied));
+        for (int p = 0; p < getNPlayers(); p++) {
+            h ^= Zobrist.key(-110 - p, playerDecks.get(p).getZobristHash());
+            h ^= Zobrist.key(-120 - p, playerHands.get(p).getZobristHash());
+            h ^= Zobrist.key(-130 - p, playerDiscards.get(p).getZobristHash());
+            h ^= Zobrist.key(-140 - p, zobristHash(hiddenFlankCards[p]));
+            h ^= Zobrist.key(-150 - p, zobristHash(fieldCards[p]));
+            h ^= Zobrist.key(-160 - p, zobristHash(tieBreakers[p]));
+        }
+        return h;
+    }
+
     @Override
     public String toString() {
         return super.hashCode() + "|" +
@@ -6,10 +6,9 @@ import games.toads.abilities.ToadAbility;
 import games.toads.components.ToadCard;
 import org.json.simple.JSONArray;
 import org.json.simple.JSONObject;
-import org.json.simple.parser.JSONParser;
 import org.json.simple.parser.ParseException;
+import utilities.JSONDataCache;
 
-import java.io.FileReader;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
@@ -62,11 +61,10 @@ public class ToadParameters extends TunableParameters {
     public List<ToadCard> getCardDeck() {
         // load in the cards from the data path
         List<ToadCard> retValue = new ArrayList<>();
-        JSONParser jsonParser = new JSONParser();
 
-        try (FileReader reader = new FileReader(dataPath + cardFile)) {
+        try {
 
-            JSONObject tmp = (JSONObject) jsonParser.parse(reader);
+            JSONObject tmp = (JSONObject) JSONDataCache.parse(dataPath + cardFile);
             JSONArray data = (JSONArray) tmp.get("cards");
             for (Object o : data) {
                 JSONObject card = (JSONObject) o;
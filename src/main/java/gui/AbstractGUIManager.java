@@ -7,10 +7,15 @@ import core.Game;
 import core.actions.AbstractAction;
 import evaluation.listeners.IGameListener;
 import evaluation.metrics.Event;
+import games.GameType;
+import org.apache.commons.lang3.reflect.ConstructorUtils;
 import players.human.ActionController;
+import players.human.HumanGUIPlayer;
 
 import javax.swing.*;
 import java.awt.*;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
 import java.util.*;
 import java.util.List;
 import java.util.function.Consumer;
@@ -44,6 +49,36 @@ public abstract class AbstractGUIManager {
 
     protected int width, height;
 
+    /**
+     * Creates a graphical user interface for the given game type. The GUI manager class of each game is declared in
+     * GameType. (This is not in GameType itself, so that using GameType without a GUI does not load any GUI classes.)
+     *
+     * @param game - game to create a GUI for.
+     * @param ac   - ActionController object allowing for user interaction with the GUI.
+     * @return - GUI for the given game type.
+     */
+    public static AbstractGUIManager create(GameType gameType, GamePanel parent, Game game, ActionController ac) {
+        Class<? extends AbstractGUIManager> guiManagerClass = gameType.getGuiManagerClass();
+        if (guiManagerClass == null) throw new AssertionError("No GUI manager class declared for the game: " + gameType);
+
+        // Find ID of human player, if any (-1 if none)
+        Set<Integer> human = new HashSet<>();
+        if (game != null && game.getPlayers() != null) {
+            for (int i = 0; i < game.getPlayers().size(); i++) {
+                if (game.getPlayers().get(i) instanceof HumanGUIPlayer) {
+                    human.add(i);
+                }
+            }
+        }
+
+        try {
+            Constructor<?> constructorGS = ConstructorUtils.getMatchingAccessibleConstructor(guiManagerClass, GamePanel.class, Game.class, ActionController.class, Set.class);
+            return (AbstractGUIManager) constructorGS.newInstance(parent, game, ac, human);
+        } catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
     public AbstractGUIManager(GamePanel parent, Game game, ActionController ac, Set<Integer> human) {
         this.ac = ac;
         this.maxActionSpace = getMaxActionSpace();
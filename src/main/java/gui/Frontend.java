@@ -2,6 +2,7 @@ package gui;
 
 import core.*;
 import core.actions.AbstractAction;
+import core.interfaces.IGameEvent;
 import evaluation.listeners.MetricsGameListener;
 import evaluation.optimisation.TunableParameters;
 import evaluation.metrics.Event;
@@ -314,7 +315,7 @@ public class Frontend extends GUI {
                     }
                     gameRunning.setCoreParameters(coreParameters);
 
-                    AbstractGUIManager gui = (humanInputQueue != null) ? gameType.createGUIManager(gamePanel, gameRunning, humanInputQueue) : null;
+                    AbstractGUIManager gui = (humanInputQueue != null) ? AbstractGUIManager.create(gameType, gamePanel, gameRunning, humanInputQueue) : null;
                     setFrameProperties();
 
                     guiUpdater = new Timer((int) coreParameters.frameSleepMS, event -> updateGUI(gui, frame));
@@ -491,6 +492,11 @@ public class Frontend extends GUI {
     private void listenForDecisions() {
         // add a listener to detect every time an action has been taken
         gameRunning.addListener(new MetricsGameListener() {
+            @Override
+            public Set<IGameEvent> getEventTypes() {
+                return Collections.singleton(Event.GameEvent.ACTION_TAKEN);
+            }
+
             @Override
             public void onEvent(evaluation.metrics.Event event)
             {
@@ -3,6 +3,7 @@ package gui;
 import com.formdev.flatlaf.FlatDarculaLaf;
 import core.*;
 import core.actions.AbstractAction;
+import core.interfaces.IGameEvent;
 import core.interfaces.IStateHeuristic;
 import evaluation.RunArg;
 import evaluation.listeners.MetricsGameListener;
@@ -469,7 +470,7 @@ public class LLMFrontend extends GUI {
                     gameRunning = gameType.createGameInstance(players.size(), params);
 
                     // GUI
-                    AbstractGUIManager gui = (humanInputQueue != null) ? gameType.createGUIManager(gamePanel, gameRunning, humanInputQueue) : null;
+                    AbstractGUIManager gui = (humanInputQueue != null) ? AbstractGUIManager.create(gameType, gamePanel, gameRunning, humanInputQueue) : null;
 
                     // Find core parameters
                     for (String param : coreParameterValueOptions.keySet()) {
@@ -741,6 +742,11 @@ public class LLMFrontend extends GUI {
     private void listenForDecisions() {
         // add a listener to detect every time an action has been taken
         gameRunning.addListener(new MetricsGameListener() {
+            @Override
+            public Set<IGameEvent> getEventTypes() {
+                return Collections.singleton(Event.GameEvent.ACTION_TAKEN);
+            }
+
             @Override
             public void onEvent(Event event)
             {
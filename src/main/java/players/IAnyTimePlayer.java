@@ -1,5 +1,10 @@
 package players;
 
+/**
+ * A player that can be given a budget, and that can stop early and return the best action found so far.
+ * When a Game makes decisions asynchronously (see Game.setAsyncDecisions()), the thread making the decision is
+ * interrupted when its time is up, and implementations should then stop searching and return their best action.
+ */
 public interface IAnyTimePlayer {
 
     void setBudget(int budget);
@@ -5,6 +5,8 @@ import core.interfaces.*;
 import utilities.Pair;
 import utilities.Utils;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 
@@ -39,5 +41,62 @@ public class LinearStateHeuristic extends GLMHeuristic implements IStateHeuristi
         return 0;
     }
 
+    /**
+     * Evaluates the states as one matrix product of their feature vectors with the coefficients.
+     * The features are laid out by column, so that the product is one pass down each column, which
+     * the JIT can vectorise. The terminal states are passed on to the default heuristic.
+     */
+    @Override
+    public double[] evaluateStates(List<? extends AbstractGameState> states, int playerId) {
+        if (coefficients == null)
+            return IStateHeuristic.super.evaluateStates(states, playerId);
+        int n = states.size();
+        double[] retValue = new double[n];
+        List<AbstractGameState> terminalStates = new ArrayList<>();
+        int[] terminalIndex = new int[n];
+        double[][] phi = new double[n][];
+        int[] rowIndex = new int[n];
+        int rows = 0;
+        for (int i = 0; i < n; i++) {
+            AbstractGameState state = states.get(i);
+            if (defaultHeuristic == null || state.isNotTerminal()) {
+                phi[rows] = features.featureVector(state, playerId);
+                rowIndex[rows++] = i;
+            } else {
+                terminalIndex[terminalStates.size()] = i;
+                terminalStates.add(state);
+            }
+        }
+        if (rows > 0) {
+            int nFeatures = coefficients.length - 1;
+            double[] columns = new double[nFeatures * rows];
+            for (int r = 0; r < rows; r++)
+                for (int j = 0; j < nFeatures; j++)
+                    columns[j * rows + r] = phi[r][j];
+            double[] linear = new double[rows];
+            Arrays.fill(linear, coefficients[0]);  // the bias term
+            for (int j = 0; j < nFeatures; j++) {
+                double beta = coefficients[j + 1];
+                int offset = j * rows;
+                for (int r = 0; r < rows; r++)
+                    linear[r] += columns[offset + r] * beta;
+            }
+            for (int r = 0; r < rows; r++) {
+                if (interactionCoefficients != null)
+                    linear[r] += calculateInteractionEffects(phi[r]);
+                double value = inverseLinkFunction.applyAsDouble(linear[r]);
+                if (defaultHeuristic != null)
+                    value = Utils.clamp(value, defaultHeuristic.minValue(), defaultHeuristic.maxValue());
+                retValue[rowIndex[r]] = value;
+            }
+        }
+        if (!terminalStates.isEmpty()) {
+            double[] values = defaultHeuristic.evaluateStates(terminalStates, playerId);
+            for (int t = 0; t < values.length; t++)
+                retValue[terminalIndex[t]] = values[t];
+        }
+        return retValue;
+    }
+
 
 }
@@ -27,6 +27,26 @@ public class ActionStats {
         nVisits++;
     }
 
+    public void add(ActionStats other) {
+        for (int i = 0; i < totValue.length; i++) {
+            totValue[i] += other.totValue[i];
+            squaredTotValue[i] += other.squaredTotValue[i];
+        }
+        nVisits += other.nVisits;
+        validVisits += other.validVisits;
+    }
+
+    /**
+     * Adds visits with the given value for one player, that have not (yet) happened. This is the virtual loss of tree
+     * parallelisation, and is removed by calling this again with -visits once the real result is known.
+     */
+    public void addVirtualLoss(int player, int visits, double value) {
+        totValue[player] += visits * value;
+        squaredTotValue[player] += visits * value * value;
+        nVisits += visits;
+        validVisits += visits;
+    }
+
     public ActionStats copy() {
         ActionStats newStats = new ActionStats(totValue.length);
         newStats.nVisits = nVisits;
@@ -0,0 +1,124 @@
+package players.mcts;
+
+import core.AbstractGameState;
+import core.AbstractPlayer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.function.IntConsumer;
+
+import static players.mcts.MCTSEnums.Information.Closed_Loop;
+import static players.mcts.MCTSEnums.RolloutTermination.DEFAULT;
+
+/**
+ * Leaf parallelisation (MCTSParams.parallelism == Leaf): from each node expanded, a rollout is run on each of nThreads
+ * threads at the same time, each on its own copy of the state and with its own rollout policy and opponent model.
+ * The average of their results is then backed up, as a single visit. Only the search thread uses the tree.
+ * <p>
+ * With batchLeafEvaluation the states at the end of the rollouts are evaluated together on the search thread, with
+ * one call to IStateHeuristic.evaluateStates() per player, rather than each by the thread that played it out.
+ * The forward model and heuristic are shared by all threads, so must not keep any state.
+ */
+class LeafParallelRollouts {
+
+    private final ExecutorService executor;
+    private final AbstractPlayer[] rolloutPolicies, opponentModels;
+
+    /**
+     * @param rolloutPolicies - one for each rollout from a node, and so each thread (the first is for the search thread)
+     * @param opponentModels  - as rolloutPolicies
+     */
+    LeafParallelRollouts(ExecutorService executor, AbstractPlayer[] rolloutPolicies, AbstractPlayer[] opponentModels) {
+        if (rolloutPolicies.length != opponentModels.length)
+            throw new IllegalArgumentException("Need an opponent model for each rollout policy");
+        this.executor = executor;
+        this.rolloutPolicies = rolloutPolicies;
+        this.opponentModels = opponentModels;
+    }
+
+    /**
+     * The equivalent of leaf.rollout(lastActorInTree)
+     */
+    double[] rollout(SingleTreeNode leaf, int lastActorInTree) {
+        SingleTreeNode root = leaf.root;
+        MCTSParams params = root.params;
+        if (params.rolloutLength == 0 && params.rolloutTermination == DEFAULT)
+            return leaf.rollout(lastActorInTree);  // every rollout would just evaluate the same state
+        int nRollouts = rolloutPolicies.length;
+        AbstractGameState leafState = params.information == Closed_Loop ? leaf.state : leaf.openLoopState;
+        // the copies are all made here, as copying a state changes its random number generator
+        List<AbstractGameState> states = new ArrayList<>(nRollouts);
+        for (int i = 0; i < nRollouts; i++)
+            states.add(i == 0 && params.information != Closed_Loop ? leafState : leafState.copy());
+        root.copyCount += params.information == Closed_Loop ? nRollouts : nRollouts - 1;
+
+        ParallelRollout[] rollouts = new ParallelRollout[nRollouts];
+        double[][] results = new double[nRollouts][];
+        IntConsumer playOut = i -> {
+            rollouts[i].rollout(states.get(i), lastActorInTree);
+            if (!params.batchLeafEvaluation)
+                results[i] = rollouts[i].evaluate(states.get(i));
+        };
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < nRollouts; i++) {
+            rollouts[i] = new ParallelRollout(root, rolloutPolicies[i], opponentModels[i]);
+            int index = i;
+            if (i > 0)
+                futures.add(executor.submit(() -> playOut.accept(index)));
+        }
+        // then our own rollout, while the others run
+        playOut.accept(0);
+        waitFor(futures);
+
+        int nPlayers = leafState.getNPlayers();
+        if (params.batchLeafEvaluation) {
+            for (int i = 0; i < nRollouts; i++)
+                results[i] = new double[nPlayers];
+            for (int p = 0; p < nPlayers; p++) {
+                double[] values = params.heuristic.evaluateStates(states, p);
+                for (int i = 0; i < nRollouts; i++) {
+                    if (Double.isNaN(values[i]) || Double.isInfinite(values[i]))
+                        throw new AssertionError("Illegal heuristic value - should be a number - " + params.heuristic.toString());
+                    results[i][p] = values[i];
+                }
+            }
+        }
+        double[] retValue = new double[nPlayers];
+        for (int i = 0; i < nRollouts; i++) {
+            for (int p = 0; p < nPlayers; p++)
+                retValue[p] += results[i][p] / nRollouts;
+            root.fmCallsCount += rollouts[i].fmCalls;
+            root.rolloutActionsTaken += rollouts[i].actionsInRollout;
+        }
+        return retValue;
+    }
+
+    // Waits for all the rollouts to finish (even if interrupted), and then rethrows the first exception from any of them
+    private static void waitFor(List<Future<?>> futures) {
+        boolean interrupted = false;
+        Throwable failure = null;
+        for (Future<?> future : futures) {
+            while (true) {
+                try {
+                    future.get();
+                    break;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                } catch (ExecutionException e) {
+                    if (failure == null)
+                        failure = e.getCause();
+                    break;
+                }
+            }
+        }
+        if (interrupted)
+            Thread.currentThread().interrupt();
+        if (failure instanceof RuntimeException re)
+            throw re;
+        if (failure instanceof Error err)
+            throw err;
+    }
+}
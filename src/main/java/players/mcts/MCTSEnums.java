@@ -49,6 +49,13 @@ public class MCTSEnums {
         // END_TURN|ROUND is triggered when the game round/turn changes
     }
 
+    public enum Parallelism {
+        Root, Tree, Leaf
+        // Root searches a separate tree on each thread, and merges the statistics at their roots at the end
+        // Tree has all the threads search the same tree, using virtual loss to spread them out over it
+        // Leaf searches one tree, but runs a rollout on each thread from every node expanded, and backs up their average
+    }
+
     public enum OpponentTreePolicy {
         SelfOnly(true), OneTree(false),
         MultiTree(true),
@@ -71,6 +71,11 @@ public class MCTSParams extends PlayerParameters {
     public double progressiveWideningExponent = 0.0;
     public double progressiveBias = 0.0;
     public boolean reuseTree = false;
+    public boolean ponder = false;  // if true (and reuseTree), we continue searching on a background thread during other players' turns
+    public int nThreads = 1;  // if more than 1, then this many threads are used for the search (see parallelism)
+    public MCTSEnums.Parallelism parallelism = MCTSEnums.Parallelism.Root;
+    public int virtualLoss = 1;  // with Tree parallelism, the visits (at the lowest reward seen) added to an action while a thread is below it
+    public boolean batchLeafEvaluation = false;  // with Leaf parallelism, evaluate the states at the end of the rollouts together with IStateHeuristic.evaluateStates()
     public MCTSEnums.BackupPolicy backupPolicy = MCTSEnums.BackupPolicy.MonteCarlo;
     public double backupLambda = 1.0;
     public int maxBackupThreshold = 1000000;
@@ -120,6 +125,11 @@ public class MCTSParams extends PlayerParameters {
         addTunableParameter("initialiseVisits", 0);
         addTunableParameter("actionHeuristicRecalculation", 20);
         addTunableParameter("reuseTree", false);
+        addTunableParameter("ponder", false);
+        addTunableParameter("nThreads", 1);
+        addTunableParameter("parallelism", MCTSEnums.Parallelism.Root, Arrays.asList(MCTSEnums.Parallelism.values()));
+        addTunableParameter("virtualLoss", 1);
+        addTunableParameter("batchLeafEvaluation", false);
         addTunableParameter("backupPolicy", MCTSEnums.BackupPolicy.MonteCarlo, Arrays.asList(MCTSEnums.BackupPolicy.values()));
         addTunableParameter("backupLambda", 1.0);
         addTunableParameter("maxBackupThreshold", 1000000);
@@ -176,6 +186,11 @@ public class MCTSParams extends PlayerParameters {
         initialiseVisits = (int) getParameterValue("initialiseVisits");
         actionHeuristicRecalculationThreshold = (int) getParameterValue("actionHeuristicRecalculation");
         reuseTree = (boolean) getParameterValue("reuseTree");
+        ponder = (boolean) getParameterValue("ponder");
+        nThreads = (int) getParameterValue("nThreads");
+        parallelism = (MCTSEnums.Parallelism) getParameterValue("parallelism");
+        virtualLoss = (int) getParameterValue("virtualLoss");
+        batchLeafEvaluation = (boolean) getParameterValue("batchLeafEvaluation");
         backupPolicy = (MCTSEnums.BackupPolicy) getParameterValue("backupPolicy");
         backupLambda = (double) getParameterValue("backupLambda");
         maxBackupThreshold = (int) getParameterValue("maxBackupThreshold");
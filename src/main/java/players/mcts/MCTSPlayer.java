@@ -3,6 +3,7 @@ package players.mcts;
 import core.AbstractForwardModel;
 import core.AbstractGameState;
 import core.AbstractPlayer;
+import core.CoreConstants;
 import core.actions.AbstractAction;
 import core.interfaces.IActionHeuristic;
 import evaluation.listeners.IGameListener;
@@ -10,10 +11,15 @@ import core.interfaces.IStateHeuristic;
 import evaluation.metrics.Event;
 import llm.IHasStateHeuristic;
 import players.IAnyTimePlayer;
+import players.PlayerConstants;
 import utilities.Pair;
 import utilities.Utils;
 
 import java.util.*;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -31,6 +37,19 @@ public class MCTSPlayer extends AbstractPlayer implements IAnyTimePlayer, IHasSt
     List<Map<Object, Pair<Integer, Double>>> MASTStats;
     protected Map<Object, Integer> oldGraphKeys = new HashMap<>();
     protected List<Object> recentlyRemovedKeys = new ArrayList<>();
+    private boolean warnedNoHistory;  // set once we have warned that reuseTree cannot work without a history
+    // Pondering: searching the reused tree on a background thread during other players' turns
+    private Thread ponderThread;
+    private volatile int lastPonderIterations;
+    private Map<SingleTreeNode, Integer> visitsBeforePonder;
+    private long ponderIterations, ponderVisitsReused;
+    // Parallel search: the players for the other threads, each with its own copy of the parameters
+    private MCTSPlayer[] workers;
+    private static final ExecutorService workerExecutor = Executors.newCachedThreadPool(r -> {
+        Thread thread = new Thread(r, "MCTS-worker");
+        thread.setDaemon(true);
+        return thread;
+    });
 
     public MCTSPlayer() {
         this(new MCTSParams());
@@ -52,6 +71,8 @@ public class MCTSPlayer extends AbstractPlayer implements IAnyTimePlayer, IHasSt
 
     @Override
     public void initializePlayer(AbstractGameState state) {
+        stopPondering();
+        visitsBeforePonder = null;
         if (getParameters().resetSeedEachGame) {
             rnd = new Random(parameters.getRandomSeed());
             getParameters().rolloutPolicy = null;
@@ -64,6 +85,7 @@ public class MCTSPlayer extends AbstractPlayer implements IAnyTimePlayer, IHasSt
             ((AbstractPlayer) getParameters().actionHeuristic).initializePlayer(state);
         MASTStats = null;
         root = null;
+        workers = null;
         oldGraphKeys = new HashMap<>();
         getParameters().getRolloutStrategy().initializePlayer(state);
         getParameters().getOpponentModel().initializePlayer(state);
@@ -87,6 +109,7 @@ public class MCTSPlayer extends AbstractPlayer implements IAnyTimePlayer, IHasSt
 
     @Override
     public void registerUpdatedObservation(AbstractGameState gameState) {
+        stopPondering();
         super.registerUpdatedObservation(gameState);
         if (!getParameters().reuseTree) {
             root = null;
@@ -199,6 +222,14 @@ public class MCTSPlayer extends AbstractPlayer implements IAnyTimePlayer, IHasSt
     }
 
     protected SingleTreeNode backtrack(SingleTreeNode startingRoot, AbstractGameState gameState) {
+        if (gameState.getCoreGameParameters().historyMode == CoreConstants.HistoryMode.NONE) {
+            // No history is kept, so we cannot tell which actions have been taken since our last decision
+            if (!warnedNoHistory) {
+                System.out.println("Warning: reuseTree has no effect with HistoryMode.NONE, as no history is recorded to find our last action in. Starting from a new root at each decision.");
+                warnedNoHistory = true;
+            }
+            return null;
+        }
         List<Pair<Integer, AbstractAction>> history = gameState.getHistory();
         Pair<Integer, AbstractAction> lastExpected = lastAction;
         MCTSParams params = getParameters();
@@ -266,12 +297,28 @@ public class MCTSPlayer extends AbstractPlayer implements IAnyTimePlayer, IHasSt
 
     @Override
     public AbstractAction _getAction(AbstractGameState gameState, List<AbstractAction> actions) {
+        stopPondering();
         // Search for best action from the root
         long currentTimeNano = System.nanoTime();
         createRootNode(gameState);
         long timeTaken = System.nanoTime() - currentTimeNano;
+        if (visitsBeforePonder != null) {
+            // the visits to our new root while we were pondering are the iterations we have gained for free
+            Integer visitsBefore = visitsBeforePonder.get(root);
+            if (visitsBefore != null)
+                ponderVisitsReused += root.getVisits() - visitsBefore;
+            visitsBeforePonder = null;
+        }
 
-        root.mctsSearch(timeTaken / 1000000);
+        MCTSEnums.Parallelism parallelism = getParameters().nThreads > 1 ? getParameters().parallelism : null;
+        if (parallelism == MCTSEnums.Parallelism.Tree && SharedTreeSearch.supports(root))
+            treeParallelSearch(gameState, timeTaken / 1000000);
+        else if (parallelism != null && parallelism != MCTSEnums.Parallelism.Leaf && !(root instanceof MultiTreeNode))
+            rootParallelSearch(gameState, timeTaken / 1000000);
+        else {
+            root.leafRollouts = parallelism == MCTSEnums.Parallelism.Leaf ? leafParallelRollouts(gameState) : null;
+            root.mctsSearch(timeTaken / 1000000);
+        }
 
         if (getParameters().actionHeuristic instanceof ITreeProcessor)
             ((ITreeProcessor) getParameters().actionHeuristic).process(root);
@@ -293,17 +340,230 @@ public class MCTSPlayer extends AbstractPlayer implements IAnyTimePlayer, IHasSt
         if (root.children.size() > 3 * actions.size() && !(root instanceof MCGSNode) && !getParameters().reuseTree && !getParameters().actionSpace.equals(gameState.getCoreGameParameters().actionSpace))
             throw new AssertionError(String.format("Unexpectedly large number of children: %d with action size of %d", root.children.size(), actions.size()));
         lastAction = new Pair<>(gameState.getCurrentPlayer(), root.bestAction());
-        return lastAction.b.copy();
+        AbstractAction retValue = lastAction.b.copy();
+        startPondering();
+        return retValue;
+    }
+
+    /**
+     * Root parallelisation: as well as our own tree, nThreads - 1 other trees are searched at the same time from
+     * copies of the state, each by a worker with its own random seed (and so its own redeterminisations with
+     * Information_Set), rollout policy and opponent model. Their root statistics are then added to ours, so that
+     * bestAction() uses the visits and values of all the trees.
+     * With a time budget each tree is searched for the whole time; otherwise the budget (of iterations, FM calls...)
+     * is shared between the trees, so the total search is the same as with one thread.
+     * The forward model and heuristics are shared by all threads, so must not keep any state.
+     */
+    private void rootParallelSearch(AbstractGameState gameState, long initialisationTime) {
+        MCTSParams params = getParameters();
+        int nThreads = params.nThreads;
+        createWorkers(gameState);
+        int[] budgets = new int[nThreads];
+        for (int i = 0; i < nThreads; i++)
+            budgets[i] = params.budgetType == PlayerConstants.BUDGET_TIME ? params.budget :
+                    params.budget / nThreads + (i < params.budget % nThreads ? 1 : 0);
+
+        // the copies are made here, as copying a state changes its random number generator
+        SingleTreeNode[] workerRoots = new SingleTreeNode[workers.length];
+        Runnable[] workerSearches = new Runnable[workers.length];
+        for (int i = 0; i < workers.length; i++) {
+            MCTSPlayer worker = workers[i];
+            worker.root = SingleTreeNode.createRootNode(worker, gameState.copy(), worker.rnd, worker.getFactory());
+            workerRoots[i] = worker.root;
+            int budget = budgets[i + 1];
+            workerSearches[i] = () -> worker.root.mctsSearch(initialisationTime, budget);
+        }
+        searchInParallel(workerSearches, () -> root.mctsSearch(initialisationTime, budgets[0]));
+        for (SingleTreeNode workerRoot : workerRoots)
+            root.mergeRoot(workerRoot);
+    }
+
+    /**
+     * Tree parallelisation: nThreads threads search our tree at the same time (see SharedTreeSearch). The workers
+     * are only used for their own rollout policies and opponent models.
+     */
+    private void treeParallelSearch(AbstractGameState gameState, long initialisationTime) {
+        createWorkers(gameState);
+        SharedTreeSearch search = new SharedTreeSearch(root, initialisationTime);
+        Runnable[] workerSearches = new Runnable[workers.length];
+        for (int i = 0; i < workers.length; i++) {
+            MCTSParams workerParams = workers[i].getParameters();
+            workerSearches[i] = () -> search.search(workerParams.getRolloutStrategy(), workerParams.getOpponentModel());
+        }
+        searchInParallel(workerSearches, () -> search.search(getParameters().getRolloutStrategy(), getParameters().getOpponentModel()));
+        search.finish();
+    }
+
+    /**
+     * Leaf parallelisation: a rollout on each of nThreads threads from every node expanded, using the rollout
+     * policies and opponent models of the workers for the other threads (see LeafParallelRollouts).
+     * This is not used with MAST (which needs the actions of the rollout), MCGS or MultiTree.
+     */
+    private LeafParallelRollouts leafParallelRollouts(AbstractGameState gameState) {
+        MCTSParams params = getParameters();
+        if (params.useMAST || root instanceof MCGSNode || root instanceof MultiTreeNode)
+            return null;
+        createWorkers(gameState);
+        AbstractPlayer[] rolloutPolicies = new AbstractPlayer[params.nThreads];
+        AbstractPlayer[] opponentModels = new AbstractPlayer[params.nThreads];
+        rolloutPolicies[0] = params.getRolloutStrategy();
+        opponentModels[0] = params.getOpponentModel();
+        for (int i = 0; i < workers.length; i++) {
+            rolloutPolicies[i + 1] = workers[i].getParameters().getRolloutStrategy();
+            opponentModels[i + 1] = workers[i].getParameters().getOpponentModel();
+        }
+        return new LeafParallelRollouts(workerExecutor, rolloutPolicies, opponentModels);
+    }
+
+    // The workers for nThreads - 1 other threads, each with its own copy of our parameters (and so its own random seed)
+    private void createWorkers(AbstractGameState gameState) {
+        MCTSParams params = getParameters();
+        if (workers != null && workers.length == params.nThreads - 1)
+            return;
+        workers = new MCTSPlayer[params.nThreads - 1];
+        for (int i = 0; i < workers.length; i++) {
+            MCTSParams workerParams = (MCTSParams) params.copy();
+            workerParams.setParameterValue("nThreads", 1);
+            workerParams.setParameterValue("budgetType", params.budgetType);
+            workerParams.setParameterValue("reuseTree", false);
+            workerParams.setParameterValue("ponder", false);
+            workerParams.setRandomSeed(params.getRandomSeed() + 1000003L * (i + 1));
+            workers[i] = new MCTSPlayer(workerParams, toString());
+            workers[i].setForwardModel(getForwardModel());
+            workers[i].initializePlayer(gameState);
+        }
+    }
+
+    /**
+     * Runs the worker searches on the worker threads while running the main search on this one, and waits for them all
+     * to finish. If this thread is interrupted (to return our best action so far) then the worker threads are too.
+     * Any exception thrown by a worker is rethrown here.
+     */
+    private void searchInParallel(Runnable[] workerSearches, Runnable mainSearch) {
+        CountDownLatch finished = new CountDownLatch(workerSearches.length);
+        // the threads currently searching, so that they can be interrupted (null once stopped)
+        Thread[] searching = new Thread[workerSearches.length];
+        boolean[] stopped = new boolean[1];
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        for (int i = 0; i < workerSearches.length; i++) {
+            int index = i;
+            workerExecutor.execute(() -> {
+                try {
+                    boolean start;
+                    synchronized (searching) {
+                        start = !stopped[0];
+                        searching[index] = Thread.currentThread();
+                    }
+                    if (start)
+                        workerSearches[index].run();
+                } catch (Throwable t) {
+                    failure.compareAndSet(null, t);
+                } finally {
+                    synchronized (searching) {
+                        searching[index] = null;
+                    }
+                    Thread.interrupted();  // in case we were stopped just as the search finished
+                    finished.countDown();
+                }
+            });
+        }
+        mainSearch.run();
+
+        boolean interrupted = Thread.interrupted();
+        while (true) {
+            if (interrupted) {
+                synchronized (searching) {
+                    stopped[0] = true;
+                    for (Thread thread : searching)
+                        if (thread != null)
+                            thread.interrupt();
+                }
+            }
+            try {
+                finished.await();
+                break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted)
+            Thread.currentThread().interrupt();
+        if (failure.get() instanceof RuntimeException re)
+            throw re;
+        if (failure.get() instanceof Error err)
+            throw err;
+    }
+
+    /**
+     * If pondering, then we carry on searching below the action we have just chosen on a background thread, until we
+     * are next asked to act (or are told about the state). The search is limited to ten times the iterations of the
+     * decision just made, to bound the memory used. The results depend on how long the other players take, so runs
+     * with pondering are not reproducible.
+     * The forward model is used by this thread at the same time as by the game itself, so must not keep any state.
+     */
+    private void startPondering() {
+        MCTSParams params = getParameters();
+        if (!params.ponder || !params.reuseTree || root instanceof MultiTreeNode || root.children.get(lastAction.b) == null)
+            return;
+        SingleTreeNode ponderRoot = root;
+        AbstractAction action = lastAction.b;
+        int maxIterations = 10 * Math.max(1, root.getVisits());
+        // we record the visits of the nodes we might reuse, so we can tell how many we gain by pondering
+        visitsBeforePonder = new IdentityHashMap<>();
+        for (SingleTreeNode child : root.children.get(action)) {
+            if (child != null)
+                for (SingleTreeNode node : child.allNodesInTree())
+                    visitsBeforePonder.put(node, node.getVisits());
+        }
+        lastPonderIterations = 0;
+        ponderThread = new Thread(() -> lastPonderIterations = ponderRoot.ponder(action, maxIterations), "Ponder-" + this);
+        ponderThread.setDaemon(true);
+        ponderThread.start();
+    }
+
+    /**
+     * Stops any search started by startPondering(), and waits for it to finish with the tree
+     */
+    private void stopPondering() {
+        if (ponderThread == null)
+            return;
+        ponderThread.interrupt();
+        try {
+            ponderThread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        ponderThread = null;
+        ponderIterations += lastPonderIterations;
+    }
+
+    /**
+     * @return the total number of iterations run while pondering (see MCTSParams.ponder)
+     */
+    public long getPonderIterations() {
+        return ponderIterations;
+    }
+
+    /**
+     * @return the total visits that the root nodes of our decisions had received while we were pondering; these are
+     * the iterations gained for free (the rest of the pondering explored other players' choices that were not made)
+     */
+    public long getPonderVisitsReused() {
+        return ponderVisitsReused;
     }
 
     @Override
     public void finalizePlayer(AbstractGameState state) {
+        stopPondering();
         getParameters().getRolloutStrategy().onEvent(Event.createEvent(Event.GameEvent.GAME_OVER, state));
         getParameters().getOpponentModel().onEvent(Event.createEvent(Event.GameEvent.GAME_OVER, state));
         if (getParameters().heuristic instanceof IGameListener)
             ((IGameListener) getParameters().heuristic).onEvent(Event.createEvent(Event.GameEvent.GAME_OVER, state));
         if (getParameters().actionHeuristic instanceof IGameListener)
             ((IGameListener) getParameters().actionHeuristic).onEvent(Event.createEvent(Event.GameEvent.GAME_OVER, state));
+        if (workers != null)
+            for (MCTSPlayer worker : workers)
+                worker.finalizePlayer(state);
 
     }
 
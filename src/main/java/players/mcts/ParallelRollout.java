@@ -0,0 +1,104 @@
+package players.mcts;
+
+import core.AbstractForwardModel;
+import core.AbstractGameState;
+import core.AbstractPlayer;
+import core.actions.AbstractAction;
+
+import java.util.List;
+
+import static players.mcts.MCTSEnums.RolloutTermination.DEFAULT;
+
+/**
+ * Moves a state on through (and then out of) the tree as SingleTreeNode.advanceState() and rollout() do, but keeping
+ * the progress of the rollout here rather than on the nodes. Several of these can then be in progress at once in the
+ * same tree, each on its own thread with its own state: in SharedTreeSearch (Tree parallelism), and for the rollouts
+ * run together from each new node with Leaf parallelism (see LeafParallelRollouts).
+ * <p>
+ * The forward model calls and rollout actions are counted here, for the caller to add to the totals on the root.
+ */
+class ParallelRollout {
+
+    private final SingleTreeNode root;
+    private final MCTSParams params;
+    private final AbstractForwardModel forwardModel;
+    private final AbstractPlayer rolloutPolicy, opponentModel;
+    int fmCalls, actionsInRollout;
+    private int lastActor, lastTurn, lastRound, turnAtStart, roundAtStart;
+
+    ParallelRollout(SingleTreeNode root, AbstractPlayer rolloutPolicy, AbstractPlayer opponentModel) {
+        this.root = root;
+        this.params = root.params;
+        this.forwardModel = root.forwardModel;
+        this.rolloutPolicy = rolloutPolicy;
+        this.opponentModel = opponentModel;
+    }
+
+    /**
+     * Applies the action, and then (in a SelfOnly tree) the actions of the other players up to our next decision
+     */
+    void advance(AbstractGameState state, AbstractAction action, boolean inRollout) {
+        if (inRollout)
+            recordRolloutAction(state);
+        forwardModel.next(state, action.copy());
+        fmCalls++;
+        if (params.opponentTreePolicy.selfOnlyTree) {
+            // as in SingleTreeNode.advanceToTurnOfPlayer()
+            while (state.getCurrentPlayer() != root.decisionPlayer && state.isNotTerminalForPlayer(root.decisionPlayer)
+                    && !(inRollout && finishRollout(state))) {
+                List<AbstractAction> availableActions = forwardModel.computeAvailableActions(state, params.actionSpace);
+                if (availableActions.isEmpty())
+                    throw new AssertionError("Should always have at least one action possible...");
+                AbstractAction oppAction = opponentModel.getAction(state, availableActions);
+                if (inRollout)
+                    recordRolloutAction(state);
+                forwardModel.next(state, oppAction);
+                fmCalls++;
+            }
+        }
+    }
+
+    private void recordRolloutAction(AbstractGameState state) {
+        lastActor = state.getCurrentPlayer();
+        lastTurn = state.getTurnCounter();
+        lastRound = state.getRoundCounter();
+        actionsInRollout++;
+    }
+
+    private boolean finishRollout(AbstractGameState state) {
+        return root.finishRollout(state, actionsInRollout, turnAtStart, roundAtStart, lastActor, lastTurn, lastRound);
+    }
+
+    /**
+     * Plays out the state (which is changed) with the rollout policy and opponent model, until finishRollout()
+     *
+     * @param lastActorInTree - the player who took the last action in the tree
+     */
+    void rollout(AbstractGameState state, int lastActorInTree) {
+        lastActor = lastActorInTree;
+        turnAtStart = lastTurn = state.getTurnCounter();
+        roundAtStart = lastRound = state.getRoundCounter();
+        if (params.rolloutLength > 0 || params.rolloutTermination != DEFAULT) {
+            while (!finishRollout(state)) {
+                List<AbstractAction> availableActions = forwardModel.computeAvailableActions(state, params.actionSpace);
+                if (availableActions.isEmpty())
+                    throw new AssertionError("No actions available in rollout!");
+                AbstractPlayer agent = state.getCurrentPlayer() == root.decisionPlayer ? rolloutPolicy : opponentModel;
+                advance(state, agent.getAction(state, availableActions), true);
+            }
+        }
+    }
+
+    /**
+     * @return the value of the state for each player, from params.heuristic
+     */
+    double[] evaluate(AbstractGameState state) {
+        double[] retValue = new double[state.getNPlayers()];
+        for (int i = 0; i < retValue.length; i++) {
+            retValue[i] = params.heuristic.evaluateState(state, i);
+            if (Double.isNaN(retValue[i]) || Double.isInfinite(retValue[i]))
+                throw new AssertionError("Illegal heuristic value - should be a number - " + params.heuristic.toString());
+        }
+        return retValue;
+    }
+}
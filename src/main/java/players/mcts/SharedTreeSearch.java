@@ -0,0 +1,195 @@
+package players.mcts;
+
+import core.AbstractGameState;
+import core.AbstractPlayer;
+import core.actions.AbstractAction;
+import utilities.ElapsedCpuTimer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static players.PlayerConstants.*;
+import static players.mcts.MCTSEnums.Information.*;
+import static players.mcts.MCTSEnums.OpponentTreePolicy.OneTree;
+import static players.mcts.MCTSEnums.OpponentTreePolicy.SelfOnly;
+
+/**
+ * Tree parallelisation (MCTSParams.parallelism == Tree): several threads run iterations on the same tree at the same
+ * time, each calling search(). This does the same as SingleTreeNode.oneSearchIteration(), except that everything about
+ * an iteration in progress (the state, the nodes and actions on the trajectory, and the rollout so far) is kept by
+ * the thread running it, rather than on the nodes.
+ * <p>
+ * There is no lock on the whole tree. A node is locked while a thread selects an action from it, expands a child of it,
+ * or backs up through it, so that threads only wait for each other when they are at the same node (and when copying
+ * the root state, as a copy changes the random number generator of the state copied).
+ * When a thread selects an action it adds virtualLoss visits to the statistics of that action, at the lowest reward
+ * seen so far, and removes these when it backs up its result. Other threads that reach the node in the meantime are then
+ * less likely to follow it down the same path.
+ * <p>
+ * Only SingleTreeNode trees that are not Closed_Loop are supported, with OneTree or SelfOnly, and without MAST.
+ * The forward model, heuristics and tree policy are shared by all threads, so must not keep any state; the rollout
+ * policy and opponent model are passed to search() so that each thread can have its own.
+ */
+class SharedTreeSearch {
+
+    private final SingleTreeNode root;
+    private final MCTSParams params;
+    private final long initialisationTime;
+    private final int budget;
+    private final AtomicInteger iterations = new AtomicInteger();
+    private final AtomicLong fmCalls = new AtomicLong();
+    private final AtomicLong copies = new AtomicLong();
+    private final AtomicLong rolloutActions = new AtomicLong();
+    private final ElapsedCpuTimer elapsedTimer = new ElapsedCpuTimer();
+
+    SharedTreeSearch(SingleTreeNode root, long initialisationTime) {
+        if (!supports(root))
+            throw new IllegalArgumentException("Tree parallelisation is not supported for this tree");
+        this.root = root;
+        this.params = root.params;
+        this.initialisationTime = initialisationTime;
+        this.budget = params.budget;
+        if (params.information == Information_Set && root.redeterminisationPlayer == -1)
+            root.redeterminisationPlayer = root.decisionPlayer;
+        root.initialiseRootMetrics();
+        root.initialisationTimeTaken = initialisationTime;
+    }
+
+    static boolean supports(SingleTreeNode root) {
+        MCTSParams params = root.params;
+        return root.getClass() == SingleTreeNode.class && root.ponderAction == null &&
+                params.information != Closed_Loop && !params.useMAST &&
+                (params.opponentTreePolicy == OneTree || params.opponentTreePolicy == SelfOnly);
+    }
+
+    /**
+     * Runs iterations on the calling thread until the budget (shared by all threads) is used up, or the thread is
+     * interrupted. With a time budget, every thread searches for the whole time.
+     */
+    void search(AbstractPlayer rolloutPolicy, AbstractPlayer opponentModel) {
+        ElapsedCpuTimer threadTimer = new ElapsedCpuTimer();
+        if (params.budgetType == BUDGET_TIME)
+            threadTimer.setMaxTimeMillis(budget - initialisationTime);
+        int numIters = 0;
+        boolean stop = false;
+        while (!stop) {
+            if (params.budgetType == BUDGET_ITERATIONS && iterations.getAndIncrement() >= budget)
+                break;
+            new Iteration(rolloutPolicy, opponentModel).run();
+            numIters++;
+            if (params.budgetType == BUDGET_TIME) {
+                long remaining = threadTimer.remainingTimeMillis();
+                double avgTimeTaken = (double) threadTimer.elapsedMillis() / numIters;
+                stop = remaining <= 2 * avgTimeTaken || remaining <= params.breakMS;
+            } else if (params.budgetType != BUDGET_ITERATIONS) {
+                long calls = switch (params.budgetType) {
+                    case BUDGET_FM_CALLS -> fmCalls.get();
+                    case BUDGET_COPY_CALLS -> copies.get();
+                    default -> fmCalls.get() + copies.get();
+                };
+                stop = calls > budget || iterations.incrementAndGet() > budget;
+            }
+            if (Thread.currentThread().isInterrupted())
+                stop = true;
+        }
+    }
+
+    /**
+     * Records the totals of the search on the root, once all the threads have finished
+     */
+    void finish() {
+        root.fmCallsCount += (int) fmCalls.get();
+        root.copyCount += (int) copies.get();
+        root.rolloutActionsTaken += (int) rolloutActions.get();
+        root.timeTaken = elapsedTimer.elapsedMillis();
+    }
+
+    // One iteration, and everything about it that SingleTreeNode keeps on the nodes
+    private class Iteration {
+        final ParallelRollout rollout;
+        final List<SingleTreeNode> trajectory = new ArrayList<>();
+        final List<AbstractAction> actionsInTree = new ArrayList<>();
+        final List<List<AbstractAction>> actionsAvailable = new ArrayList<>();
+        final List<Double> virtualLosses = new ArrayList<>();
+        AbstractGameState state;
+        int lastActor;
+
+        Iteration(AbstractPlayer rolloutPolicy, AbstractPlayer opponentModel) {
+            rollout = new ParallelRollout(root, rolloutPolicy, opponentModel);
+        }
+
+        void run() {
+            synchronized (root.state) {
+                state = params.information == Information_Set ? root.state.copy(root.redeterminisationPlayer) : root.state.copy();
+            }
+            copies.incrementAndGet();
+            lastActor = root.decisionPlayer;
+            selectAndExpand();
+            rollout.rollout(state, lastActor);
+            double[] delta = rollout.evaluate(state);
+            fmCalls.addAndGet(rollout.fmCalls);
+            rolloutActions.addAndGet(rollout.actionsInRollout);
+            backUp(delta);
+        }
+
+        private void selectAndExpand() {
+            SingleTreeNode cur = root;
+            while (true) {
+                AbstractAction chosen;
+                synchronized (cur) {
+                    cur.setActionsFromOpenLoopState(state);
+                    if (!state.isNotTerminalForPlayer(cur.decisionPlayer) || cur.depth >= params.maxTreeDepth ||
+                            cur.actionsFromOpenLoopState.isEmpty())
+                        return;
+                    chosen = cur.treePolicyAction(true);
+                    actionsAvailable.add(cur.actionsFromOpenLoopState);
+                    // until the first result is backed up there is no lowest reward (and no values to normalise);
+                    // highReward is checked first, as normaliseRewardsAfterIteration() sets it after lowReward
+                    double loss = Double.isInfinite(root.highReward) ? Double.POSITIVE_INFINITY : root.lowReward;
+                    if (Double.isInfinite(loss)) {
+                        virtualLosses.add(null);
+                    } else {
+                        cur.actionValues.get(chosen).addVirtualLoss(cur.decisionPlayer, params.virtualLoss, loss);
+                        virtualLosses.add(loss);
+                    }
+                }
+                trajectory.add(cur);
+                actionsInTree.add(chosen);
+                lastActor = state.getCurrentPlayer();
+                rollout.advance(state, chosen, false);
+                if (!state.isNotTerminal() ||
+                        (params.opponentTreePolicy.selfOnlyTree && !state.isNotTerminalForPlayer(root.decisionPlayer)))
+                    return;
+                synchronized (cur) {
+                    SingleTreeNode[] nodeArray = cur.children.get(chosen);
+                    SingleTreeNode next = nodeArray == null ? null : nodeArray[state.getCurrentPlayer()];
+                    if (next == null) {
+                        // the new node has the actions from our state, and is not seen by other threads until we release cur
+                        cur.expandNode(chosen, state);
+                        return;
+                    }
+                    cur = next;
+                }
+            }
+        }
+
+        private void backUp(double[] delta) {
+            synchronized (root) {
+                root.normaliseRewardsAfterIteration(delta);
+            }
+            double[] result = root.processResultsForParanoidOrSelfOnly(delta);
+            for (int i = trajectory.size() - 1; i >= 0; i--) {
+                SingleTreeNode n = trajectory.get(i);
+                AbstractAction action = actionsInTree.get(i);
+                synchronized (n) {
+                    Double loss = virtualLosses.get(i);
+                    if (loss != null)
+                        n.actionValues.get(action).addVirtualLoss(n.decisionPlayer, -params.virtualLoss, loss);
+                    result = n.backUpSingleNode(action, result, actionsAvailable.get(i));
+                }
+            }
+        }
+    }
+}
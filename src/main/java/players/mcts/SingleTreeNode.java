@@ -57,9 +57,12 @@ public class SingleTreeNode {
     boolean terminalNode;
     double timeTaken;
     double initialisationTimeTaken;
-    protected double highReward = Double.NEGATIVE_INFINITY;
-    protected double lowReward = Double.POSITIVE_INFINITY;
+    // volatile, as with tree parallelisation these are read by threads at other nodes while they are updated
+    protected volatile double highReward = Double.NEGATIVE_INFINITY;
+    protected volatile double lowReward = Double.POSITIVE_INFINITY;
     protected Map<AbstractAction, Double> regretMatchingAverage = new HashMap<>();
+    // when pondering (and only on the root), the action we have already chosen
+    protected AbstractAction ponderAction;
     protected int nodeClash;
     // Root node of tree
     protected SingleTreeNode root;
@@ -74,6 +77,8 @@ public class SingleTreeNode {
     // ToDoubleBiFunction<AbstractAction, AbstractGameState> MASTFunction;
     // The total value of all trajectories through this node (one element per player)
     private Supplier<? extends SingleTreeNode> factory;
+    // set on the root by MCTSPlayer with Leaf parallelism, to run several rollouts from each node expanded
+    LeafParallelRollouts leafRollouts;
     // Total value of this node
     protected List<SingleTreeNode> currentNodeTrajectory;
     protected List<Pair<Integer, AbstractAction>> actionsInTree;
@@ -302,10 +307,40 @@ public class SingleTreeNode {
         regretMatchingAverage.clear();
     }
 
+    /**
+     * Continues the search from this (root) node after we have already decided to take the given action, while the
+     * other players make their decisions. Every iteration takes that action, so that all the effort goes into the part
+     * of the tree that can be reused at our next decision. This runs until the thread is interrupted, or for at most
+     * maxIterations iterations.
+     *
+     * @return the number of iterations run
+     */
+    public int ponder(AbstractAction action, int maxIterations) {
+        ponderAction = action;
+        int numIters = 0;
+        try {
+            while (numIters < maxIterations && !Thread.currentThread().isInterrupted()) {
+                setUpIteration();
+                oneSearchIteration();
+                numIters++;
+            }
+        } finally {
+            ponderAction = null;
+        }
+        return numIters;
+    }
+
     /**
      * Performs full MCTS search, using the defined budget limits.
      */
     public void mctsSearch(long initialisationTime) {
+        mctsSearch(initialisationTime, params.budget);
+    }
+
+    /**
+     * Performs full MCTS search, with the given budget (of the type in params.budgetType) instead of params.budget.
+     */
+    public void mctsSearch(long initialisationTime, int budget) {
         initialiseRootMetrics();
         initialisationTimeTaken = initialisationTime;
         // Variables for tracking time budget
@@ -314,28 +349,14 @@ public class SingleTreeNode {
         int remainingLimit = params.breakMS;
         ElapsedCpuTimer elapsedTimer = new ElapsedCpuTimer();
         if (params.budgetType == BUDGET_TIME) {
-            elapsedTimer.setMaxTimeMillis(params.budget - initialisationTime);
+            elapsedTimer.setMaxTimeMillis(budget - initialisationTime);
         }
 
         // Tracking number of iterations for iteration budget
         int numIters = 0;
         boolean stop = false;
         while (!stop) {
-            switch (params.information) {
-                case Closed_Loop:
-                    setActionsFromOpenLoopState(state);
-                    break;
-                case Open_Loop:
-                    setActionsFromOpenLoopState(state.copy());
-                    copyCount++;
-                    break;
-                case Information_Set:
-                    if (redeterminisationPlayer == -1)
-                        redeterminisationPlayer = decisionPlayer;
-                    setActionsFromOpenLoopState(state.copy(redeterminisationPlayer));
-                    copyCount++;
-                    break;
-            }
+            setUpIteration();
 
             // New timer for this iteration
             //      ElapsedCpuTimer elapsedTimerIteration = new ElapsedCpuTimer();
@@ -357,19 +378,61 @@ public class SingleTreeNode {
                 stop = remaining <= 2 * avgTimeTaken || remaining <= remainingLimit;
             } else if (budgetType == BUDGET_ITERATIONS) {
                 // Iteration budget
-                stop = numIters >= params.budget;
+                stop = numIters >= budget;
             } else if (budgetType == BUDGET_FM_CALLS) {
                 // FM calls budget
-                stop = fmCallsCount > params.budget || numIters > params.budget;
+                stop = fmCallsCount > budget || numIters > budget;
             } else if (budgetType == BUDGET_COPY_CALLS) {
-                stop = copyCount > params.budget || numIters > params.budget;
+                stop = copyCount > budget || numIters > budget;
             } else if (budgetType == BUDGET_FMANDCOPY_CALLS) {
-                stop = (copyCount + fmCallsCount) > params.budget || numIters > params.budget;
+                stop = (copyCount + fmCallsCount) > budget || numIters > budget;
             }
+            // we also stop if the Game has interrupted us to ask for our best action so far
+            if (Thread.currentThread().isInterrupted())
+                stop = true;
         }
         timeTaken = elapsedTimer.elapsedMillis();
     }
 
+    /**
+     * Adds the statistics of the root of another tree, searched from the same decision, to those of this root. This is
+     * used to combine the trees of root parallelisation (see MCTSParams.nThreads) before bestAction(); only the
+     * root is merged, and not the nodes below it.
+     */
+    void mergeRoot(SingleTreeNode other) {
+        for (Map.Entry<AbstractAction, ActionStats> entry : other.actionValues.entrySet()) {
+            ActionStats stats = actionValues.get(entry.getKey());
+            if (entry.getValue() == null)
+                actionValues.putIfAbsent(entry.getKey(), null);
+            else if (stats == null)
+                actionValues.put(entry.getKey(), entry.getValue().copy());
+            else
+                stats.add(entry.getValue());
+        }
+        nVisits += other.nVisits;
+        fmCallsCount += other.fmCallsCount;
+        copyCount += other.copyCount;
+    }
+
+    // sets up the state from which the next iteration starts
+    private void setUpIteration() {
+        switch (params.information) {
+            case Closed_Loop:
+                setActionsFromOpenLoopState(state);
+                break;
+            case Open_Loop:
+                setActionsFromOpenLoopState(state.copy());
+                copyCount++;
+                break;
+            case Information_Set:
+                if (redeterminisationPlayer == -1)
+                    redeterminisationPlayer = decisionPlayer;
+                setActionsFromOpenLoopState(state.copy(redeterminisationPlayer));
+                copyCount++;
+                break;
+        }
+    }
+
     /**
      * oneSearchIteration() implements the strategy for tree search (plus expansion, rollouts, backup and so on)
      * Its result is purely stored in the tree generated from root
@@ -388,7 +451,7 @@ public class SingleTreeNode {
 
         // Monte Carlo rollout: return value of MC rollout from the newly added node
         int lastActorInTree = actionsInTree.isEmpty() ? decisionPlayer : actionsInTree.get(actionsInTree.size() - 1).a;
-        double[] delta = selected.rollout(lastActorInTree);
+        double[] delta = leafRollouts == null ? selected.rollout(lastActorInTree) : leafRollouts.rollout(selected, lastActorInTree);
         // Back up the value of the rollout through the tree
         rolloutActionsTaken += actionsInRollout.size();
 
@@ -446,11 +509,6 @@ public class SingleTreeNode {
         return actionValues.values().stream().mapToDouble(s -> s.totValue[playerId]).sum() / nVisits;
     }
 
-    private double actionSquaredValue(AbstractAction action, int playerId) {
-        ActionStats stats = actionValues.get(action);
-        return stats == null ? 0.0 : stats.squaredTotValue[playerId];
-    }
-
     /**
      * Uses only by TreeStatistics and bestAction() after mctsSearch()
      * For this reason not converted to old-style java loop as there would be no performance gain
@@ -518,7 +576,7 @@ public class SingleTreeNode {
             // However, we do break ties in favour of already expanded actions
             List<AbstractAction> sortedActions = new ArrayList<>(allAvailable);
             sortedActions.sort(Comparator.comparingDouble(a -> -actionValueEstimates.getOrDefault(a, 0.0) -
-                    actionValues.getOrDefault(a, new ActionStats(1)).nVisits * 1e-6));
+                    actionVisits(a) * 1e-6));
             return new ArrayList<>(sortedActions.subList(0, actionsToConsider));
         }
         return new ArrayList<>(allAvailable);
@@ -603,6 +661,8 @@ public class SingleTreeNode {
      * @return - child node according to the tree policy
      */
     protected AbstractAction treePolicyAction(boolean explore) {
+        if (ponderAction != null)
+            return ponderAction;
         if (params.opponentTreePolicy == SelfOnly && parent != null && openLoopState != null && openLoopState.getCurrentPlayer() != decisionPlayer)
             throw new AssertionError("An error has occurred. SelfOnly should only call uct when we are moving.");
 
@@ -643,11 +703,10 @@ public class SingleTreeNode {
                     // Find child with highest UCB value
                     AbstractAction bestAction = null;
                     double bestValue = -Double.MAX_VALUE;
-                    for (AbstractAction availableAction : availableActions) {
-                        double uctValue = ucbValue(availableAction);
-                        if (uctValue > bestValue) {
-                            bestValue = uctValue;
-                            bestAction = availableAction;
+                    for (int i = 0; i < availableActions.size(); i++) {
+                        if (actionValues[i] > bestValue) {
+                            bestValue = actionValues[i];
+                            bestAction = availableActions.get(i);
                         }
                     }
                     yield bestAction;
@@ -705,36 +764,56 @@ public class SingleTreeNode {
 
     // Returns the values according to the selection policy (UCB, EXP3, etc.)
     // This is stage 1 of processing, before we use these to pick an action to take
+    // As this is called at every node on every iteration, the statistics of each action are looked up just once, and
+    // its value is calculated from them straight away.
     protected double[] actionValues(List<AbstractAction> actionsToConsider) {
-        double[] retValue = new double[actionsToConsider.size()];
-        for (int i = 0; i < actionsToConsider.size(); i++) {
+        int nActions = actionsToConsider.size();
+        // the node value is the same for all actions (and EXP3 only needs it once an action has been visited)
+        boolean needNodeValue = params.treePolicy == RegretMatching || (params.treePolicy == EXP3 && !params.normaliseRewards);
+        boolean haveNodeValue = false;
+        double nodeValue = 0.0;
+        int player = decisionPlayer;
+        double[] retValue = new double[nActions];
+        for (int i = 0; i < nActions; i++) {
             AbstractAction action = actionsToConsider.get(i);
+            int visits = 0, validVisits = 1;
+            double totValue = 0.0, squaredTotValue = 0.0;
+            ActionStats stats = actionValues.get(action);
+            if (stats != null) {
+                visits = stats.nVisits;
+                validVisits = stats.validVisits;
+                totValue = stats.totValue[player];
+                squaredTotValue = stats.squaredTotValue[player];
+            }
+            if (needNodeValue && !haveNodeValue && (visits > 0 || params.treePolicy == RegretMatching)) {
+                nodeValue = nodeValue(player);
+                haveNodeValue = true;
+            }
             retValue[i] = switch (params.treePolicy) {
                 case Uniform -> 1.0;
-                case Greedy -> getFullValue(action);
-                case UCB, AlphaGo, UCB_Tuned -> ucbValue(action);
-                case RegretMatching -> rmValue(action);
-                case EXP3 -> exp3Value(action);
+                case Greedy -> fullValue(action, visits, totValue);
+                case UCB, AlphaGo, UCB_Tuned -> ucbValue(action, visits,
+                        params.information == Closed_Loop ? nVisits : validVisits, totValue, squaredTotValue);
+                case RegretMatching -> rmValue(action, visits, totValue, nodeValue);
+                case EXP3 -> exp3Value(action, visits, totValue, nodeValue);
             };
         }
         return retValue;
     }
 
-    private double getFullValue(AbstractAction action) {
-        double value = getActionValue(action);
-        int actionVisits = actionVisits(action);
+    private double fullValue(AbstractAction action, int actionVisits, double totValue) {
+        double value = actionVisits > 0 ? totValue / actionVisits : 0.0;
         if (params.normaliseRewards && actionVisits > 0) {
             value = normalise(value, root.lowReward, root.highReward);
         }
         if (params.progressiveBias > 0)
-            value += getBiasValue(action);
+            value += biasValue(action, actionVisits);
         // apply OMA
-        value = getOMAValue(action, value);
+        value = getOMAValue(action, actionVisits, value);
         return value;
     }
 
-    private double getOMAValue(AbstractAction action, double childValue) {
-        int actionVisits = actionVisits(action);
+    private double getOMAValue(AbstractAction action, int actionVisits, double childValue) {
         double retValue = childValue;
         // consider OMA term
         if (params.omaVisits > 0 && (params.opponentTreePolicy == OMA_All || params.opponentTreePolicy == OMA)) {
@@ -770,15 +849,13 @@ public class SingleTreeNode {
         return retValue;
     }
 
-    private double ucbValue(AbstractAction action) {
+    private double ucbValue(AbstractAction action, int actionVisits, int effectiveTotalVisits, double totValue, double squaredTotValue) {
 
         // Find 'UCB' value - this is the base to which we then add exploration
-        double childValue = getFullValue(action);
-        int actionVisits = actionVisits(action);
+        double childValue = fullValue(action, actionVisits, totValue);
 
         // Now for the exploration term
         // default to standard UCB
-        int effectiveTotalVisits = validVisitsFor(action);
         // use first play urgency as replacement for exploration term if action not previously taken
         // we add in the second term based on the AlphaGo selection rule, so that the exploration term is monotonically increasing with N
         // this will come into play for small values of FPU and acts as soft-pruning rather than the harder form if FPU is a fixed constant
@@ -788,13 +865,13 @@ public class SingleTreeNode {
                 case UCB_Tuned -> {
                     double range = root.highReward - root.lowReward;
                     if (range < 1e-6) range = 1e-6;
-                    double meanSq = actionSquaredValue(action, decisionPlayer) / actionVisits;
+                    double meanSq = squaredTotValue / actionVisits;
                     double standardVar = 0.25;
                     if (params.normaliseRewards) {
                         // we also need to standardise the sum of squares to calculate the variance
                         meanSq = (meanSq
                                 + root.lowReward * root.lowReward
-                                - 2 * root.lowReward * actionTotValue(action, decisionPlayer) / actionVisits
+                                - 2 * root.lowReward * totValue / actionVisits
                         ) / (range * range);
                     } else {
                         // we need to modify the standard variance as it is not on a 0..1 basis (which is where 0.25 comes from)
@@ -827,18 +904,23 @@ public class SingleTreeNode {
     }
 
     public double exp3Value(AbstractAction action) {
-        double actionValue = getActionValue(action);
         int actionVisits = actionVisits(action);
+        boolean needNodeValue = actionVisits > 0 && !params.normaliseRewards;
+        return exp3Value(action, actionVisits, actionTotValue(action, decisionPlayer), needNodeValue ? nodeValue(decisionPlayer) : 0.0);
+    }
+
+    private double exp3Value(AbstractAction action, int actionVisits, double totValue, double nodeValue) {
+        double actionValue = actionVisits > 0 ? totValue / actionVisits : 0.0;
         // we then normalise to [0, 1], or we subtract the mean action value to get an advantage (and reduce risk of
         // NaN or Infinities when we exponentiate)
         if (actionVisits > 0) {
             if (params.normaliseRewards)
                 actionValue = normalise(actionValue, root.lowReward, root.highReward);
             else
-                actionValue = actionValue - nodeValue(decisionPlayer);
+                actionValue = actionValue - nodeValue;
         }
         if (params.progressiveBias > 0)
-            actionValue += getBiasValue(action);
+            actionValue += biasValue(action, actionVisits);
         double retValue = Math.exp(actionValue / params.exp3Boltzmann);
 
         if (Double.isNaN(retValue) || Double.isInfinite(retValue)) {
@@ -853,30 +935,24 @@ public class SingleTreeNode {
     }
 
     public double rmValue(AbstractAction action) {
-        double actionValue = getActionValue(action);
+        return rmValue(action, actionVisits(action), actionTotValue(action, decisionPlayer), nodeValue(decisionPlayer));
+    }
+
+    private double rmValue(AbstractAction action, int actionVisits, double totValue, double nodeValue) {
+        double actionValue = actionVisits > 0 ? totValue / actionVisits : 0.0;
         if (params.progressiveBias > 0)
-            actionValue += getBiasValue(action);
-        double nodeValue = nodeValue(decisionPlayer);
+            actionValue += biasValue(action, actionVisits);
         // potential value is our estimate of our accumulated reward if we had always taken this action
         double potentialValue = actionValue * nVisits;
         double regret = potentialValue - nodeValue * nVisits;
         // We add FPU after all the exponentiation for safety
-        int actionVisits = actionVisits(action);
         if (actionVisits == 0) {
             regret += params.firstPlayUrgency;
         }
         return Math.max(0.0, regret);
     }
 
-
-    private double getActionValue(AbstractAction action) {
-        int actionVisits = actionVisits(action);
-        // if we are at 'expansion' phase, then we break ties by expansion policy (which is the same actionHeuristic as progressive bias)
-        return actionVisits > 0 ? actionTotValue(action, decisionPlayer) / actionVisits : 0.0;
-    }
-
-    private double getBiasValue(AbstractAction action) {
-        int actionVisits = actionVisits(action);
+    private double biasValue(AbstractAction action, int actionVisits) {
         return params.progressiveBias * actionValueEstimates.getOrDefault(action, 0.0) / (actionVisits + 1);
     }
 
@@ -933,22 +1009,32 @@ public class SingleTreeNode {
      * @return - true if rollout finished, false otherwise
      */
     protected boolean finishRollout(AbstractGameState rollerState) {
+        return finishRollout(rollerState, root.actionsInRollout.size(), turnAtStartOfRollout, roundAtStartOfRollout,
+                lastActorInRollout, lastTurnInRollout, lastRoundInRollout);
+    }
+
+    /**
+     * As finishRollout(rollerState), but with the progress of the rollout so far passed in, rather than taken
+     * from the fields of this node (and the root) that track it. This is used when several rollouts are in progress at once.
+     */
+    boolean finishRollout(AbstractGameState rollerState, int actionsInRollout, int turnAtStart, int roundAtStart,
+                          int lastActor, int lastTurn, int lastRound) {
         if (!rollerState.isNotTerminal())
             return true;
         int currentActor = rollerState.getTurnOwner();
         int maxRollout = params.rolloutLengthPerPlayer ? params.rolloutLength * rollerState.getNPlayers() : params.rolloutLength;
         int rolloutDepth = switch (params.rolloutIncrementType) {
-            case TICK -> root.actionsInRollout.size();
-            case TURN -> rollerState.getTurnCounter() - turnAtStartOfRollout;
-            case ROUND -> rollerState.getRoundCounter() - roundAtStartOfRollout;
+            case TICK -> actionsInRollout;
+            case TURN -> rollerState.getTurnCounter() - turnAtStart;
+            case ROUND -> rollerState.getRoundCounter() - roundAtStart;
         };
         if (rolloutDepth >= maxRollout) {
             return switch (params.rolloutTermination) {
                 case DEFAULT -> true;
-                case END_ACTION -> lastActorInRollout == root.decisionPlayer && currentActor != root.decisionPlayer;
-                case START_ACTION -> lastActorInRollout != root.decisionPlayer && currentActor == root.decisionPlayer;
-                case END_TURN -> rollerState.getTurnCounter() != lastTurnInRollout;
-                case END_ROUND -> rollerState.getRoundCounter() != lastRoundInRollout;
+                case END_ACTION -> lastActor == root.decisionPlayer && currentActor != root.decisionPlayer;
+                case START_ACTION -> lastActor != root.decisionPlayer && currentActor == root.decisionPlayer;
+                case END_TURN -> rollerState.getTurnCounter() != lastTurn;
+                case END_ROUND -> rollerState.getRoundCounter() != lastRound;
             };
         }
         return false;
@@ -977,11 +1063,15 @@ public class SingleTreeNode {
         // after each iteration we update the min and max rewards seen, to be used in future iterations.
         // These are only stored on the root
         if (params.normaliseRewards || params.treePolicy == UCB_Tuned) {
-            DoubleSummaryStatistics stats = Arrays.stream(result).summaryStatistics();
-            if (root.lowReward > stats.getMin())
-                root.lowReward = stats.getMin();
-            if (root.highReward < stats.getMax())
-                root.highReward = stats.getMax();
+            double min = Double.POSITIVE_INFINITY, max = Double.NEGATIVE_INFINITY;
+            for (double r : result) {
+                min = Math.min(min, r);
+                max = Math.max(max, r);
+            }
+            if (root.lowReward > min)
+                root.lowReward = min;
+            if (root.highReward < max)
+                root.highReward = max;
         }
         if (root.lowReward == Double.NEGATIVE_INFINITY || root.highReward == Double.POSITIVE_INFINITY)
             throw new AssertionError("We have somehow failed to update the min or max rewards");
@@ -1020,6 +1110,14 @@ public class SingleTreeNode {
      * But, if we are interpolating some max/Q update, then this will change the result.
      */
     protected double[] backUpSingleNode(AbstractAction actionTaken, double[] result) {
+        return backUpSingleNode(actionTaken, result, actionsFromOpenLoopState);
+    }
+
+    /**
+     * As backUpSingleNode(actionTaken, result), but with the actions that were available when the action was taken
+     * passed in, rather than taken from actionsFromOpenLoopState (which another iteration may since have changed).
+     */
+    protected double[] backUpSingleNode(AbstractAction actionTaken, double[] result, List<AbstractAction> availableActions) {
         if (params.discardStateAfterEachIteration) {
             if (depth > 0)
                 openLoopState = null; // releases for Garbage Collection
@@ -1027,9 +1125,9 @@ public class SingleTreeNode {
                 state = null;
         }
         nVisits++;
-        // Here we look at actionsFromOpenLoopState to see which ones were valid
-        // when we passed through, and keep track of valid visits
-        List<AbstractAction> actionsToConsider = actionsToConsider(actionsFromOpenLoopState);
+        // Here we look at the actions available when we passed through to see which ones were valid,
+        // and keep track of valid visits
+        List<AbstractAction> actionsToConsider = actionsToConsider(availableActions);
 
         // then we update the statistics for the action taken
         if (!actionsToConsider.contains(actionTaken)) {
@@ -1044,9 +1142,12 @@ public class SingleTreeNode {
             }
         } else {
             for (AbstractAction action : actionsToConsider) {
-                if (!actionValues.containsKey(action))
-                    actionValues.put(action, new ActionStats(result.length));
-                actionValues.get(action).validVisits++;
+                ActionStats stats = actionValues.get(action);
+                if (stats == null) {
+                    stats = new ActionStats(result.length);
+                    actionValues.put(action, stats);
+                }
+                stats.validVisits++;
             }
         }
         ActionStats stats = actionValues.get(actionTaken);
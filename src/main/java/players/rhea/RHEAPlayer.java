@@ -111,6 +111,9 @@ public class RHEAPlayer extends AbstractPlayer implements IAnyTimePlayer {
     }
 
     private boolean budgetLeft(ElapsedCpuTimer timer) {
+        // the Game interrupts us when it wants our best action so far
+        if (Thread.currentThread().isInterrupted() && !population.isEmpty())
+            return false;
         RHEAParams params = getParameters();
         if (params.budgetType == PlayerConstants.BUDGET_TIME) {
             long remaining = timer.remainingTimeMillis();
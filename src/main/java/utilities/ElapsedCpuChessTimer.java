@@ -45,6 +45,11 @@ public class ElapsedCpuChessTimer extends ElapsedCpuTimer {
         timeRemaining += incrementMilestone;
     }
 
+    public void spend(long nanoseconds) {
+        // Charge time that was not spent on this thread (such as waiting for a decision made on another thread)
+        timeRemaining -= nanoseconds;
+    }
+
     public void resume() {
         // Update oldTime to current time
         oldTime = getTime();
@@ -1,34 +1,34 @@
 package utilities;
 
-import java.util.HashMap;
+import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * Interns the integer keys used for component properties. This is shared by all games in the JVM, so uses
+ * a ConcurrentHashMap (reads are lock-free) and an eagerly created instance to be safe when games run in parallel.
+ */
 public class Hash
 {
-    private static Hash hash;
+    private static final Hash hash = new Hash();
 
-    private HashMap<String, Integer> hashmap;
+    private final ConcurrentHashMap<String, Integer> hashmap;
 
     public static Hash GetInstance()
     {
-        if(hash == null)
-            hash = new Hash();
         return hash;
     }
 
     private Hash()
     {
-        hashmap = new HashMap<>();
+        hashmap = new ConcurrentHashMap<>();
     }
 
 
     public int hash(String key)
     {
-        if(hashmap.containsKey(key))
-            return hashmap.get(key);
-
-        int newValue = key.hashCode();
-        hashmap.put(key, newValue);
-        return newValue;
+        Integer value = hashmap.get(key);
+        if (value != null)
+            return value;
+        return hashmap.computeIfAbsent(key, String::hashCode);
     }
 
 }
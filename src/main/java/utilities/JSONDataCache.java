@@ -0,0 +1,266 @@
+package utilities;
+
+import org.json.simple.JSONArray;
+import org.json.simple.JSONObject;
+import org.json.simple.parser.ContainerFactory;
+import org.json.simple.parser.JSONParser;
+import org.json.simple.parser.ParseException;
+
+import java.io.File;
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+/**
+ * A process-wide cache of parsed JSON data files, so that games that load their components from files during setup
+ * (Pandemic, Terraforming Mars, Descent, Battlelore...) read and parse each file only once, rather than once per game.
+ * <p>
+ * Files are keyed by their absolute path, and the data version of each is its size and last modified time; if either
+ * changes, the file is parsed again. The JSONObjects and JSONArrays returned are shared between all callers (and
+ * threads), so are read-only: any attempt to change them throws an UnsupportedOperationException. Callers create
+ * their own components from them, as they did from freshly parsed data.
+ */
+public final class JSONDataCache {
+
+    private record Entry(long lastModified, long length, Object data) {
+    }
+
+    private static final Map<String, Entry> cache = new ConcurrentHashMap<>();
+
+    private JSONDataCache() {
+    }
+
+    /**
+     * @return the parsed (read-only) contents of the JSON file
+     */
+    public static Object parse(String fileName) throws IOException, ParseException {
+        File file = new File(fileName);
+        String key = file.getAbsolutePath();
+        long lastModified = file.lastModified();
+        long length = file.length();
+        Entry entry = cache.get(key);
+        if (entry != null && entry.lastModified == lastModified && entry.length == length)
+            return entry.data;
+        // Two threads may both parse a file that is not yet cached; they get equivalent data, and one is kept
+        Object data;
+        try (Reader reader = new FileReader(file)) {
+            data = parse(reader);
+        }
+        cache.put(key, new Entry(lastModified, length, data));
+        return data;
+    }
+
+    /**
+     * Parses JSON into read-only containers, without caching it
+     */
+    public static Object parse(Reader reader) throws IOException, ParseException {
+        Object data = new JSONParser().parse(reader, FACTORY);
+        freeze(data);
+        return data;
+    }
+
+    /**
+     * Discards all cached data
+     */
+    public static void clear() {
+        cache.clear();
+    }
+
+    public static int size() {
+        return cache.size();
+    }
+
+    private static void freeze(Object data) {
+        if (data instanceof ReadOnlyObject object) {
+            for (Object value : object.values())
+                freeze(value);
+            object.frozen = true;
+        } else if (data instanceof ReadOnlyArray array) {
+            for (Object value : array)
+                freeze(value);
+            array.frozen = true;
+        }
+    }
+
+    private static final ContainerFactory FACTORY = new ContainerFactory() {
+        @Override
+        public Map createObjectContainer() {
+            return new ReadOnlyObject();
+        }
+
+        @Override
+        public List creatArrayContainer() {
+            return new ReadOnlyArray();
+        }
+    };
+
+    private static UnsupportedOperationException readOnly() {
+        return new UnsupportedOperationException("Cached JSON data is read-only; copy it to make changes");
+    }
+
+    /*
+     * The parser fills these in as normal, after which they are frozen. Views (keySet(), iterator() and so on) are not
+     * wrapped, so this is a guard against accidental changes rather than a guarantee.
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static final class ReadOnlyObject extends JSONObject {
+        boolean frozen;
+
+        private void check() {
+            if (frozen) throw readOnly();
+        }
+
+        @Override
+        public Object put(Object key, Object value) {
+            check();
+            return super.put(key, value);
+        }
+
+        @Override
+        public void putAll(Map m) {
+            check();
+            super.putAll(m);
+        }
+
+        @Override
+        public Object remove(Object key) {
+            check();
+            return super.remove(key);
+        }
+
+        @Override
+        public void clear() {
+            check();
+            super.clear();
+        }
+
+        @Override
+        public Object putIfAbsent(Object key, Object value) {
+            check();
+            return super.putIfAbsent(key, value);
+        }
+
+        @Override
+        public Object compute(Object key, BiFunction remappingFunction) {
+            check();
+            return super.compute(key, remappingFunction);
+        }
+
+        @Override
+        public Object computeIfAbsent(Object key, Function mappingFunction) {
+            check();
+            return super.computeIfAbsent(key, mappingFunction);
+        }
+
+        @Override
+        public Object merge(Object key, Object value, BiFunction remappingFunction) {
+            check();
+            return super.merge(key, value, remappingFunction);
+        }
+
+        @Override
+        public Object replace(Object key, Object value) {
+            check();
+            return super.replace(key, value);
+        }
+
+        @Override
+        public void replaceAll(BiFunction function) {
+            check();
+            super.replaceAll(function);
+        }
+    }
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static final class ReadOnlyArray extends JSONArray {
+        boolean frozen;
+
+        private void check() {
+            if (frozen) throw readOnly();
+        }
+
+        @Override
+        public boolean add(Object o) {
+            check();
+            return super.add(o);
+        }
+
+        @Override
+        public void add(int index, Object element) {
+            check();
+            super.add(index, element);
+        }
+
+        @Override
+        public boolean addAll(Collection c) {
+            check();
+            return super.addAll(c);
+        }
+
+        @Override
+        public boolean addAll(int index, Collection c) {
+            check();
+            return super.addAll(index, c);
+        }
+
+        @Override
+        public boolean removeAll(Collection c) {
+            check();
+            return super.removeAll(c);
+        }
+
+        @Override
+        public boolean retainAll(Collection c) {
+            check();
+            return super.retainAll(c);
+        }
+
+        @Override
+        public Object set(int index, Object element) {
+            check();
+            return super.set(index, element);
+        }
+
+        @Override
+        public Object remove(int index) {
+            check();
+            return super.remove(index);
+        }
+
+        @Override
+        public boolean remove(Object o) {
+            check();
+            return super.remove(o);
+        }
+
+        @Override
+        public boolean removeIf(Predicate filter) {
+            check();
+            return super.removeIf(filter);
+        }
+
+        @Override
+        public void replaceAll(UnaryOperator operator) {
+            check();
+            super.replaceAll(operator);
+        }
+
+        @Override
+        public void sort(Comparator c) {
+            check();
+            super.sort(c);
+        }
+
+        @Override
+        public void clear() {
+            check();
+            super.clear();
+        }
+    }
+}
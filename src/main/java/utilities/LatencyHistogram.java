@@ -0,0 +1,116 @@
+package utilities;
+
+import java.util.Arrays;
+
+/**
+ * A histogram of durations (or any non-negative longs) in the style of HdrHistogram: the counts are kept in buckets
+ * whose width grows with the value, so that any percentile is accurate to within 1% (1/128) of the value, using a
+ * fixed amount of memory however many values are recorded. The exact count, mean, minimum and maximum are kept too.
+ * <p>
+ * Values below 256 are counted exactly. Above that, each doubling of the value is split into 128 equal buckets.
+ * This is not thread-safe.
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 7;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+    private long[] counts = new long[2 * SUB_BUCKETS];
+    private long count;
+    private double sum;
+    private long min = Long.MAX_VALUE;
+    private long max;
+
+    public void record(long value) {
+        if (value < 0)
+            throw new IllegalArgumentException("Cannot record a negative value: " + value);
+        int index = bucketIndex(value);
+        if (index >= counts.length)
+            counts = Arrays.copyOf(counts, index + SUB_BUCKETS);
+        counts[index]++;
+        count++;
+        sum += value;
+        if (value < min) min = value;
+        if (value > max) max = value;
+    }
+
+    /**
+     * Adds all the values recorded in another histogram to this one
+     */
+    public void add(LatencyHistogram other) {
+        if (other.counts.length > counts.length)
+            counts = Arrays.copyOf(counts, other.counts.length);
+        for (int i = 0; i < other.counts.length; i++)
+            counts[i] += other.counts[i];
+        count += other.count;
+        sum += other.sum;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+    }
+
+    public void reset() {
+        Arrays.fill(counts, 0);
+        count = 0;
+        sum = 0;
+        min = Long.MAX_VALUE;
+        max = 0;
+    }
+
+    public long count() {
+        return count;
+    }
+
+    public double mean() {
+        return count == 0 ? 0.0 : sum / count;
+    }
+
+    public long min() {
+        return count == 0 ? 0 : min;
+    }
+
+    public long max() {
+        return max;
+    }
+
+    /**
+     * @param percentile in the range [0, 100]
+     * @return the value below which the given percentage of recorded values fall (to within 1%), or 0 if empty.
+     * This is never more than max().
+     */
+    public long percentile(double percentile) {
+        if (percentile < 0 || percentile > 100)
+            throw new IllegalArgumentException("Percentile must be between 0 and 100: " + percentile);
+        if (count == 0)
+            return 0;
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * count));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank)
+                return Math.min(highestValueIn(i), max);
+        }
+        return max;
+    }
+
+    static int bucketIndex(long value) {
+        if (value < 2 * SUB_BUCKETS)
+            return (int) value;
+        // the shift keeps the top SUB_BUCKET_BITS + 1 bits of the value
+        int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        return (shift + 1) * SUB_BUCKETS + (int) (value >>> shift) - SUB_BUCKETS;
+    }
+
+    static long highestValueIn(int index) {
+        if (index < 2 * SUB_BUCKETS)
+            return index;
+        int shift = index / SUB_BUCKETS - 1;
+        long lowest = (long) (index % SUB_BUCKETS + SUB_BUCKETS) << shift;
+        return lowest + (1L << shift) - 1;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("n=%d, mean=%.1f, p50=%d, p95=%d, p99=%d, max=%d",
+                count, mean(), percentile(50), percentile(95), percentile(99), max);
+    }
+}
@@ -0,0 +1,38 @@
+package utilities;
+
+/**
+ * Keys for Zobrist-style hashing of game states.
+ * Rather than a table of random numbers for every (slot, value) pair, the key of a pair is a strong 64-bit mix
+ * of the two, which behaves as a random number but needs no storage and works for any number of components.
+ * Contributions are combined with XOR (or, for ordered sequences, see Deck), so that a single change to a
+ * state can be applied to its hash in O(1) by removing the old key and adding the new one.
+ */
+public final class Zobrist {
+
+    private Zobrist() {
+    }
+
+    /**
+     * The SplitMix64 finaliser, a bijection on longs with good avalanche behaviour.
+     */
+    public static long mix(long x) {
+        x += 0x9E3779B97F4A7C15L;
+        x = (x ^ (x >>> 30)) * 0xBF58476D1CE4E5B9L;
+        x = (x ^ (x >>> 27)) * 0x94D049BB133111EBL;
+        return x ^ (x >>> 31);
+    }
+
+    /**
+     * @return the key for value in the given slot (for example a component ID, or a position on a board).
+     */
+    public static long key(long slot, long value) {
+        return mix(mix(slot) + value);
+    }
+
+    /**
+     * @return the key for an object in the given slot, based on its hashCode (null is allowed).
+     */
+    public static long key(long slot, Object value) {
+        return key(slot, value == null ? 0L : value.hashCode() + 1L);
+    }
+}
@@ -0,0 +1,164 @@
+package core;
+
+import core.actions.AbstractAction;
+import games.GameType;
+import org.junit.Test;
+import players.PlayerConstants;
+import players.mcts.MCTSParams;
+import players.mcts.MCTSPlayer;
+import players.simple.RandomPlayer;
+import utilities.ElapsedCpuChessTimer;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+public class AsyncDecisionsTest {
+
+    /**
+     * Takes far longer than its budget over every decision, and ignores interrupts for the first ignoreMillis
+     */
+    static class SlowPlayer extends AbstractPlayer {
+        final long ignoreMillis;
+        final AtomicInteger calls = new AtomicInteger();
+
+        SlowPlayer(long ignoreMillis) {
+            super(null, "SlowPlayer");
+            this.ignoreMillis = ignoreMillis;
+        }
+
+        @Override
+        public AbstractAction _getAction(AbstractGameState gameState, List<AbstractAction> possibleActions) {
+            calls.incrementAndGet();
+            long end = System.currentTimeMillis() + ignoreMillis;
+            while (System.currentTimeMillis() < end) {
+                Thread.onSpinWait();
+            }
+            try {
+                Thread.sleep(60_000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return possibleActions.get(0);
+        }
+
+        @Override
+        public SlowPlayer copy() {
+            return new SlowPlayer(ignoreMillis);
+        }
+    }
+
+    /**
+     * Takes thinkMillis over every decision, within any budget per decision
+     */
+    static class SteadyPlayer extends AbstractPlayer {
+        final long thinkMillis;
+
+        SteadyPlayer(long thinkMillis) {
+            super(null, "SteadyPlayer");
+            this.thinkMillis = thinkMillis;
+        }
+
+        @Override
+        public AbstractAction _getAction(AbstractGameState gameState, List<AbstractAction> possibleActions) {
+            try {
+                Thread.sleep(thinkMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return possibleActions.get(0);
+        }
+
+        @Override
+        public SteadyPlayer copy() {
+            return new SteadyPlayer(thinkMillis);
+        }
+    }
+
+    private static MCTSPlayer unlimitedMCTS() {
+        MCTSParams params = new MCTSParams();
+        params.budgetType = PlayerConstants.BUDGET_ITERATIONS;
+        params.budget = Integer.MAX_VALUE;
+        params.setRandomSeed(3);
+        return new MCTSPlayer(params);
+    }
+
+    @Test
+    public void slowPlayerTimesOutAndGameCompletes() {
+        Game game = GameType.TicTacToe.createGameInstance(2);
+        game.setAsyncDecisions(Game.sharedDecisionExecutor(), 20);
+        game.reset(List.of(new SlowPlayer(0), new RandomPlayer(new Random(1))), 42);
+        long start = System.currentTimeMillis();
+        game.run();
+
+        assertFalse(game.getGameState().isNotTerminal());
+        assertTrue(game.getNDecisionTimeouts() > 0);
+        assertTrue(System.currentTimeMillis() - start < 10_000);
+    }
+
+    @Test
+    public void slowPlayerRunsOutOfTime() {
+        Game game = GameType.TicTacToe.createGameInstance(2);
+        // no budget per decision, so only the chess clock limits the player
+        game.setAsyncDecisions(Game.sharedDecisionExecutor(), 0);
+        game.reset(List.of(new SteadyPlayer(80), new RandomPlayer(new Random(1))), 42);
+        for (ElapsedCpuChessTimer timer : game.getGameState().getPlayerTimer()) {
+            timer.setMaxTimeMillis(200);
+            timer.reset();
+        }
+        game.run();
+
+        assertFalse(game.getGameState().isNotTerminal());
+        // each decision is well within the clock, but together they are not
+        assertTrue(game.getNDecisionTimeouts() > 0);
+        assertTrue(game.getGameState().getPlayerTimer()[0].exceededMaxTime());
+        assertFalse(game.getGameState().getPlayerTimer()[1].exceededMaxTime());
+    }
+
+    @Test
+    public void playerStillDecidingIsNotAskedAgain() {
+        Game game = GameType.TicTacToe.createGameInstance(2);
+        game.setAsyncDecisions(Game.sharedDecisionExecutor(), 20);
+        // this player ignores the interrupt for longer than the rest of the game takes
+        SlowPlayer slowPlayer = new SlowPlayer(2000);
+        game.reset(List.of(slowPlayer, new RandomPlayer(new Random(1))), 42);
+        game.run();
+
+        assertFalse(game.getGameState().isNotTerminal());
+        assertEquals(1, slowPlayer.calls.get());
+        assertTrue(game.getNDecisionTimeouts() > 1);
+    }
+
+    @Test
+    public void anyTimePlayerReturnsBestActionSoFar() {
+        Game game = GameType.TicTacToe.createGameInstance(2);
+        game.setAsyncDecisions(Game.sharedDecisionExecutor(), 50);
+        game.reset(List.of(unlimitedMCTS(), new RandomPlayer(new Random(1))), 42);
+        game.run();
+
+        assertFalse(game.getGameState().isNotTerminal());
+        assertEquals(0, game.getNDecisionTimeouts());
+    }
+
+    @Test
+    public void concurrentGamesShareTheExecutor() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<Integer>> results = new ArrayList<>();
+        for (int i = 0; i < 16; i++) {
+            int seed = i;
+            results.add(executor.submit(() -> {
+                Game game = GameType.TicTacToe.createGameInstance(2);
+                game.setAsyncDecisions(Game.sharedDecisionExecutor(), 20);
+                game.reset(List.of(new SlowPlayer(0), unlimitedMCTS()), seed);
+                game.run();
+                assertFalse(game.getGameState().isNotTerminal());
+                return game.getNDecisionTimeouts();
+            }));
+        }
+        for (Future<Integer> result : results)
+            assertTrue(result.get(30, TimeUnit.SECONDS) > 0);
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,87 @@
+package core;
+
+import core.components.Token;
+import games.GameType;
+import org.junit.Test;
+import players.simple.RandomPlayer;
+import utilities.Hash;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.junit.Assert.*;
+
+public class ConcurrentGames {
+
+    static final int THREADS = 8;
+
+    @Test
+    public void componentIDsAreUniqueAcrossThreads() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<List<Integer>>> futures = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            futures.add(executor.submit(() -> {
+                List<Integer> ids = new ArrayList<>();
+                for (int i = 0; i < 10000; i++)
+                    ids.add(new Token("T").getComponentID());
+                return ids;
+            }));
+        }
+        Set<Integer> allIDs = new HashSet<>();
+        for (Future<List<Integer>> f : futures)
+            allIDs.addAll(f.get());
+        executor.shutdown();
+        assertEquals(THREADS * 10000, allIDs.size());
+    }
+
+    @Test
+    public void propertyHashIsConsistentAcrossThreads() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<int[]>> futures = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            futures.add(executor.submit(() -> {
+                int[] keys = new int[1000];
+                for (int i = 0; i < keys.length; i++)
+                    keys[i] = Hash.GetInstance().hash("concurrentKey" + i);
+                return keys;
+            }));
+        }
+        int[] expected = futures.get(0).get();
+        for (Future<int[]> f : futures)
+            assertArrayEquals(expected, f.get());
+        executor.shutdown();
+    }
+
+    @Test
+    public void gamesRunInParallelMaintainCopyInvariants() throws Exception {
+        List<GameType> games = List.of(GameType.LoveLetter, GameType.Dominion, GameType.SushiGo, GameType.ColtExpress);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < 4 * THREADS; i++) {
+            GameType gameType = games.get(i % games.size());
+            long seed = 1000 + i;
+            futures.add(executor.submit(() -> runAndCheck(gameType, seed)));
+        }
+        for (Future<?> f : futures)
+            f.get();  // rethrows any assertion failure from a worker thread
+        executor.shutdown();
+    }
+
+    private static void runAndCheck(GameType gameType, long seed) {
+        Game game = gameType.createGameInstance(3, seed);
+        List<AbstractPlayer> players = new ArrayList<>();
+        for (int p = 0; p < 3; p++)
+            players.add(new RandomPlayer(new Random(seed + p)));
+        game.reset(players, seed);
+        AbstractGameState state = game.getGameState();
+        while (state.isNotTerminal() && game.getTick() < 1000) {
+            AbstractGameState copy = state.copy();
+            int copyHash = copy.hashCode();
+            // as in ForwardModelTester, copies must hash identically (equals() also compares the reset random seed)
+            assertEquals(state.hashCode(), copyHash);
+            game.oneAction();
+            // the copy is unaffected by the action taken on the original
+            assertEquals(copyHash, copy.hashCode());
+        }
+    }
+}
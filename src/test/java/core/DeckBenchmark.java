@@ -0,0 +1,102 @@
+package core;
+
+import core.components.Card;
+import core.components.Deck;
+import core.components.RingBufferList;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+import static core.CoreConstants.VisibilityMode.HIDDEN_TO_ALL;
+
+/**
+ * JMH comparison of the Deck operations most used by the forward models, with the components held in
+ * the previous LinkedList and in the current RingBufferList.
+ * Run with: mvn -Dmaven.test.skip=false test-compile, then main() with target/test-classes on the classpath.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DeckBenchmark {
+
+    @Param({"LinkedList", "RingBufferList"})
+    public String backing;
+
+    @Param({"10", "60"})
+    public int size;
+
+    Deck<Card> deck;
+    Random rnd;
+
+    @Setup(Level.Iteration)
+    public void setup() {
+        rnd = new Random(42);
+        deck = new Deck<>("Benchmark", HIDDEN_TO_ALL);
+        List<Card> cards = newList();
+        for (int i = 0; i < size; i++)
+            cards.add(new Card("Card " + i));
+        deck.setComponents(cards);
+    }
+
+    private List<Card> newList() {
+        return backing.equals("LinkedList") ? new LinkedList<>() : new RingBufferList<>();
+    }
+
+    @Benchmark
+    public Card drawAndReplace() {
+        Card c = deck.draw();
+        deck.add(c);
+        return c;
+    }
+
+    @Benchmark
+    public Card pickRandomAndAddToBottom() {
+        Card c = deck.pick(rnd);
+        deck.addToBottom(c);
+        return c;
+    }
+
+    @Benchmark
+    public void iterate(Blackhole bh) {
+        for (Card c : deck)
+            bh.consume(c);
+    }
+
+    @Benchmark
+    public void getByIndex(Blackhole bh) {
+        for (int i = 0; i < deck.getSize(); i++)
+            bh.consume(deck.get(i));
+    }
+
+    @Benchmark
+    public List<Card> peekHalf() {
+        return deck.peek(deck.getSize() / 4, deck.getSize() / 2);
+    }
+
+    @Benchmark
+    public Deck<Card> shuffle() {
+        deck.shuffle(rnd);
+        return deck;
+    }
+
+    // Deck.copy() always creates the current backing list, so this copies the components as copyTo() does
+    @Benchmark
+    public List<Card> copy() {
+        List<Card> copies = newList();
+        for (Card c : deck.getComponents())
+            copies.add(c.copy());
+        return copies;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(DeckBenchmark.class.getSimpleName()).build()).run();
+    }
+}
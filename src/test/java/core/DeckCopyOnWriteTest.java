@@ -0,0 +1,114 @@
+package core;
+
+import core.components.Card;
+import core.components.Deck;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.*;
+
+import static org.junit.Assert.*;
+
+public class DeckCopyOnWriteTest {
+
+    private Deck<Card> deckOfThree() {
+        Deck<Card> deck = new Deck<>("Test", CoreConstants.VisibilityMode.VISIBLE_TO_ALL);
+        for (int i = 0; i < 3; i++)
+            deck.add(new Card("Card " + i));
+        return deck;
+    }
+
+    private Deck<Card> copyOnWrite(Deck<Card> deck) {
+        boolean previous = Deck.setCopyOnWrite(true);
+        try {
+            return deck.copy();
+        } finally {
+            Deck.setCopyOnWrite(previous);
+        }
+    }
+
+    @Test
+    public void changingComponentsReadFromCopy() {
+        Deck<Card> original = deckOfThree();
+        Deck<Card> copy = copyOnWrite(original);
+        copy.get(0).setOwnerId(7);
+        assertEquals(-1, original.get(0).getOwnerId());
+        assertEquals(7, copy.get(0).getOwnerId());
+
+        Deck<Card> secondCopy = copyOnWrite(original);
+        for (Card c : secondCopy)
+            c.setOwnerId(3);
+        for (Card c : original)
+            assertEquals(-1, c.getOwnerId());
+        assertEquals(3, secondCopy.peek(2).getOwnerId());
+    }
+
+    @Test
+    public void changingCopies() {
+        Deck<Card> original = deckOfThree();
+        Deck<Card> copy = copyOnWrite(original);
+        Card drawn = copy.draw();
+        assertEquals(original.get(0), drawn);
+        assertNotSame(original.get(0), drawn);
+        assertEquals(3, original.getSize());
+        assertEquals(2, copy.getSize());
+        assertNotSame(original.get(1), copy.get(0));
+
+        // and the same if the original changes first
+        Deck<Card> secondCopy = copyOnWrite(original);
+        String before = original.toString();
+        original.clear();
+        assertEquals(3, secondCopy.getSize());
+        assertEquals(before, secondCopy.toString());
+    }
+
+    @Test
+    public void clearingOriginalLeavesComponentsOfCopy() {
+        Deck<Card> original = new Deck<>("Test", 1, CoreConstants.VisibilityMode.VISIBLE_TO_ALL);
+        for (int i = 0; i < 3; i++)
+            original.add(new Card("Card " + i));
+        Deck<Card> copy = copyOnWrite(original);
+        original.clear();
+        original.add(new Card("Another"));
+        assertEquals(3, copy.getSize());
+        for (Card c : copy)
+            assertEquals(1, c.getOwnerId());
+    }
+
+    @Test
+    public void changingCopiesOnDifferentThreads() throws Exception {
+        Deck<Card> original = deckOfThree();
+        String before = original.toString();
+        List<Deck<Card>> copies = new ArrayList<>();
+        for (int i = 0; i < 8; i++)
+            copies.add(copyOnWrite(original));
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> results = new ArrayList<>();
+            for (int i = 0; i < copies.size(); i++) {
+                Deck<Card> copy = copies.get(i);
+                int player = i;
+                results.add(executor.submit(() -> {
+                    Random rnd = new Random(player);
+                    for (int n = 0; n < 1000; n++) {
+                        copy.shuffle(rnd);
+                        copy.get(0).setOwnerId(player);
+                        copy.add(copy.draw(), copy.getSize());
+                        copyOnWrite(copy).pickLast();
+                    }
+                }));
+            }
+            for (Future<?> f : results)
+                f.get();
+        } finally {
+            executor.shutdown();
+        }
+        assertEquals(before, original.toString());
+        for (Card c : original)
+            assertEquals(-1, c.getOwnerId());
+        for (int i = 0; i < copies.size(); i++)
+            assertEquals(3, copies.get(i).getSize());
+    }
+}
@@ -0,0 +1,114 @@
+package core;
+
+import evaluation.listeners.IGameListener;
+import evaluation.metrics.Event;
+import games.GameType;
+import games.loveletter.LoveLetterParameters;
+import org.junit.After;
+import org.junit.Test;
+import players.simple.RandomPlayer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class GamePoolTest {
+
+    @After
+    public void tearDown() {
+        GamePool.clear();
+    }
+
+    private static List<AbstractPlayer> randomPlayers(int n) {
+        List<AbstractPlayer> players = new ArrayList<>();
+        for (int i = 0; i < n; i++)
+            players.add(new RandomPlayer(new Random(i)));
+        return players;
+    }
+
+    private static List<String> play(Game game, long seed) {
+        game.reset(randomPlayers(game.getGameState().getNPlayers()), seed);
+        game.run();
+        return new ArrayList<>(game.getGameState().getHistoryAsText());
+    }
+
+    @Test
+    public void releasedGamesAreReused() {
+        LoveLetterParameters params = new LoveLetterParameters();
+        Game first = GamePool.acquire(GameType.LoveLetter, 3, params);
+        Game second = GamePool.acquire(GameType.LoveLetter, 3, params);
+        assertNotSame(first, second);
+        GamePool.release(first);
+        assertEquals(1, GamePool.idleGames(GameType.LoveLetter, 3, params));
+
+        assertSame(first, GamePool.acquire(GameType.LoveLetter, 3, params));
+        assertEquals(0, GamePool.idleGames(GameType.LoveLetter, 3, params));
+        // a different number of players, or different parameters, needs a different game
+        GamePool.release(first);
+        assertNotSame(first, GamePool.acquire(GameType.LoveLetter, 4, params));
+        assertNotSame(first, GamePool.acquire(GameType.LoveLetter, 3, new LoveLetterParameters()));
+        assertNotSame(first, GamePool.acquire(GameType.LoveLetter, 3, null));
+        assertSame(first, GamePool.acquire(GameType.LoveLetter, 3, params));
+    }
+
+    @Test
+    public void releaseRemovesListeners() {
+        Game game = GamePool.acquire(GameType.TicTacToe, 2, null);
+        game.addListener(new IGameListener() {
+            Game game;
+
+            @Override
+            public void onEvent(Event event) {
+            }
+
+            @Override
+            public void report() {
+            }
+
+            @Override
+            public void setGame(Game game) {
+                this.game = game;
+            }
+
+            @Override
+            public Game getGame() {
+                return game;
+            }
+        });
+        GamePool.release(game);
+        assertTrue(GamePool.acquire(GameType.TicTacToe, 2, null).getListeners().isEmpty());
+    }
+
+    @Test
+    public void gamesNotFromThePoolAreIgnored() {
+        GamePool.release(GameType.TicTacToe.createGameInstance(2, 1));
+        assertEquals(0, GamePool.idleGames(GameType.TicTacToe, 2, null));
+    }
+
+    @Test
+    public void pooledGamesPlayAsNewOnes() {
+        List<String> expected = play(GameType.LoveLetter.createGameInstance(3, 42), 42);
+        Game pooled = GamePool.acquire(GameType.LoveLetter, 3, null);
+        play(pooled, 7);
+        GamePool.release(pooled);
+        pooled = GamePool.acquire(GameType.LoveLetter, 3, null);
+        assertEquals(expected, play(pooled, 42));
+    }
+
+    @Test
+    public void reusedInitialStateGivesTheSameGame() {
+        for (GameType gameType : List.of(GameType.LoveLetter, GameType.Dominion, GameType.Uno)) {
+            List<String> expected = play(gameType.createGameInstance(3, 42), 42);
+            Game game = gameType.createGameInstance(3, 42);
+            game.setReuseInitialState(true);
+            assertEquals(gameType.name(), expected, play(game, 42));
+            // this time the initial state is copied, rather than set up again
+            assertEquals(gameType.name(), expected, play(game, 42));
+            // and a different seed sets up the game again
+            assertNotEquals(gameType.name(), expected, play(game, 43));
+            assertEquals(gameType.name(), expected, play(game, 42));
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package core;
+
+import core.actions.AbstractAction;
+import games.GameType;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH comparison of the CoreParameters.historyMode settings, on random rollouts from a copy of the initial state,
+ * as used by MCTS.
+ * Run with: mvn -Dmaven.test.skip=false test-compile, then main() with target/test-classes on the classpath.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HistoryModeBenchmark {
+
+    @Param({"Dominion", "LoveLetter", "SushiGo", "Connect4"})
+    public String game;
+
+    @Param({"FULL", "COMPACT", "NONE"})
+    public CoreConstants.HistoryMode historyMode;
+
+    AbstractGameState root;
+    AbstractForwardModel forwardModel;
+    Random rnd;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Game g = GameType.valueOf(game).createGameInstance(2, 42);
+        g.getCoreParameters().historyMode = historyMode;
+        root = g.getGameState();
+        forwardModel = g.getForwardModel();
+        rnd = new Random(42);
+    }
+
+    @Benchmark
+    public AbstractGameState rollout() {
+        AbstractGameState state = root.copy();
+        for (int i = 0; i < 100 && state.isNotTerminal(); i++) {
+            List<AbstractAction> actions = forwardModel.computeAvailableActions(state);
+            forwardModel.next(state, actions.get(rnd.nextInt(actions.size())));
+        }
+        return state;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(HistoryModeBenchmark.class.getSimpleName()).build()).run();
+    }
+}
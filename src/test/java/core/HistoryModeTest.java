@@ -0,0 +1,92 @@
+package core;
+
+import core.actions.AbstractAction;
+import games.GameType;
+import org.junit.Test;
+import utilities.Pair;
+
+import java.util.List;
+import java.util.Random;
+
+import static core.CoreConstants.HistoryMode.*;
+import static org.junit.Assert.*;
+
+public class HistoryModeTest {
+
+    private AbstractGameState play(CoreConstants.HistoryMode mode, int actions) {
+        Game game = GameType.LoveLetter.createGameInstance(3, 42);
+        game.getCoreParameters().historyMode = mode;
+        AbstractGameState state = game.getGameState();
+        AbstractForwardModel fm = game.getForwardModel();
+        Random rnd = new Random(7);
+        for (int i = 0; i < actions && state.isNotTerminal(); i++) {
+            List<AbstractAction> available = fm.computeAvailableActions(state);
+            fm.next(state, available.get(rnd.nextInt(available.size())));
+        }
+        return state;
+    }
+
+    @Test
+    public void compactHistoryMatchesFullHistory() {
+        AbstractGameState full = play(FULL, 20);
+        AbstractGameState compact = play(COMPACT, 20);
+        List<Pair<Integer, AbstractAction>> expected = full.getHistory();
+        assertEquals(20, expected.size());
+        assertEquals(expected, compact.getHistory());
+        assertEquals(expected, compact.copy().getHistory());
+        assertEquals(expected.size(), compact.getHistoryAsText().size());
+    }
+
+    @Test
+    public void copiesOfCompactHistoryAreIndependent() {
+        Game game = GameType.LoveLetter.createGameInstance(3, 42);
+        game.getCoreParameters().historyMode = COMPACT;
+        AbstractGameState state = game.getGameState();
+        AbstractForwardModel fm = game.getForwardModel();
+        fm.next(state, fm.computeAvailableActions(state).get(0));
+        AbstractGameState copy = state.copy();
+        fm.next(copy, fm.computeAvailableActions(copy).get(0));
+        assertEquals(1, state.getHistory().size());
+        assertEquals(2, copy.getHistory().size());
+    }
+
+    @Test
+    public void onlyTheGameAddsToTheActionTable() {
+        Game game = GameType.LoveLetter.createGameInstance(3, 42);
+        AbstractForwardModel fm = game.getForwardModel();
+        List<AbstractAction> actions = fm.computeAvailableActions(game.getGameState());
+        CompactHistory history = new CompactHistory();
+        history.add(0, actions.get(0));
+        CompactHistory copy = history.copy();
+        for (AbstractAction action : actions)
+            copy.add(1, action);
+        assertEquals(1, history.tableSize());
+        assertEquals(1, history.size());
+        assertEquals(actions.size() + 1, copy.size());
+        for (int i = 0; i < actions.size(); i++)
+            assertEquals(actions.get(i), copy.getAction(i + 1));
+        assertEquals(copy.toList(), copy.copy().toList());
+    }
+
+    @Test
+    public void noHistoryIsKept() {
+        AbstractGameState state = play(NONE, 20);
+        assertTrue(state.getHistory().isEmpty());
+        assertTrue(state.getHistoryAsText().isEmpty());
+        assertTrue(state.copy().getHistory().isEmpty());
+    }
+
+    @Test
+    public void lastActionIsKeptInEveryMode() {
+        AbstractGameState full = play(FULL, 20);
+        List<Pair<Integer, AbstractAction>> history = full.getHistory();
+        AbstractAction expected = history.get(history.size() - 1).b;
+        for (CoreConstants.HistoryMode mode : CoreConstants.HistoryMode.values()) {
+            AbstractGameState state = play(mode, 20);
+            assertEquals(expected, state.getLastAction());
+            assertEquals(expected, state.copy().getLastAction());
+        }
+        Game game = GameType.LoveLetter.createGameInstance(3, 42);
+        assertNull(game.getGameState().getLastAction());
+    }
+}
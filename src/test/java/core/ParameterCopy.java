@@ -1,5 +1,7 @@
 package core;
 
+import games.GameType;
+import games.loveletter.LoveLetterParameters;
 import games.puertorico.PuertoRicoParameters;
 import org.junit.Test;
 
@@ -16,4 +18,42 @@ public class ParameterCopy {
         assertNotEquals(params.getRandomSeed(), paramsCopy.getRandomSeed());
         assertEquals(params.hashCode(), paramsCopy.hashCode());
     }
+
+    @Test
+    public void frozenCopyIsSharedUntilOriginalChanges() {
+        LoveLetterParameters params = new LoveLetterParameters();
+        AbstractParameters frozen = params.frozenCopy();
+        assertTrue(frozen.isFrozen());
+        assertFalse(params.isFrozen());
+        assertEquals(params, frozen);
+        assertSame(frozen, params.frozenCopy());
+        assertSame(frozen, frozen.frozenCopy());
+
+        params.setParameterValue("nCardsPerPlayer", 2);
+        AbstractParameters refrozen = params.frozenCopy();
+        assertNotSame(frozen, refrozen);
+        assertEquals(2, ((LoveLetterParameters) refrozen).nCardsPerPlayer);
+
+        assertThrows(IllegalStateException.class, () -> frozen.setMaxRounds(5));
+        assertThrows(IllegalStateException.class, () -> frozen.setRandomSeed(5));
+        assertThrows(IllegalStateException.class, frozen::randomize);
+        CoreParameters core = new CoreParameters();
+        core.freeze();
+        assertThrows(IllegalStateException.class, () -> core.setParameterValue("verbose", true));
+        // but a copy of a frozen object can be changed
+        AbstractParameters thawed = frozen.copy();
+        assertFalse(thawed.isFrozen());
+        thawed.setMaxRounds(5);
+    }
+
+    @Test
+    public void gameStateCopiesShareParameters() {
+        Game game = GameType.LoveLetter.createGameInstance(3, 42);
+        AbstractGameState state = game.getGameState();
+        AbstractGameState copy = state.copy();
+        assertTrue(copy.getGameParameters().isFrozen());
+        assertSame(copy.getGameParameters(), state.copy(1).getGameParameters());
+        assertSame(copy.getGameParameters(), copy.copy().getGameParameters());
+        assertFalse(state.getGameParameters().isFrozen());
+    }
 }
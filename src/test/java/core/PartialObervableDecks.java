@@ -406,4 +406,59 @@ public class PartialObervableDecks {
         assertEquals(3, nonShuffledCount[0], 3); // 2 cards, so expect 20/6 = 3
         assertEquals(7, nonShuffledCount[1], 3); // 4 cards, so expect 40/6 = 7
     }
+
+    @Test
+    public void visibilityTracksComponentsInLargeDecks() {
+        // more than 64 cards, so visibility spans several words per player
+        PartialObservableDeck<DominionCard> deck = new PartialObservableDeck<>("Test", 0, 5, HIDDEN_TO_ALL);
+        List<DominionCard> cards = new ArrayList<>();
+        List<boolean[]> expected = new ArrayList<>();
+        for (int i = 0; i < 3000; i++) {
+            int op = rnd.nextInt(5);
+            if (op < 2 || cards.isEmpty()) {
+                int index = rnd.nextBoolean() ? 0 : rnd.nextInt(cards.size() + 1);
+                boolean[] visibility = new boolean[5];
+                for (int p = 0; p < 5; p++)
+                    visibility[p] = rnd.nextBoolean();
+                DominionCard card = DominionCard.create(CardType.COPPER);
+                deck.add(card, index, visibility);
+                cards.add(index, card);
+                expected.add(index, visibility);
+            } else if (op == 2) {
+                int index = rnd.nextInt(cards.size());
+                deck.pick(index);
+                cards.remove(index);
+                expected.remove(index);
+            } else if (op == 3) {
+                int index = rnd.nextInt(cards.size());
+                int player = rnd.nextInt(5);
+                boolean visible = rnd.nextBoolean();
+                deck.setVisibilityOfComponent(index, player, visible);
+                expected.get(index)[player] = visible;
+            } else {
+                PartialObservableDeck<DominionCard> copy = deck.copy();
+                copy.setVisibilityOfComponent(0, 0, !copy.getVisibilityForPlayer(0, 0));
+            }
+        }
+        assertTrue(cards.size() > 64);
+        for (int p = 0; p < 5; p++) {
+            List<Integer> unknown = new ArrayList<>();
+            for (int i = 0; i < cards.size(); i++) {
+                assertSame(cards.get(i), deck.get(i));
+                assertEquals(expected.get(i)[p], deck.isComponentVisible(i, p));
+                if (!expected.get(i)[p])
+                    unknown.add(i);
+            }
+            assertArrayEquals(unknown.stream().mapToInt(Integer::intValue).toArray(), deck.getUnknownIndices(p));
+            assertEquals(cards.size() - unknown.size(), deck.getVisibleCount(p));
+        }
+
+        // and shuffling keeps each card with its own visibility
+        Map<DominionCard, boolean[]> before = new IdentityHashMap<>();
+        for (int i = 0; i < deck.getSize(); i++)
+            before.put(deck.get(i), deck.getVisibilityOfComponent(i));
+        deck.shuffleAndKeepVisibility(rnd);
+        for (int i = 0; i < deck.getSize(); i++)
+            assertArrayEquals(before.get(deck.get(i)), deck.getVisibilityOfComponent(i));
+    }
 }
@@ -0,0 +1,72 @@
+package core;
+
+import core.components.Card;
+import core.properties.Property;
+import core.properties.PropertyInt;
+import core.properties.PropertyString;
+import core.properties.PropertyTable;
+import org.junit.Test;
+import utilities.Hash;
+
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+public class PropertyTableTest {
+
+    Random rnd = new Random(17);
+
+    @Test
+    public void randomOperationsMatchHashMap() {
+        Map<Integer, Property> expected = new HashMap<>();
+        PropertyTable actual = new PropertyTable();
+        for (int i = 0; i < 20000; i++) {
+            // a small key range, so that there are plenty of collisions, replacements and removals
+            int key = rnd.nextInt(200) * (rnd.nextBoolean() ? 1 : -65536);
+            if (rnd.nextInt(3) == 0) {
+                assertEquals(expected.remove(key), actual.remove(key));
+            } else {
+                Property p = new PropertyInt("p" + key, i);
+                assertEquals(expected.put(key, p), actual.put(key, p));
+            }
+            assertEquals(expected.size(), actual.size());
+            int probe = rnd.nextInt(200);
+            assertSame(expected.get(probe), actual.get(probe));
+            assertEquals(expected.containsKey(probe), actual.containsKey(probe));
+        }
+        assertEquals(expected, actual);
+        assertEquals(expected.keySet(), actual.keySet());
+    }
+
+    @Test
+    public void copyIsIndependent() {
+        PropertyTable table = new PropertyTable();
+        for (int i = 0; i < 20; i++)
+            table.put(i, new PropertyInt("p" + i, i));
+        PropertyTable copy = table.copy();
+        assertEquals(table, copy);
+        ((PropertyInt) copy.get(3)).value = 100;
+        copy.remove(4);
+        assertEquals(3, ((PropertyInt) table.get(3)).value);
+        assertTrue(table.containsKey(4));
+        assertEquals(20, table.size());
+        assertEquals(19, copy.size());
+    }
+
+    @Test
+    public void componentTypedAccessors() {
+        int countKey = Hash.GetInstance().hash("count");
+        int textKey = Hash.GetInstance().hash("text");
+        Card card = new Card("Test");
+        card.setProperty(new PropertyInt("count", 7));
+        card.setProperty(new PropertyString("text", "hello"));
+        assertEquals(7, card.getIntProperty(countKey));
+        assertEquals("hello", card.getStringProperty(textKey));
+        assertTrue(card.hasProperty(countKey));
+
+        Card copy = card.copy();
+        ((PropertyInt) copy.getProperty(countKey)).value = 8;
+        assertEquals(7, card.getIntProperty(countKey));
+        assertEquals(8, copy.getIntProperty(countKey));
+    }
+}
@@ -0,0 +1,78 @@
+package core;
+
+import core.components.Deck;
+import core.components.RingBufferList;
+import games.dominion.cards.CardType;
+import games.dominion.cards.DominionCard;
+import org.junit.Test;
+
+import java.util.*;
+
+import static core.CoreConstants.VisibilityMode.HIDDEN_TO_ALL;
+import static org.junit.Assert.*;
+
+public class RingBufferListTest {
+
+    Random rnd = new Random(71);
+
+    @Test
+    public void randomOperationsMatchArrayList() {
+        List<Integer> expected = new ArrayList<>();
+        List<Integer> actual = new RingBufferList<>();
+        for (int i = 0; i < 20000; i++) {
+            int op = rnd.nextInt(10);
+            if (op < 4 || expected.isEmpty()) {
+                int index = rnd.nextBoolean() ? 0 : rnd.nextInt(expected.size() + 1);
+                expected.add(index, i);
+                actual.add(index, i);
+            } else if (op < 7) {
+                int index = rnd.nextBoolean() ? 0 : rnd.nextInt(expected.size());
+                assertEquals(expected.remove(index), actual.remove(index));
+            } else if (op == 7) {
+                int index = rnd.nextInt(expected.size());
+                assertEquals(expected.set(index, -i), actual.set(index, -i));
+            } else if (op == 8) {
+                int index = rnd.nextInt(expected.size() + 1);
+                List<Integer> extra = Arrays.asList(i, i + 1, i + 2);
+                expected.addAll(index, extra);
+                actual.addAll(index, extra);
+            } else {
+                int from = rnd.nextInt(expected.size());
+                int to = from + rnd.nextInt(Math.min(4, expected.size() - from) + 1);
+                expected.subList(from, to).clear();
+                actual.subList(from, to).clear();
+            }
+            assertEquals(expected.size(), actual.size());
+        }
+        assertEquals(expected, actual);
+        assertEquals(expected.hashCode(), actual.hashCode());
+        actual.clear();
+        assertTrue(actual.isEmpty());
+    }
+
+    @Test
+    public void indicesAreChecked() {
+        List<Integer> list = new RingBufferList<>(List.of(1, 2, 3));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(3));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.remove(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.add(4, 0));
+    }
+
+    @Test
+    public void deckKeepsTopAtIndexZero() {
+        Deck<DominionCard> deck = new Deck<>("Test", HIDDEN_TO_ALL);
+        for (int i = 0; i < 50; i++)
+            deck.add(DominionCard.create(i % 2 == 0 ? CardType.COPPER : CardType.ESTATE));
+        deck.add(DominionCard.create(CardType.GOLD));
+        deck.addToBottom(DominionCard.create(CardType.PROVINCE));
+        assertEquals(CardType.GOLD, deck.peek().cardType());
+        assertEquals(CardType.PROVINCE, deck.get(deck.getSize() - 1).cardType());
+
+        Deck<DominionCard> copy = deck.copy();
+        assertEquals(deck.hashCode(), copy.hashCode());
+        assertEquals(CardType.GOLD, copy.draw().cardType());
+        assertEquals(CardType.PROVINCE, copy.pickLast().cardType());
+        assertEquals(52, deck.getSize());
+        assertEquals(50, copy.getSize());
+    }
+}
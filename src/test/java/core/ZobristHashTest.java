@@ -0,0 +1,150 @@
+package core;
+
+import core.actions.AbstractAction;
+import core.components.Card;
+import core.components.Component;
+import core.components.Counter;
+import core.components.BoardNode;
+import core.components.Deck;
+import core.components.GridBoard;
+import core.interfaces.IStateKey;
+import games.GameType;
+import org.junit.Test;
+
+import java.util.*;
+
+import static core.CoreConstants.VisibilityMode.HIDDEN_TO_ALL;
+import static org.junit.Assert.*;
+
+public class ZobristHashTest {
+
+    Random rnd = new Random(23);
+
+    @Test
+    public void deckHashMatchesRecomputedHash() {
+        Deck<Card> deck = new Deck<>("Test", HIDDEN_TO_ALL);
+        List<Card> cards = new ArrayList<>();
+        for (int i = 0; i < 20; i++)
+            cards.add(new Card("Card " + i));
+        for (int i = 0; i < 5000; i++) {
+            int op = rnd.nextInt(8);
+            if (op < 2 || deck.getSize() == 0) {
+                deck.add(cards.get(rnd.nextInt(cards.size())));
+            } else if (op == 2) {
+                deck.addToBottom(cards.get(rnd.nextInt(cards.size())));
+            } else if (op == 3) {
+                deck.add(cards.get(rnd.nextInt(cards.size())), rnd.nextInt(deck.getSize() + 1));
+            } else if (op == 4) {
+                deck.draw();
+            } else if (op == 5) {
+                deck.pickLast();
+            } else if (op == 6) {
+                deck.remove(rnd.nextInt(deck.getSize()));
+            } else {
+                deck.pick(rnd);
+            }
+            if (i % 500 == 0)
+                deck.shuffle(rnd);
+            Deck<Card> fresh = new Deck<>("Fresh", HIDDEN_TO_ALL);
+            fresh.add(deck);
+            assertEquals(fresh.getZobristHash(), deck.getZobristHash());
+        }
+    }
+
+    @Test
+    public void deckHashDependsOnOrder() {
+        Deck<Card> deck = new Deck<>("Test", HIDDEN_TO_ALL);
+        deck.add(new Card("A"));
+        deck.add(new Card("B"));
+        long before = deck.getZobristHash();
+        deck.addToBottom(deck.draw());
+        assertNotEquals(before, deck.getZobristHash());
+        deck.add(deck.pickLast());
+        assertEquals(before, deck.getZobristHash());
+    }
+
+    @Test
+    public void deckHashFollowsComponentsChangedInPlace() {
+        Deck<Counter> deck = new Deck<>("Test", HIDDEN_TO_ALL);
+        for (int i = 0; i < 5; i++)
+            deck.add(new Counter(0, 0, 10, "Counter " + i));
+        deck.getZobristHash();
+        deck.get(0).increment();
+        deck.draw();
+        Deck<Counter> fresh = new Deck<>("Fresh", HIDDEN_TO_ALL);
+        fresh.add(deck);
+        assertEquals(fresh.getZobristHash(), deck.getZobristHash());
+
+        long before = deck.getZobristHash();
+        for (Counter c : deck)
+            c.increment();
+        assertNotEquals(before, deck.getZobristHash());
+        deck.pickLast();
+        fresh = new Deck<>("Fresh", HIDDEN_TO_ALL);
+        fresh.add(deck);
+        assertEquals(fresh.getZobristHash(), deck.getZobristHash());
+    }
+
+    @Test
+    public void gridBoardHashMatchesRecomputedHash() {
+        GridBoard board = new GridBoard(5, 4);
+        List<BoardNode> nodes = new ArrayList<>();
+        for (int i = 0; i < 3; i++)
+            nodes.add(new BoardNode("Node " + i));
+        long empty = board.getZobristHash();
+        for (int i = 0; i < 1000; i++) {
+            BoardNode node = rnd.nextInt(4) == 0 ? null : nodes.get(rnd.nextInt(nodes.size()));
+            board.setElement(rnd.nextInt(5), rnd.nextInt(4), node);
+            GridBoard fresh = board.copy();
+            fresh.getGridValues();  // discards the stored hash
+            assertEquals(fresh.getZobristHash(), board.getZobristHash());
+        }
+        for (int x = 0; x < 5; x++)
+            for (int y = 0; y < 4; y++)
+                board.setElement(x, y, null);
+        assertEquals(empty, board.getZobristHash());
+    }
+
+    @Test
+    public void transpositionsHaveEqualHash() {
+        Game game = GameType.DotsAndBoxes.createGameInstance(2, 42);
+        AbstractForwardModel fm = game.getForwardModel();
+        AbstractGameState first = game.getGameState().copy();
+        AbstractGameState second = game.getGameState().copy();
+        List<AbstractAction> actions = fm.computeAvailableActions(first);
+        // the first three edges of a game cannot complete a box, so the players alternate
+        for (int i = 0; i < 3; i++)
+            fm.next(first, actions.get(i).copy());
+        for (int i = 2; i >= 0; i--)
+            fm.next(second, actions.get(i).copy());
+        assertEquals(first.getZobristHash(), second.getZobristHash());
+        fm.next(first, actions.get(3).copy());
+        assertNotEquals(first.getZobristHash(), second.getZobristHash());
+    }
+
+    @Test
+    public void stateHashIsMaintainedDuringPlay() {
+        // the games used by the MCGS tests
+        for (GameType gameType : List.of(GameType.LoveLetter, GameType.DotsAndBoxes, GameType.TicTacToe, GameType.WarOfTheToads))
+            stateHashIsMaintainedDuringPlay(gameType.createGameInstance(gameType == GameType.LoveLetter ? 3 : 2, 42));
+    }
+
+    private void stateHashIsMaintainedDuringPlay(Game game) {
+        AbstractGameState state = game.getGameState();
+        AbstractForwardModel fm = game.getForwardModel();
+        Set<Long> seen = new HashSet<>();
+        while (state.isNotTerminal()) {
+            AbstractGameState copy = state.copy();
+            for (Component c : copy.getAllComponents().getComponents()) {
+                if (c instanceof Deck<?> d) d.invalidateZobristHash();
+                if (c instanceof GridBoard g) g.getGridValues();
+            }
+            assertEquals(copy.getZobristHash(), state.getZobristHash());
+            assertEquals(IStateKey.zobrist.getKey(copy), IStateKey.zobrist.getKey(state));
+            seen.add(state.getZobristHash());
+            List<AbstractAction> actions = fm.computeAvailableActions(state);
+            fm.next(state, actions.get(rnd.nextInt(actions.size())));
+        }
+        assertTrue(game.getGameType().name(), seen.size() >= 5);
+    }
+}
@@ -0,0 +1,90 @@
+package evaluation;
+
+import core.AbstractPlayer;
+import core.Game;
+import core.interfaces.IGameEvent;
+import evaluation.listeners.IGameListener;
+import evaluation.metrics.Event;
+import games.GameType;
+import org.junit.Test;
+import players.simple.RandomPlayer;
+
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+public class GameListenerEventsTest {
+
+    static class CountingListener implements IGameListener {
+        final Set<IGameEvent> eventTypes;
+        final Map<IGameEvent, Integer> counts = new HashMap<>();
+        final Set<Event> eventObjects = Collections.newSetFromMap(new IdentityHashMap<>());
+        Game game;
+
+        CountingListener(Set<IGameEvent> eventTypes) {
+            this.eventTypes = eventTypes;
+        }
+
+        @Override
+        public void onEvent(Event event) {
+            counts.merge(event.type, 1, Integer::sum);
+            eventObjects.add(event);
+        }
+
+        @Override
+        public Set<IGameEvent> getEventTypes() {
+            return eventTypes;
+        }
+
+        @Override
+        public void report() {
+        }
+
+        @Override
+        public void setGame(Game game) {
+            this.game = game;
+        }
+
+        @Override
+        public Game getGame() {
+            return game;
+        }
+    }
+
+    private Game runGame(IGameListener... listeners) {
+        Game game = GameType.LoveLetter.createGameInstance(3, 42);
+        for (IGameListener listener : listeners)
+            game.addListener(listener);
+        List<AbstractPlayer> players = new ArrayList<>();
+        for (int i = 0; i < 3; i++)
+            players.add(new RandomPlayer(new Random(i)));
+        game.reset(players, 42);
+        game.run();
+        return game;
+    }
+
+    @Test
+    public void onlyDeclaredEventsAreSent() {
+        CountingListener gameOver = new CountingListener(Set.of(Event.GameEvent.GAME_OVER));
+        Game game = runGame(gameOver);
+        assertEquals(Map.of(Event.GameEvent.GAME_OVER, 1), gameOver.counts);
+        assertEquals(1, game.getNEvents());
+    }
+
+    @Test
+    public void listenersWithoutDeclarationsGetEverything() {
+        CountingListener all = new CountingListener(null);
+        CountingListener actions = new CountingListener(Set.of(Event.GameEvent.ACTION_TAKEN));
+        Game game = runGame(all, actions);
+        int nActions = game.getGameState().getGameTick();
+        assertEquals(nActions, (int) all.counts.get(Event.GameEvent.ACTION_CHOSEN));
+        assertEquals(nActions, (int) all.counts.get(Event.GameEvent.ACTION_TAKEN));
+        assertEquals(1, (int) all.counts.get(Event.GameEvent.ABOUT_TO_START));
+        assertEquals(Map.of(Event.GameEvent.ACTION_TAKEN, nActions), actions.counts);
+        // every event sent went to the listener that wants them all, including the TURN_OVER etc. from the state
+        assertEquals(all.counts.values().stream().mapToInt(Integer::intValue).sum(), game.getNEvents());
+        assertTrue(all.counts.containsKey(Event.GameEvent.TURN_OVER));
+        // one Event object is reused for everything sent
+        assertEquals(1, actions.eventObjects.size());
+    }
+}
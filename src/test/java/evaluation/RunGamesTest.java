@@ -132,4 +132,29 @@ public class RunGamesTest {
         assertEquals(66, tournament.getNGamesPlayed()[3], 15);
     }
 
+    @Test
+    public void parallelMatchesSequential() {
+        config.put(RunArg.mode, "exhaustive");
+        config.put(RunArg.seed, 42L);
+        RoundRobinTournament sequential = new RoundRobinTournament(seededAgents(), GameType.Poker, 3, null, config);
+        sequential.run();
+
+        config.put(RunArg.nThreads, 4);
+        RoundRobinTournament parallel = new RoundRobinTournament(seededAgents(), GameType.Poker, 3, null, config);
+        parallel.run();
+
+        assertArrayEquals(sequential.getNGamesPlayed(), parallel.getNGamesPlayed());
+        for (int i = 0; i < agents.size(); i++) {
+            assertEquals(sequential.getWinRate(i), parallel.getWinRate(i), 0.0);
+            assertEquals(sequential.getOrdinalRank(i), parallel.getOrdinalRank(i), 0.0);
+        }
+    }
+
+    private List<AbstractPlayer> seededAgents() {
+        List<AbstractPlayer> retValue = new ArrayList<>();
+        for (int i = 0; i < 4; i++)
+            retValue.add(new RandomPlayer(new Random(i)));
+        return retValue;
+    }
+
 }
@@ -0,0 +1,33 @@
+package evaluation;
+
+import core.CoreConstants;
+import games.GameType;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class SimulateTest {
+
+    @Test
+    public void allGamesArePlayed() {
+        Simulate simulate = new Simulate(GameType.TicTacToe, 2, "random", CoreConstants.HistoryMode.NONE);
+        Simulate.Result result = simulate.run(50, 3, 42);
+        assertEquals(50, result.nGames());
+        // a game of TicTacToe has between 5 and 9 moves, each of which is a decision
+        assertTrue(result.nActions() >= 5 * 50 && result.nActions() <= 9 * 50);
+        assertTrue(result.nDecisions() > 0 && result.nDecisions() <= result.nActions());
+        assertTrue(result.copyTime() > 0 && result.nextTime() > 0 && result.actionComputeTime() > 0);
+        assertTrue(result.gamesPerSecond() > 0);
+    }
+
+    @Test
+    public void gamesWithSeveralPlayers() {
+        Simulate simulate = new Simulate(GameType.LoveLetter, 4, "random", CoreConstants.HistoryMode.COMPACT);
+        assertEquals(10, simulate.run(10, 2, 1).nGames());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void invalidPlayerCount() {
+        new Simulate(GameType.TicTacToe, 3, "random", CoreConstants.HistoryMode.NONE);
+    }
+}
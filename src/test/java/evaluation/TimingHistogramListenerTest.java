@@ -0,0 +1,58 @@
+package evaluation;
+
+import core.AbstractPlayer;
+import core.Game;
+import evaluation.listeners.TimingHistogramListener;
+import evaluation.listeners.TimingHistogramListener.Phase;
+import evaluation.metrics.IDataLogger;
+import games.GameType;
+import org.junit.Test;
+import players.simple.RandomPlayer;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class TimingHistogramListenerTest {
+
+    @Test
+    public void everyActionIsRecorded() throws Exception {
+        TimingHistogramListener listener = new TimingHistogramListener(IDataLogger.ReportDestination.ToFile);
+        File dir = Files.createTempDirectory("timings").toFile();
+        listener.setOutputDirectory(dir.getPath());
+
+        Game game = GameType.LoveLetter.createGameInstance(3, 42);
+        game.addListener(listener);
+        List<AbstractPlayer> players = new ArrayList<>();
+        for (int i = 0; i < 3; i++)
+            players.add(new RandomPlayer(new Random(i)));
+        int nActions = 0, nDecisions = 0;
+        for (int g = 0; g < 2; g++) {
+            game.reset(players, 42 + g);
+            game.run();
+            nActions += game.getTick();
+            nDecisions += game.getNDecisions();
+        }
+
+        assertEquals(nActions, listener.getHistogram(Phase.Copy, -1).count());
+        assertEquals(nActions, listener.getHistogram(Phase.ComputeActions, -1).count());
+        assertEquals(nActions, listener.getHistogram(Phase.Next, -1).count());
+        assertEquals(nDecisions, listener.getHistogram(Phase.Agent, -1).count());
+        long perPlayer = 0;
+        for (int p = 0; p < 3; p++)
+            perPlayer += listener.getHistogram(Phase.Copy, p).count();
+        assertEquals(nActions, perPlayer);
+        assertTrue(listener.getHistogram(Phase.Next, -1).max() >= listener.getHistogram(Phase.Next, -1).percentile(99));
+
+        listener.report();
+        // one row per game, phase and player (and all players), after the header
+        List<String> rows = Files.readAllLines(new File(dir, "timings.csv").toPath());
+        assertEquals(1 + 2 * Phase.values().length * 4, rows.size());
+        assertTrue(rows.get(1).contains(",LoveLetter,Copy,0,"));
+        assertEquals(1 + Phase.values().length * 4, Files.readAllLines(new File(dir, "timingSummary.csv").toPath()).size());
+    }
+}
@@ -0,0 +1,114 @@
+package evaluation.tournaments;
+
+import core.AbstractPlayer;
+import evaluation.RunArg;
+import evaluation.RunGames;
+import games.GameType;
+import org.junit.Before;
+import org.junit.Test;
+import players.PlayerConstants;
+import players.mcts.MCTSParams;
+import players.mcts.MCTSPlayer;
+import players.simple.RandomPlayer;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+public class AdaptiveTournamentTest {
+
+    Map<RunArg, Object> config;
+
+    @Before
+    public void setup() throws IOException {
+        config = RunArg.parseConfig(new String[]{"mode=adaptive", "matchups=400", "seed=42"},
+                Collections.singletonList(RunArg.Usage.RunGames));
+        config.put(RunArg.destDir, Files.createTempDirectory("tournament").toString());
+    }
+
+    private RoundRobinTournament createTournament(AbstractPlayer... agents) {
+        return new RoundRobinTournament(Arrays.asList(agents), GameType.TicTacToe, 2, null, config);
+    }
+
+    private static MCTSPlayer mcts() {
+        MCTSParams params = new MCTSParams();
+        params.budgetType = PlayerConstants.BUDGET_ITERATIONS;
+        params.budget = 200;
+        params.setRandomSeed(3);
+        return new MCTSPlayer(params, "MCTS");
+    }
+
+    private static String results(RoundRobinTournament tournament) throws IOException {
+        return Files.readString(Path.of(tournament.resultsFile));
+    }
+
+    @Test
+    public void stopsEarlyWhenAgentsAreClearlySeparated() throws IOException {
+        RoundRobinTournament tournament = createTournament(mcts(), new RandomPlayer(new Random(1)));
+        tournament.run();
+
+        int games = tournament.totalGamesRun;
+        assertTrue(games >= RoundRobinTournament.MIN_ADAPTIVE_GAMES);
+        assertTrue(games < 400);
+        // both agents play in every game, and each matchup is played in every round
+        assertEquals(games, tournament.getNGamesPlayed()[0]);
+        assertEquals(2 * tournament.adaptiveRounds, games);
+        assertEquals(0, tournament.getWinnerIndex());
+        assertTrue(results(tournament).contains("ranking resolved at 95.0% confidence"));
+    }
+
+    @Test
+    public void usesWholeBudgetWhenAgentsAreEquallyMatched() throws IOException {
+        config.put(RunArg.matchups, 100);
+        RoundRobinTournament tournament = createTournament(new RandomPlayer(new Random(1)), new RandomPlayer(new Random(2)),
+                new RandomPlayer(new Random(3)));
+        tournament.run();
+
+        // there are 6 permutations of 3 agents in 2 positions, so the exhaustive equivalent is 16 games of each
+        assertEquals(96, tournament.totalGamesRun);
+        assertTrue(results(tournament).contains("ranking not resolved after 16 rounds and 96 games, compared to 96 games"));
+    }
+
+    @Test
+    public void unresolvedAgentsAreThoseCloseToANeighbour() {
+        RoundRobinTournament tournament = createTournament(new RandomPlayer(), new RandomPlayer(), new RandomPlayer());
+        Arrays.fill(tournament.nGamesPlayed, 100);
+        // agent 0 is far ahead of the others, which are close together
+        double[] points = {90, 40, 38};
+        for (int i = 0; i < 3; i++) {
+            tournament.pointsPerPlayer[i] = points[i];
+            tournament.pointsPerPlayerSquared[i] = points[i];
+            tournament.rankPerPlayer[i] = 100 + (100 - points[i]);
+            tournament.rankPerPlayerSquared[i] = points[i] + 4 * (100 - points[i]);
+        }
+        assertArrayEquals(new boolean[]{false, true, true}, tournament.unresolvedAgents(2.0));
+
+        tournament.nGamesPlayed[2] = RoundRobinTournament.MIN_ADAPTIVE_GAMES - 1;
+        assertArrayEquals(new boolean[]{true, true, true}, tournament.unresolvedAgents(2.0));
+    }
+
+    @Test
+    public void resumedAdaptiveTournamentMatchesUninterruptedRun() throws IOException {
+        config.put(RunArg.playerDirectory, "src/test/java/evaluation/tournaments/Distributed_Agents");
+        config.put(RunArg.matchups, 600);
+        RoundRobinTournament uninterrupted = createTournament(RunGames.createAgents(config).toArray(new AbstractPlayer[0]));
+        uninterrupted.run();
+
+        config.put(RunArg.destDir, Files.createTempDirectory("tournament").toString());
+        config.put(RunArg.checkpointPeriod, 0);
+        RoundRobinTournament crashed = createTournament(RunGames.createAgents(config).toArray(new AbstractPlayer[0]));
+        OutcomeListener listener = new OutcomeListener();
+        listener.failAfter = 40;
+        crashed.addListener(listener);
+        assertThrows(IllegalStateException.class, crashed::run);
+
+        config.put(RunArg.resume, true);
+        RoundRobinTournament resumed = createTournament(RunGames.createAgents(config).toArray(new AbstractPlayer[0]));
+        resumed.run();
+        assertEquals(uninterrupted.adaptiveRounds, resumed.adaptiveRounds);
+        assertEquals(results(uninterrupted), results(resumed));
+    }
+}
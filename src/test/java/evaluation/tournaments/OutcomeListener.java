@@ -0,0 +1,68 @@
+package evaluation.tournaments;
+
+import core.AbstractGameState;
+import core.Game;
+import core.interfaces.IGameEvent;
+import evaluation.listeners.IGameListener;
+import evaluation.metrics.Event;
+
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * Records the seed and final positions of each game, and can merge the records of copies in worker processes.
+ * If failAfter is set, then it throws an exception once that many games have been recorded, to simulate a crash.
+ */
+public class OutcomeListener implements IGameListener {
+    public List<String> outcomes = new ArrayList<>();
+    public int failAfter = -1;
+    private Game game;
+
+    @Override
+    public void onEvent(Event event) {
+        AbstractGameState state = event.state;
+        int[] ordinals = new int[state.getNPlayers()];
+        for (int p = 0; p < ordinals.length; p++)
+            ordinals[p] = state.getOrdinalPosition(p);
+        outcomes.add(state.getGameParameters().getRandomSeed() + " " + Arrays.toString(ordinals));
+        if (outcomes.size() == failAfter)
+            throw new IllegalStateException("Simulated crash after " + failAfter + " games");
+    }
+
+    @Override
+    public Set<IGameEvent> getEventTypes() {
+        return Collections.singleton(Event.GameEvent.GAME_OVER);
+    }
+
+    @Override
+    public boolean canMergeRecordedData() {
+        return true;
+    }
+
+    @Override
+    public byte[] takeRecordedData() {
+        byte[] retValue = String.join("\n", outcomes).getBytes(StandardCharsets.UTF_8);
+        outcomes.clear();
+        return retValue;
+    }
+
+    @Override
+    public void mergeRecordedData(byte[] data) {
+        if (data.length > 0)
+            outcomes.addAll(Arrays.asList(new String(data, StandardCharsets.UTF_8).split("\n")));
+    }
+
+    @Override
+    public void report() {
+    }
+
+    @Override
+    public void setGame(Game game) {
+        this.game = game;
+    }
+
+    @Override
+    public Game getGame() {
+        return game;
+    }
+}
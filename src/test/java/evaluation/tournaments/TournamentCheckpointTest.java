@@ -0,0 +1,96 @@
+package evaluation.tournaments;
+
+import core.AbstractPlayer;
+import evaluation.RunArg;
+import evaluation.RunGames;
+import evaluation.listeners.IGameListener;
+import games.GameType;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+public class TournamentCheckpointTest {
+
+    Map<RunArg, Object> config;
+
+    @Before
+    public void setup() throws IOException {
+        config = RunArg.parseConfig(new String[]{
+                "mode=random", "matchups=30", "seed=42", "checkpointPeriod=0",
+                "playerDirectory=src/test/java/evaluation/tournaments/Distributed_Agents",
+                "listener=src/test/java/evaluation/tournaments/OutcomeListener.json"
+        }, Collections.singletonList(RunArg.Usage.RunGames));
+        config.put(RunArg.destDir, Files.createTempDirectory("tournament").toString());
+    }
+
+    private RoundRobinTournament createTournament() {
+        List<AbstractPlayer> agents = RunGames.createAgents(config);
+        RoundRobinTournament tournament = new RoundRobinTournament(agents, GameType.TicTacToe, 2, null, config);
+        //noinspection unchecked
+        for (String listener : (List<String>) config.get(RunArg.listener))
+            tournament.addListener(IGameListener.createListener(listener));
+        return tournament;
+    }
+
+    private static List<String> outcomes(RoundRobinTournament tournament) {
+        return ((OutcomeListener) tournament.listeners.get(0)).outcomes;
+    }
+
+    private static String results(RoundRobinTournament tournament) throws IOException {
+        return Files.readString(Path.of(tournament.resultsFile));
+    }
+
+    @Test
+    public void resumedTournamentMatchesUninterruptedRun() throws IOException {
+        RoundRobinTournament uninterrupted = createTournament();
+        uninterrupted.run();
+
+        config.put(RunArg.destDir, Files.createTempDirectory("tournament").toString());
+        RoundRobinTournament crashed = createTournament();
+        ((OutcomeListener) crashed.listeners.get(0)).failAfter = 17;
+        assertThrows(IllegalStateException.class, crashed::run);
+        assertEquals(16, crashed.matchUpsDone);
+        assertFalse(Files.exists(Path.of(crashed.resultsFile)));
+
+        // the seed is restored from the checkpoint
+        config.put(RunArg.seed, 7L);
+        config.put(RunArg.resume, true);
+        RoundRobinTournament resumed = createTournament();
+        resumed.run();
+
+        assertEquals(30, resumed.matchUpsDone);
+        assertEquals(results(uninterrupted), results(resumed));
+        assertArrayEquals(uninterrupted.getNGamesPlayed(), resumed.getNGamesPlayed());
+        assertEquals(30, outcomes(uninterrupted).size());
+        assertEquals(outcomes(uninterrupted), outcomes(resumed));
+    }
+
+    @Test
+    public void completedTournamentIsNotRunAgain() throws IOException {
+        RoundRobinTournament first = createTournament();
+        first.run();
+        String results = results(first);
+
+        config.put(RunArg.resume, true);
+        RoundRobinTournament second = createTournament();
+        second.run();
+        assertEquals(0, outcomes(second).size());
+        assertEquals(results, results(second));
+        assertArrayEquals(first.getNGamesPlayed(), second.getNGamesPlayed());
+        assertEquals(first.getWinRate(0), second.getWinRate(0), 0.0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void checkpointOfAnotherTournamentIsRejected() throws IOException {
+        createTournament().run();
+        config.put(RunArg.matchups, 20);
+        config.put(RunArg.resume, true);
+        createTournament().run();
+    }
+}
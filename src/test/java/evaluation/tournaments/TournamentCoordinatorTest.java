@@ -0,0 +1,109 @@
+package evaluation.tournaments;
+
+import core.AbstractPlayer;
+import core.Game;
+import evaluation.RunArg;
+import evaluation.RunGames;
+import evaluation.listeners.IGameListener;
+import evaluation.listeners.MetricsGameListener;
+import evaluation.metrics.AbstractMetric;
+import evaluation.metrics.GameMetrics;
+import games.GameType;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+import static evaluation.metrics.IDataLogger.ReportDestination.ToConsole;
+import static org.junit.Assert.*;
+
+public class TournamentCoordinatorTest {
+
+    Map<RunArg, Object> config;
+
+    @Before
+    public void setup() throws IOException {
+        config = RunArg.parseConfig(new String[]{
+                "mode=exhaustive", "matchups=24", "seed=42",
+                "playerDirectory=src/test/java/evaluation/tournaments/Distributed_Agents",
+                "listener=src/test/java/evaluation/tournaments/OutcomeListener.json"
+        }, Collections.singletonList(RunArg.Usage.RunGames));
+        config.put(RunArg.destDir, Files.createTempDirectory("tournament").toString());
+    }
+
+    private RoundRobinTournament createTournament() {
+        List<AbstractPlayer> agents = RunGames.createAgents(config);
+        RoundRobinTournament tournament = new RoundRobinTournament(agents, GameType.TicTacToe, 2, null, config);
+        //noinspection unchecked
+        for (String listener : (List<String>) config.get(RunArg.listener))
+            tournament.addListener(IGameListener.createListener(listener));
+        return tournament;
+    }
+
+    private String results(RoundRobinTournament tournament) throws IOException {
+        return Files.readString(Path.of(tournament.resultsFile));
+    }
+
+    @Test
+    public void distributedMatchesSequential() throws IOException {
+        RoundRobinTournament sequential = createTournament();
+        sequential.run();
+
+        config.put(RunArg.nProcesses, 2);
+        config.put(RunArg.destDir, Files.createTempDirectory("tournament").toString());
+        RoundRobinTournament distributed = createTournament();
+        distributed.run();
+
+        assertArrayEquals(sequential.getNGamesPlayed(), distributed.getNGamesPlayed());
+        assertEquals(results(sequential), results(distributed));
+        List<String> sequentialOutcomes = ((OutcomeListener) sequential.listeners.get(0)).outcomes;
+        assertEquals(24, sequentialOutcomes.size());
+        assertEquals(sequentialOutcomes, ((OutcomeListener) distributed.listeners.get(0)).outcomes);
+    }
+
+    @Test
+    public void failedWorkUnitIsReplayed() throws Exception {
+        RoundRobinTournament tournament = createTournament();
+        try (TournamentCoordinator coordinator = new TournamentCoordinator(tournament, 1, List.of("localhost"))) {
+            List<Integer> seeds = List.of(1, 2, 3);
+            TournamentCoordinator.WorkResult first = coordinator.submit(List.of(0, 1), new int[]{0, 0}, seeds).get();
+            assertEquals(3, first.outcomes().size());
+
+            coordinator.workers.get(0).process.destroyForcibly().waitFor();
+            // the agents have been copied once already, so the new worker catches up before playing the same games
+            TournamentCoordinator.WorkResult second = coordinator.submit(List.of(0, 1), new int[]{1, 1}, seeds).get();
+            assertEquals(1, coordinator.getRestarts());
+            assertEquals(3, second.outcomes().size());
+            for (int i = 0; i < seeds.size(); i++)
+                assertArrayEquals(first.outcomes().get(i).ordinalPositions(), second.outcomes().get(i).ordinalPositions());
+        }
+    }
+
+    @Test
+    public void metricsDataCanBeMerged() {
+        Game game = GameType.TicTacToe.createGameInstance(2);
+        Set<String> names = Set.of("RandomPlayer");
+        MetricsGameListener worker = metricsListener();
+        MetricsGameListener coordinator = metricsListener();
+        worker.init(game, 2, names);
+        coordinator.init(game, 2, names);
+        byte[] empty = coordinator.takeRecordedData();
+        game.addListener(worker);
+        for (int seed = 0; seed < 3; seed++) {
+            game.reset(List.of(new players.simple.RandomPlayer(new Random(seed)), new players.simple.RandomPlayer(new Random(seed + 1))), seed);
+            game.run();
+        }
+
+        byte[] data = worker.takeRecordedData();
+        assertArrayEquals(empty, worker.takeRecordedData());
+        coordinator.mergeRecordedData(data);
+        assertArrayEquals(data, coordinator.takeRecordedData());
+    }
+
+    private MetricsGameListener metricsListener() {
+        return new MetricsGameListener(ToConsole, new AbstractMetric[]{new GameMetrics.OrdinalPosition(), new GameMetrics.FinalScore()});
+    }
+}
@@ -0,0 +1,31 @@
+package games;
+
+import core.AbstractForwardModel;
+import core.AbstractGameState;
+import core.AbstractParameters;
+import gui.AbstractGUIManager;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class GameTypeTest {
+
+    // The classes of each game are given by name, so a mistake there only shows up when they are loaded
+    @Test
+    public void allGameClassesExist() {
+        for (GameType gameType : GameType.values()) {
+            assertTrue(gameType.name(), AbstractGameState.class.isAssignableFrom(gameType.getGameStateClass()));
+            assertTrue(gameType.name(), AbstractForwardModel.class.isAssignableFrom(gameType.getForwardModelClass()));
+            assertTrue(gameType.name(), AbstractParameters.class.isAssignableFrom(gameType.getParameterClass()));
+            if (gameType.getGuiManagerClass() != null)
+                assertTrue(gameType.name(), AbstractGUIManager.class.isAssignableFrom(gameType.getGuiManagerClass()));
+        }
+    }
+
+    @Test
+    public void gameClassesAreLoadedWhenNeeded() {
+        assertNotNull(GameType.TicTacToe.createGameInstance(2, 1));
+        assertNull(GameType.Virus.getGuiManagerClass());
+        assertNotNull(GameType.TicTacToe.getGuiManagerClass());
+    }
+}
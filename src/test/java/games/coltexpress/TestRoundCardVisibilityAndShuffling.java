@@ -4,6 +4,7 @@ import core.AbstractPlayer;
 import evaluation.loggers.SummaryLogger;
 import evaluation.metrics.AbstractMetric;
 import evaluation.listeners.MetricsGameListener;
+import core.interfaces.IGameEvent;
 import core.interfaces.IStatisticLogger;
 import evaluation.metrics.Event;
 import games.coltexpress.ColtExpressForwardModel;
@@ -39,20 +40,29 @@ public class TestRoundCardVisibilityAndShuffling {
         // check shuffling. The work is done in TestRoundEndListener()
 
         // This checks the counts of
-        game.addListener(new TestRoundEndListener(new SummaryLogger(), new AbstractMetric[0]));
+        TestRoundEndListener listener = new TestRoundEndListener(new SummaryLogger(), new AbstractMetric[0]);
+        game.addListener(listener);
         game.run();
+        assertEquals(5, listener.roundsChecked);
     }
 
     static class TestRoundEndListener extends MetricsGameListener {
 
+        int roundsChecked;
+
         public TestRoundEndListener(IStatisticLogger logger, AbstractMetric[] metrics) {
             super(metrics);
         }
 
+        @Override
+        public Set<IGameEvent> getEventTypes() {
+            return Collections.singleton(ROUND_OVER);
+        }
 
         @Override
         public void onEvent(Event event) {
             if (event.type == ROUND_OVER) {
+                roundsChecked++;
                 ColtExpressGameState state = (ColtExpressGameState) event.state;
                 long visibleRoundCards = state.getRounds().getVisibleComponents(0).stream().filter(Objects::nonNull).count();
                 System.out.printf("End of Round: %d, Turn %d, Visible Cards: %d%n", state.getTurnOrder().getRoundCounter(), state.getTurnOrder().getTurnCounter(), visibleRoundCards);
@@ -0,0 +1,59 @@
+package games.fmtester;
+
+import evaluation.ForwardModelTester;
+import org.junit.Test;
+
+public class ForwardModelTestsWithCopyOnWrite {
+
+    @Test
+    public void testDominion() {
+        ForwardModelTester fmt = new ForwardModelTester("game=Dominion", "nGames=2", "nPlayers=3", "copyOnWrite");
+    }
+
+    @Test
+    public void testSushiGo() {
+        ForwardModelTester fmt = new ForwardModelTester("game=SushiGo", "nGames=2", "nPlayers=3", "copyOnWrite");
+    }
+
+    @Test
+    public void testLoveLetter() {
+        ForwardModelTester fmt = new ForwardModelTester("game=LoveLetter", "nGames=2", "nPlayers=3", "copyOnWrite");
+    }
+
+    @Test
+    public void testUno() {
+        ForwardModelTester fmt = new ForwardModelTester("game=Uno", "nGames=2", "nPlayers=3", "copyOnWrite");
+    }
+
+    @Test
+    public void testColtExpress() {
+        ForwardModelTester fmt = new ForwardModelTester("game=ColtExpress", "nGames=2", "nPlayers=3", "copyOnWrite");
+    }
+
+    @Test
+    public void testCatan() {
+        ForwardModelTester fmt = new ForwardModelTester("game=Catan", "nGames=1", "nPlayers=3", "copyOnWrite");
+    }
+
+    @Test
+    public void testTicTacToe() {
+        ForwardModelTester fmt = new ForwardModelTester("game=TicTacToe", "nGames=5", "nPlayers=2", "copyOnWrite");
+    }
+
+    @Test
+    public void testRoot() {
+        ForwardModelTester fmt = new ForwardModelTester("game=Root", "nGames=1", "nPlayers=4", "copyOnWrite");
+    }
+
+    // Descent and Terraforming Mars take too long to play to the end here (and random play can break the rules of
+    // Terraforming Mars later in the game, with or without copyOnWrite), so we check the first part of each game
+    @Test
+    public void testDescent2e() {
+        ForwardModelTester fmt = new ForwardModelTester("game=Descent2e", "nGames=2", "nPlayers=2", "nDecisions=100", "copyOnWrite");
+    }
+
+    @Test
+    public void testTerraformingMars() {
+        ForwardModelTester fmt = new ForwardModelTester("game=TerraformingMars", "nGames=2", "nPlayers=3", "nDecisions=40", "copyOnWrite");
+    }
+}
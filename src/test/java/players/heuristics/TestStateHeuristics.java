@@ -1,5 +1,7 @@
 package players.heuristics;
 
+import core.AbstractGameState;
+import core.CoreConstants;
 import core.actions.AbstractAction;
 import games.dominion.DominionFGParameters;
 import games.dominion.DominionForwardModel;
@@ -16,7 +18,9 @@ import games.loveletter.features.LLStateFeaturesReduced;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Random;
 
 import static org.junit.Assert.assertEquals;
 
@@ -135,4 +139,31 @@ public class TestStateHeuristics {
         }
 
     }
+
+    @Test
+    public void testBatchedEvaluationMatchesSingleEvaluation() {
+        LinearStateHeuristic linear = new LinearStateHeuristic(dominionFeaturedReduced,
+                "src/test/java/players/heuristics/DominionFeatureWeights.json", new PureScoreHeuristic());
+        LogisticStateHeuristic logistic = new LogisticStateHeuristic(dominionFeaturedReduced,
+                "src/test/java/players/heuristics/DominionFeatureWeightsLogistic.json", new WinOnlyHeuristic());
+        Random rnd = new Random(42);
+        List<AbstractGameState> states = new ArrayList<>();
+        while (states.size() < 50 && domState.isNotTerminal()) {
+            List<AbstractAction> actions = fm.computeAvailableActions(domState);
+            fm.next(domState, actions.get(rnd.nextInt(actions.size())));
+            states.add(domState.copy());
+        }
+        AbstractGameState terminal = domState.copy();
+        terminal.setGameStatus(CoreConstants.GameResult.GAME_END);
+        states.add(terminal);
+
+        for (LinearStateHeuristic heuristic : List.of(linear, logistic)) {
+            for (int player = 0; player < domState.getNPlayers(); player++) {
+                double[] batch = heuristic.evaluateStates(states, player);
+                assertEquals(states.size(), batch.length);
+                for (int i = 0; i < states.size(); i++)
+                    assertEquals(heuristic.evaluateState(states.get(i), player), batch[i], 1e-9);
+            }
+        }
+    }
 }
@@ -0,0 +1,60 @@
+package players.mcts;
+
+import core.AbstractGameState;
+import core.Game;
+import core.actions.AbstractAction;
+import games.GameType;
+import org.openjdk.jmh.annotations.*;
+import players.PlayerConstants;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The shared setup of the JMH benchmarks of MCTSPlayer, which each time the first decision of a game with more than
+ * one action. Subclasses hold the parameters to compare, and call setupDecision() from their own @Setup method.
+ * Run with: mvn -Dmaven.test.skip=false test-compile, then main() of the subclass with target/test-classes on the
+ * classpath.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public abstract class MCTSDecisionBenchmark {
+
+    MCTSPlayer player;
+    AbstractGameState state;
+    List<AbstractAction> actions;
+
+    /**
+     * @param game       - the name of the GameType, which is played with its minimum number of players
+     * @param iterations - the budget of each decision
+     * @param params     - the other parameters of the player
+     */
+    protected void setupDecision(String game, int iterations, MCTSParams params) {
+        GameType gameType = GameType.valueOf(game);
+        Game g = gameType.createGameInstance(gameType.getMinPlayers(), 42);
+        params.setParameterValue("budgetType", PlayerConstants.BUDGET_ITERATIONS);
+        params.setParameterValue("budget", iterations);
+        params.setRandomSeed(42);
+        player = new MCTSPlayer(params);
+        player.setForwardModel(g.getForwardModel());
+        player.initializePlayer(g.getGameState());
+        state = g.getGameState();
+        actions = g.getForwardModel().computeAvailableActions(state);
+        // MCTS is not used for decisions with only one action, so we move on (at random) to the first real decision
+        Random rnd = new Random(42);
+        while (actions.size() < 2) {
+            g.getForwardModel().next(state, actions.get(rnd.nextInt(actions.size())));
+            actions = g.getForwardModel().computeAvailableActions(state);
+        }
+    }
+
+    @Benchmark
+    public AbstractAction decision() {
+        return player.getAction(state.copy(state.getCurrentPlayer()), actions);
+    }
+}
@@ -93,6 +93,21 @@ public class MCTSTreeSelectionTests {
         assertEquals(new LMRAction("Middle"), node.treePolicyAction(true));
     }
 
+    @Test
+    public void singleActionValuesMatchActionValues() {
+        params.normaliseRewards = false;
+        for (MCTSEnums.TreePolicy policy : List.of(EXP3, RegretMatching)) {
+            params.treePolicy = policy;
+            setupPlayer();
+            first10Visits(node);
+            double[] actionValues = node.actionValues(baseActions);
+            for (int i = 0; i < baseActions.size(); i++) {
+                double value = policy == EXP3 ? node.exp3Value(baseActions.get(i)) : node.rmValue(baseActions.get(i));
+                assertEquals(value, actionValues[i], 1e-9);
+            }
+        }
+    }
+
     @Test
     public void ucb10VisitsNormalised() {
         params.normaliseRewards = true;
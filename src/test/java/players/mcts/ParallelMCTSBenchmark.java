@@ -0,0 +1,38 @@
+package players.mcts;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * JMH comparison of root, tree and leaf parallel MCTS (MCTSParams.parallelism) with different numbers of threads.
+ * Each decision has a budget of ITERATIONS iterations, so the iterations per second are ITERATIONS * 1000 / the time
+ * reported.
+ */
+public class ParallelMCTSBenchmark extends MCTSDecisionBenchmark {
+
+    static final int ITERATIONS = 2000;
+
+    @Param({"Dominion", "Catan", "LoveLetter", "Connect4"})
+    public String game;
+
+    @Param({"Root", "Tree", "Leaf"})
+    public MCTSEnums.Parallelism parallelism;
+
+    @Param({"1", "2", "4", "8"})
+    public int nThreads;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        MCTSParams params = new MCTSParams();
+        params.setParameterValue("rolloutLength", 10);
+        params.setParameterValue("nThreads", nThreads);
+        params.setParameterValue("parallelism", parallelism);
+        setupDecision(game, ITERATIONS, params);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(ParallelMCTSBenchmark.class.getSimpleName()).build()).run();
+    }
+}
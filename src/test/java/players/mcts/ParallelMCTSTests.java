@@ -0,0 +1,168 @@
+package players.mcts;
+
+import core.AbstractGameState;
+import core.AbstractPlayer;
+import core.Game;
+import core.actions.AbstractAction;
+import core.interfaces.IStateHeuristic;
+import games.GameType;
+import org.junit.Before;
+import org.junit.Test;
+import players.PlayerConstants;
+import players.simple.RandomPlayer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class ParallelMCTSTests {
+
+    MCTSParams params;
+
+    @Before
+    public void setUp() {
+        params = new MCTSParams();
+        params.setParameterValue("budgetType", PlayerConstants.BUDGET_ITERATIONS);
+        params.setParameterValue("budget", 400);
+        params.setParameterValue("nThreads", 4);
+        params.setRandomSeed(42);
+    }
+
+    private Game playGame(GameType gameType, int nPlayers, MCTSPlayer player) {
+        Game game = gameType.createGameInstance(nPlayers, 42);
+        List<AbstractPlayer> players = new ArrayList<>();
+        players.add(player);
+        for (int p = 1; p < nPlayers; p++)
+            players.add(new RandomPlayer(new Random(p)));
+        game.reset(players);
+        game.run();
+        assertFalse(game.getGameState().isNotTerminal());
+        return game;
+    }
+
+    @Test
+    public void rootParallelSharesIterationBudget() {
+        MCTSPlayer player = new MCTSPlayer(params);
+        Game game = GameType.LoveLetter.createGameInstance(3, 42);
+        game.reset(List.of(player, new RandomPlayer(), new RandomPlayer()));
+        AbstractGameState state = game.getGameState();
+        List<AbstractAction> actions = game.getForwardModel().computeAvailableActions(state);
+        player.getAction(state.copy(state.getCurrentPlayer()), actions);
+        // the merged root has the visits of all four trees, each of which used a quarter of the budget
+        assertEquals(400, player.root.getVisits());
+        int actionVisits = player.root.actionValues.values().stream().mapToInt(s -> s == null ? 0 : s.nVisits).sum();
+        assertEquals(400, actionVisits);
+    }
+
+    @Test
+    public void rootParallelPlaysGames() {
+        playGame(GameType.LoveLetter, 3, new MCTSPlayer(params));
+        params.setParameterValue("information", MCTSEnums.Information.Open_Loop);
+        params.setParameterValue("reuseTree", true);
+        playGame(GameType.TicTacToe, 2, new MCTSPlayer(params));
+        params.setParameterValue("budgetType", PlayerConstants.BUDGET_TIME);
+        params.setParameterValue("budget", 20);
+        playGame(GameType.TicTacToe, 2, new MCTSPlayer(params));
+    }
+
+    @Test
+    public void treeParallelSharesOneTree() {
+        params.setParameterValue("parallelism", MCTSEnums.Parallelism.Tree);
+        MCTSPlayer player = new MCTSPlayer(params);
+        Game game = GameType.LoveLetter.createGameInstance(3, 42);
+        game.reset(List.of(player, new RandomPlayer(), new RandomPlayer()));
+        AbstractGameState state = game.getGameState();
+        List<AbstractAction> actions = game.getForwardModel().computeAvailableActions(state);
+        player.getAction(state.copy(state.getCurrentPlayer()), actions);
+        // every iteration goes through the root, and all the virtual losses have been removed
+        assertEquals(400, player.root.getVisits());
+        int actionVisits = player.root.actionValues.values().stream().mapToInt(s -> s.nVisits).sum();
+        assertEquals(400, actionVisits);
+        for (SingleTreeNode node : player.root.allNodesInTree()) {
+            int childVisits = node.actionValues.values().stream().mapToInt(s -> s.nVisits).sum();
+            assertEquals(node.getVisits(), childVisits);
+        }
+        assertTrue(player.root.allNodesInTree().size() > 50);
+    }
+
+    @Test
+    public void virtualLossIsRemovedFromAllStatistics() {
+        ActionStats stats = new ActionStats(2);
+        stats.update(new double[]{0.5, -0.5});
+        stats.addVirtualLoss(0, 3, -1.0);
+        // the virtual visits count towards the variance as well as the mean
+        assertEquals(0.25 + 3.0, stats.squaredTotValue[0], 1e-12);
+        assertEquals(0.5 - 3.0, stats.totValue[0], 1e-12);
+        assertEquals(4, stats.nVisits);
+        stats.addVirtualLoss(0, -3, -1.0);
+        assertEquals(0.25, stats.squaredTotValue[0], 1e-12);
+        assertEquals(0.5, stats.totValue[0], 1e-12);
+        assertEquals(1, stats.nVisits);
+        assertEquals(0.25, stats.squaredTotValue[1], 1e-12);
+    }
+
+    @Test
+    public void treeParallelPlaysGames() {
+        params.setParameterValue("parallelism", MCTSEnums.Parallelism.Tree);
+        playGame(GameType.LoveLetter, 3, new MCTSPlayer(params));
+        params.setParameterValue("information", MCTSEnums.Information.Open_Loop);
+        params.setParameterValue("opponentTreePolicy", MCTSEnums.OpponentTreePolicy.SelfOnly);
+        params.setParameterValue("reuseTree", true);
+        playGame(GameType.TicTacToe, 2, new MCTSPlayer(params));
+        params.setParameterValue("budgetType", PlayerConstants.BUDGET_FM_CALLS);
+        params.setParameterValue("budget", 2000);
+        playGame(GameType.DotsAndBoxes, 2, new MCTSPlayer(params));
+        // Closed_Loop is not supported, and falls back to root parallelisation
+        params.setParameterValue("information", MCTSEnums.Information.Closed_Loop);
+        params.setParameterValue("opponentTreePolicy", MCTSEnums.OpponentTreePolicy.OneTree);
+        playGame(GameType.TicTacToe, 2, new MCTSPlayer(params));
+    }
+
+    @Test
+    public void leafParallelBacksUpOneVisitPerIteration() {
+        params.setParameterValue("parallelism", MCTSEnums.Parallelism.Leaf);
+        params.setParameterValue("rolloutLength", 10);
+        MCTSPlayer player = new MCTSPlayer(params);
+        Game game = GameType.LoveLetter.createGameInstance(3, 42);
+        game.reset(List.of(player, new RandomPlayer(), new RandomPlayer()));
+        AbstractGameState state = game.getGameState();
+        List<AbstractAction> actions = game.getForwardModel().computeAvailableActions(state);
+        player.getAction(state.copy(state.getCurrentPlayer()), actions);
+        assertEquals(400, player.root.getVisits());
+        // four rollouts from each new node
+        assertTrue(player.root.rolloutActionsTaken > 4 * 400);
+        playGame(GameType.LoveLetter, 3, new MCTSPlayer(params));
+    }
+
+    @Test
+    public void leafParallelBatchesEvaluations() {
+        List<Integer> batchSizes = new ArrayList<>();
+        IStateHeuristic heuristic = new IStateHeuristic() {
+            @Override
+            public double evaluateState(AbstractGameState gs, int playerId) {
+                throw new AssertionError("Should only be evaluated in batches");
+            }
+
+            @Override
+            public synchronized double[] evaluateStates(List<? extends AbstractGameState> states, int playerId) {
+                batchSizes.add(states.size());
+                return states.stream().mapToDouble(s -> s.getGameScore(playerId)).toArray();
+            }
+        };
+        params.setParameterValue("parallelism", MCTSEnums.Parallelism.Leaf);
+        params.setParameterValue("batchLeafEvaluation", true);
+        params.setParameterValue("rolloutLength", 10);
+        params.setParameterValue("heuristic", heuristic);
+        params.setParameterValue("budget", 100);
+        MCTSPlayer player = new MCTSPlayer(params);
+        Game game = GameType.TicTacToe.createGameInstance(2, 42);
+        game.reset(List.of(player, new RandomPlayer()));
+        AbstractGameState state = game.getGameState();
+        player.getAction(state.copy(), game.getForwardModel().computeAvailableActions(state));
+        // one batch per player for each iteration
+        assertEquals(2 * 100, batchSizes.size());
+        assertTrue(batchSizes.stream().allMatch(size -> size == 4));
+    }
+}
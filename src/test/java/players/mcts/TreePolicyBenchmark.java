@@ -0,0 +1,35 @@
+package players.mcts;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * JMH comparison of the MCTS tree policies.
+ * There are no rollouts (the heuristic is applied to the state on leaving the tree), so that the selection at each
+ * node makes up as much as possible of each iteration. Each decision has a budget of ITERATIONS iterations, so the
+ * iterations per second are ITERATIONS * 1000 / the time reported.
+ */
+public class TreePolicyBenchmark extends MCTSDecisionBenchmark {
+
+    static final int ITERATIONS = 5000;
+
+    @Param({"Dominion", "LoveLetter", "Connect4"})
+    public String game;
+
+    @Param({"UCB", "UCB_Tuned", "EXP3", "RegretMatching"})
+    public MCTSEnums.TreePolicy treePolicy;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        MCTSParams params = new MCTSParams();
+        params.setParameterValue("rolloutLength", 0);
+        params.setParameterValue("treePolicy", treePolicy);
+        setupDecision(game, ITERATIONS, params);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(TreePolicyBenchmark.class.getSimpleName()).build()).run();
+    }
+}
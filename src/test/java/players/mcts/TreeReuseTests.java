@@ -215,4 +215,73 @@ public class TreeReuseTests {
             }
         } while (state.isNotTerminal());
     }
+
+    @Test
+    public void treeReuseWithEachHistoryMode() {
+        // with HistoryMode.NONE we cannot backtrack through the history, so start each decision from a new root
+        for (CoreConstants.HistoryMode mode : CoreConstants.HistoryMode.values()) {
+            MCTSPlayer player = new MCTSPlayer(reuseTreeParams());
+            game = GameType.TicTacToe.createGameInstance(2, 404);
+            game.getCoreParameters().historyMode = mode;
+            game.reset(List.of(player, new RandomPlayer(new Random(404))));
+            game.run();
+            assertFalse(game.getGameState().isNotTerminal());
+            assertEquals(mode == CoreConstants.HistoryMode.NONE, game.getGameState().getHistory().isEmpty());
+        }
+    }
+
+    private MCTSParams reuseTreeParams() {
+        MCTSParams params = new MCTSParams();
+        params.setParameterValue("budgetType", PlayerConstants.BUDGET_ITERATIONS);
+        params.setParameterValue("budget", 200);
+        params.setParameterValue("reuseTree", true);
+        params.setRandomSeed(404);
+        return params;
+    }
+
+    // a slow opponent gives us time to ponder
+    private RandomPlayer slowOpponent() {
+        return new RandomPlayer() {
+            @Override
+            public AbstractAction _getAction(AbstractGameState gs, List<AbstractAction> actions) {
+                try {
+                    Thread.sleep(50);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return super._getAction(gs, actions);
+            }
+        };
+    }
+
+    @Test
+    public void ponderingGainsIterations() {
+        paramsOne.ponder = true;
+        paramsOne.information = MCTSEnums.Information.Open_Loop;
+        MCTSPlayer ponderer = new MCTSPlayer(paramsOne);
+        game = GameType.TicTacToe.createGameInstance(2, 404);
+        game.reset(List.of(ponderer, slowOpponent()));
+        game.run();
+        assertFalse(game.getGameState().isNotTerminal());
+        assertTrue(ponderer.getPonderIterations() > 0);
+        assertTrue(ponderer.getPonderVisitsReused() > 0);
+        assertTrue(ponderer.getPonderVisitsReused() <= ponderer.getPonderIterations());
+    }
+
+    @Test
+    public void ponderingWithCopyOnWrite() {
+        // The pondering thread copies the states that the game thread copied from, so this checks that Decks
+        // shared between copies are safe to use from both threads
+        paramsOne.ponder = true;
+        paramsOne.information = MCTSEnums.Information.Open_Loop;
+        MCTSPlayer ponderer = new MCTSPlayer(paramsOne);
+        for (int seed = 0; seed < 3; seed++) {
+            game = GameType.LoveLetter.createGameInstance(2, seed);
+            game.getCoreParameters().copyOnWrite = true;
+            game.reset(List.of(ponderer, slowOpponent()));
+            game.run();
+            assertFalse(game.getGameState().isNotTerminal());
+        }
+        assertTrue(ponderer.getPonderIterations() > 0);
+    }
 }
@@ -0,0 +1,64 @@
+package utilities;
+
+import core.components.Card;
+import core.components.Deck;
+import org.json.simple.JSONArray;
+import org.json.simple.JSONObject;
+import org.junit.After;
+import org.junit.Test;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class JSONDataCacheTest {
+
+    private static final String pandemicCards = "data/pandemic/decks.json";
+
+    @After
+    public void tearDown() {
+        JSONDataCache.clear();
+    }
+
+    @Test
+    public void eachFileIsParsedOnce() throws Exception {
+        Object first = JSONDataCache.parse(pandemicCards);
+        assertSame(first, JSONDataCache.parse(pandemicCards));
+        assertSame(first, JSONDataCache.parse(new File(pandemicCards).getAbsolutePath()));
+        assertEquals(1, JSONDataCache.size());
+    }
+
+    @Test
+    public void cachedDataIsReadOnly() throws Exception {
+        JSONArray data = (JSONArray) JSONDataCache.parse(pandemicCards);
+        assertThrows(UnsupportedOperationException.class, () -> data.add("extra"));
+        assertThrows(UnsupportedOperationException.class, () -> data.remove(0));
+        JSONObject deck = (JSONObject) data.get(0);
+        assertThrows(UnsupportedOperationException.class, () -> deck.put("name", "changed"));
+        assertThrows(UnsupportedOperationException.class, () -> ((JSONArray) deck.get("cards")).clear());
+    }
+
+    @Test
+    public void changedFilesAreParsedAgain() throws Exception {
+        File file = File.createTempFile("JSONDataCacheTest", ".json");
+        file.deleteOnExit();
+        Files.writeString(file.toPath(), "[1, 2]");
+        assertEquals(2, ((JSONArray) JSONDataCache.parse(file.getPath())).size());
+        Files.writeString(file.toPath(), "[1, 2, 3]");
+        assertEquals(3, ((JSONArray) JSONDataCache.parse(file.getPath())).size());
+    }
+
+    @Test
+    public void componentsAreNotShared() {
+        List<Deck<Card>> first = Deck.loadDecksOfCards(pandemicCards);
+        List<Deck<Card>> second = Deck.loadDecksOfCards(pandemicCards);
+        assertEquals(first.size(), second.size());
+        for (int i = 0; i < first.size(); i++) {
+            assertEquals(first.get(i).getSize(), second.get(i).getSize());
+            assertNotSame(first.get(i).get(0), second.get(i).get(0));
+            assertNotEquals(first.get(i).get(0).getComponentID(), second.get(i).get(0).getComponentID());
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package utilities;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class LatencyHistogramTest {
+
+    @Test
+    public void smallValuesAreExact() {
+        LatencyHistogram h = new LatencyHistogram();
+        for (int i = 1; i <= 100; i++)
+            h.record(i);
+        assertEquals(100, h.count());
+        assertEquals(50.5, h.mean(), 1e-9);
+        assertEquals(1, h.min());
+        assertEquals(100, h.max());
+        assertEquals(50, h.percentile(50));
+        assertEquals(95, h.percentile(95));
+        assertEquals(99, h.percentile(99));
+        assertEquals(100, h.percentile(100));
+    }
+
+    @Test
+    public void percentilesAreWithinOnePercent() {
+        Random rnd = new Random(42);
+        LatencyHistogram h = new LatencyHistogram();
+        long[] values = new long[10000];
+        for (int i = 0; i < values.length; i++) {
+            // log-uniform from 1 microsecond to 10 seconds, in nanoseconds
+            values[i] = (long) Math.pow(10, 3 + 7 * rnd.nextDouble());
+            h.record(values[i]);
+        }
+        java.util.Arrays.sort(values);
+        for (double p : new double[]{50, 95, 99}) {
+            long exact = values[(int) Math.ceil(p / 100 * values.length) - 1];
+            assertEquals(exact, h.percentile(p), exact / 100.0);
+        }
+        assertEquals(values[values.length - 1], h.max());
+        assertEquals(values[values.length - 1], h.percentile(100));
+    }
+
+    @Test
+    public void bucketsCoverAllValues() {
+        for (long value : new long[]{0, 255, 256, 257, 1000, 123456789, Long.MAX_VALUE / 3, Long.MAX_VALUE}) {
+            int index = LatencyHistogram.bucketIndex(value);
+            assertTrue(value + "", LatencyHistogram.highestValueIn(index) >= value);
+            assertTrue(value + "", index == 0 || LatencyHistogram.highestValueIn(index - 1) < value);
+        }
+    }
+
+    @Test
+    public void addCombinesHistograms() {
+        LatencyHistogram a = new LatencyHistogram();
+        LatencyHistogram b = new LatencyHistogram();
+        a.record(10);
+        b.record(1_000_000_000L);
+        a.add(b);
+        assertEquals(2, a.count());
+        assertEquals(10, a.min());
+        assertEquals(1_000_000_000L, a.max());
+        assertEquals(10, a.percentile(50));
+        a.reset();
+        assertEquals(0, a.count());
+        assertEquals(0, a.percentile(99));
+    }
+}